@@ -0,0 +1,37 @@
+package one.june.leave_management.adapter.inbound.slack.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of encoding and decoding the private_metadata carried by the leave application modal
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SlackMetadataUtilBenchmark {
+
+    private String metadataJson;
+
+    @Setup
+    public void setUp() {
+        metadataJson = SlackMetadataUtil.createMetadata("U12345", "C12345", "test-channel", "1234567890.123456");
+    }
+
+    @Benchmark
+    public SlackMetadataUtil.SlackModalMetadata decodeMetadata() {
+        return SlackMetadataUtil.decodeMetadata(metadataJson);
+    }
+
+    @Benchmark
+    public String createMetadata() {
+        return SlackMetadataUtil.createMetadata("U12345", "C12345", "test-channel", "1234567890.123456");
+    }
+}
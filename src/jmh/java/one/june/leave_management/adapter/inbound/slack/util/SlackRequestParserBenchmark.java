@@ -0,0 +1,101 @@
+package one.june.leave_management.adapter.inbound.slack.util;
+
+import one.june.leave_management.adapter.inbound.slack.dto.SlackViewSubmissionRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of parsing a Slack interaction body
+ * <p>
+ * Uses a leave-application view submission, the largest interaction the app receives. {@code parsePayload} and
+ * {@code extractType} each decode the form body and parse the JSON; {@code parseOnceAndShare} is what the
+ * controllers do, reading the type and the typed request from a single {@link SlackInteractionPayload}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SlackRequestParserBenchmark {
+
+    private static final String VIEW_SUBMISSION_JSON = """
+            {
+                "type": "view_submission",
+                "team": {"id": "T12345", "domain": "example"},
+                "user": {"id": "U12345", "username": "testuser", "name": "Test User", "team_id": "T12345"},
+                "api_app_id": "A12345",
+                "token": "verification_token",
+                "trigger_id": "trigger123",
+                "view": {
+                    "id": "V12345",
+                    "team_id": "T12345",
+                    "type": "modal",
+                    "callback_id": "leave_application_submit",
+                    "state": {
+                        "values": {
+                            "leave_type_category_block": {
+                                "leave_type_category_action": {
+                                    "type": "radio_buttons",
+                                    "selected_option": {
+                                        "text": {"type": "plain_text", "text": "Annual Leave"},
+                                        "value": "ANNUAL_LEAVE"
+                                    }
+                                }
+                            },
+                            "leave_duration_block": {
+                                "leave_duration_action": {
+                                    "type": "radio_buttons",
+                                    "selected_option": {
+                                        "text": {"type": "plain_text", "text": "Full Day"},
+                                        "value": "FULL_DAY"
+                                    }
+                                }
+                            },
+                            "start_date_block": {
+                                "start_date_action": {"type": "datepicker", "selected_date": "2024-07-01"}
+                            },
+                            "end_date_block": {
+                                "end_date_action": {"type": "datepicker", "selected_date": "2024-07-03"}
+                            },
+                            "reason_block": {
+                                "reason_action": {"type": "plain_text_input", "value": "Summer vacation"}
+                            }
+                        }
+                    },
+                    "private_metadata": "{\\"userId\\":\\"U12345\\",\\"channelId\\":\\"C12345\\",\\"channelName\\":\\"test-channel\\",\\"threadTs\\":\\"1234567890.123456\\"}",
+                    "title": {"type": "plain_text", "text": "Apply for Leave"}
+                }
+            }
+            """;
+
+    private String requestBody;
+
+    @Setup
+    public void setUp() {
+        requestBody = "payload=" + URLEncoder.encode(VIEW_SUBMISSION_JSON, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public SlackViewSubmissionRequest parsePayload() {
+        return SlackRequestParser.parsePayload(requestBody, SlackViewSubmissionRequest.class);
+    }
+
+    @Benchmark
+    public String extractType() {
+        return SlackRequestParser.extractType(requestBody);
+    }
+
+    @Benchmark
+    public SlackViewSubmissionRequest parseOnceAndShare() {
+        SlackInteractionPayload payload = SlackInteractionPayload.parse(requestBody);
+        payload.getType();
+        return payload.as(SlackViewSubmissionRequest.class);
+    }
+}
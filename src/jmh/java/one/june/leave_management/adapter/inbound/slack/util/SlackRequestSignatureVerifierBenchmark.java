@@ -0,0 +1,68 @@
+package one.june.leave_management.adapter.inbound.slack.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of verifying a Slack signature
+ * <p>
+ * {@code verify} is the pooled-Mac verifier on the raw body bytes; {@code newMacPerRequest} repeats what the
+ * verifier used to do (new Mac and key per call, String body and String comparison) as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SlackRequestSignatureVerifierBenchmark {
+
+    private static final String SIGNING_SECRET = "benchmark-signing-secret";
+
+    /**
+     * Body sizes of a slash command (~0.5 KB) and a leave-application view submission (~8 KB)
+     */
+    @Param({"512", "8192"})
+    private int bodySize;
+
+    private SlackRequestSignatureVerifier verifier;
+    private byte[] rawBody;
+    private String timestamp;
+    private String signature;
+
+    @Setup
+    public void setUp() throws Exception {
+        verifier = new SlackRequestSignatureVerifier(SIGNING_SECRET);
+        rawBody = ("payload=" + "x".repeat(bodySize - 8)).getBytes(StandardCharsets.UTF_8);
+        // Far enough in the future to pass the replay check for the whole run
+        timestamp = String.valueOf(System.currentTimeMillis() / 1000 + TimeUnit.HOURS.toSeconds(1));
+        signature = "v0=" + HexFormat.of().formatHex(hmac(timestamp, new String(rawBody, StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public void verify() {
+        verifier.verify(signature, timestamp, rawBody);
+    }
+
+    @Benchmark
+    public boolean newMacPerRequest() throws Exception {
+        String requestBody = new String(rawBody, StandardCharsets.UTF_8);
+        String expected = "v0=" + HexFormat.of().formatHex(hmac(timestamp, requestBody));
+        return signature.equals(expected);
+    }
+
+    private static byte[] hmac(String timestamp, String requestBody) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SIGNING_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return mac.doFinal(("v0:" + timestamp + ":" + requestBody).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,96 @@
+package one.june.leave_management.application.audit.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import one.june.leave_management.adapter.persistence.jpa.entity.AuditLogJpaEntity;
+import one.june.leave_management.application.leave.dto.LeaveDto;
+import one.june.leave_management.common.model.DateRange;
+import one.june.leave_management.config.AuditPayloadProperties;
+import one.june.leave_management.domain.audit.model.AuditLog;
+import one.june.leave_management.domain.leave.model.LeaveDurationType;
+import one.june.leave_management.domain.leave.model.LeaveStatus;
+import one.june.leave_management.domain.leave.model.LeaveType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of serializing the request and response bodies of an audited call
+ * <p>
+ * {@link AuditService} hands every audited request to {@link AuditLogConverter}, which serializes both bodies to
+ * JSON and applies the {@link AuditPayloadPolicy} (default cap and gzip, every response sampled). The response is
+ * a list of leaves, the shape returned by the fetch endpoints.
+ * <p>
+ * {@code toUncompressedEntity} is what the request thread pays when the audit writer is enabled; the difference to
+ * {@code toJpaEntity} is the compression done on the writer thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuditLogConverterBenchmark {
+
+    /**
+     * Leaves in the audited response: a single lookup and a full page
+     */
+    @Param({"1", "50"})
+    private int responseSize;
+
+    private AuditLogConverter auditLogConverter;
+    private AuditLog auditLog;
+
+    @Setup
+    public void setUp() {
+        auditLogConverter = new AuditLogConverter(new AuditPayloadPolicy(
+                AuditPayloadProperties.builder().readResponseSampleRate(1.0).build(), new SimpleMeterRegistry()));
+
+        List<LeaveDto> leaves = new ArrayList<>(responseSize);
+        for (int i = 0; i < responseSize; i++) {
+            LocalDate start = LocalDate.of(2024, 1, 1).plusDays(i * 7L);
+            leaves.add(LeaveDto.builder()
+                    .id(UUID.randomUUID())
+                    .userId("U12345")
+                    .dateRange(new DateRange(start, start.plusDays(2)))
+                    .type(LeaveType.ANNUAL_LEAVE)
+                    .status(LeaveStatus.APPROVED)
+                    .durationType(LeaveDurationType.FULL_DAY)
+                    .sourceRefs(List.of())
+                    .build());
+        }
+
+        auditLog = AuditLog.builder()
+                .id(UUID.randomUUID())
+                .requestId(UUID.randomUUID().toString())
+                .endpoint("/leaves")
+                .httpMethod("GET")
+                .sourceType("WEB")
+                .requestBody(Map.of("userId", "U12345", "year", "2024"))
+                .responseStatus(200)
+                .responseBody(leaves)
+                .userId("U12345")
+                .executionTimeMs(12L)
+                .timestamp(LocalDateTime.of(2024, 7, 1, 9, 0))
+                .build();
+    }
+
+    @Benchmark
+    public AuditLogJpaEntity toJpaEntity() {
+        return auditLogConverter.toJpaEntity(auditLog);
+    }
+
+    @Benchmark
+    public AuditLogJpaEntity toUncompressedEntity() {
+        return auditLogConverter.toUncompressedEntity(auditLog);
+    }
+}
@@ -0,0 +1,74 @@
+package one.june.leave_management.common.mapper;
+
+import one.june.leave_management.adapter.persistence.jpa.entity.LeaveJpaEntity;
+import one.june.leave_management.adapter.persistence.jpa.entity.LeaveSourceRefJpaEntity;
+import one.june.leave_management.application.leave.dto.LeaveDto;
+import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.LeaveDurationType;
+import one.june.leave_management.domain.leave.model.LeaveStatus;
+import one.june.leave_management.domain.leave.model.LeaveType;
+import one.june.leave_management.domain.leave.model.SourceType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping one leave row to the domain model and on to the DTO returned by the fetch endpoints
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LeaveMapperBenchmark {
+
+    /**
+     * A leave known to one source, and one synced across every source
+     */
+    @Param({"1", "4"})
+    private int sourceRefCount;
+
+    private LeaveMapper leaveMapper;
+    private LeaveJpaEntity jpaEntity;
+    private Leave leave;
+
+    @Setup
+    public void setUp() {
+        leaveMapper = new LeaveMapper();
+        jpaEntity = LeaveJpaEntity.builder()
+                .id(UUID.randomUUID())
+                .userId("U12345")
+                .startDate(LocalDate.of(2024, 7, 1))
+                .endDate(LocalDate.of(2024, 7, 3))
+                .type(LeaveType.ANNUAL_LEAVE)
+                .status(LeaveStatus.APPROVED)
+                .durationType(LeaveDurationType.FULL_DAY)
+                .build();
+        SourceType[] sourceTypes = SourceType.values();
+        for (int i = 0; i < sourceRefCount; i++) {
+            jpaEntity.addSourceRef(LeaveSourceRefJpaEntity.builder()
+                    .id(UUID.randomUUID())
+                    .sourceType(sourceTypes[i % sourceTypes.length])
+                    .sourceId("source-" + i)
+                    .build());
+        }
+        leave = leaveMapper.toDomainEntity(jpaEntity);
+    }
+
+    @Benchmark
+    public Leave toDomainEntity() {
+        return leaveMapper.toDomainEntity(jpaEntity);
+    }
+
+    @Benchmark
+    public LeaveDto toDto() {
+        return leaveMapper.toDto(leave);
+    }
+}
@@ -0,0 +1,54 @@
+package one.june.leave_management.common.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of checking a new leave against a user's existing leaves, as the overlap validation does on every ingest
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateRangeBenchmark {
+
+    /**
+     * Number of existing leaves the new leave is checked against
+     */
+    @Param({"10", "100"})
+    private int existingCount;
+
+    private DateRange candidate;
+    private DateRange[] existing;
+
+    @Setup
+    public void setUp() {
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        existing = new DateRange[existingCount];
+        for (int i = 0; i < existingCount; i++) {
+            existing[i] = new DateRange(start.plusDays(i * 7L), start.plusDays(i * 7L + 2));
+        }
+        // Falls in a gap after the last leave, so every range is compared
+        LocalDate candidateStart = start.plusDays(existingCount * 7L);
+        candidate = new DateRange(candidateStart, candidateStart.plusDays(2));
+    }
+
+    @Benchmark
+    public int overlapsWith() {
+        int overlaps = 0;
+        for (DateRange range : existing) {
+            if (candidate.overlapsWith(range)) {
+                overlaps++;
+            }
+        }
+        return overlaps;
+    }
+}
@@ -0,0 +1,31 @@
+package one.june.leave_management.loadtest;
+
+/**
+ * Endpoints driven by the load test, reported separately
+ */
+enum Endpoint {
+
+    FETCH("fetch", "GET /api/leaves"),
+    INGEST("ingest", "POST /api/leaves/ingest"),
+    SLACK_COMMAND("slack-command", "POST /integrations/slack/commands/leave"),
+    SLACK_INTERACTION("slack-interaction", "POST /integrations/slack/interactions");
+
+    private final String key;
+    private final String description;
+
+    Endpoint(String key, String description) {
+        this.key = key;
+        this.description = description;
+    }
+
+    /**
+     * Name used in {@code loadtest.mix} and in the report
+     */
+    String key() {
+        return key;
+    }
+
+    String description() {
+        return description;
+    }
+}
@@ -0,0 +1,70 @@
+package one.june.leave_management.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Latencies and errors recorded by one worker, per endpoint
+ * <p>
+ * Every latency is kept, so percentiles are exact. Not thread-safe; recorders are merged once the workers finish.
+ */
+class LatencyRecorder {
+
+    private final Map<Endpoint, Samples> samples = new EnumMap<>(Endpoint.class);
+
+    void record(Endpoint endpoint, long latencyNanos, boolean success) {
+        samples.computeIfAbsent(endpoint, e -> new Samples()).add(latencyNanos, success);
+    }
+
+    void merge(LatencyRecorder other) {
+        other.samples.forEach((endpoint, s) -> samples.computeIfAbsent(endpoint, e -> new Samples()).addAll(s));
+    }
+
+    Map<Endpoint, Samples> samples() {
+        return samples;
+    }
+
+    static class Samples {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void add(long latencyNanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + other.count));
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+
+        int count() {
+            return count;
+        }
+
+        long errors() {
+            return errors;
+        }
+
+        /**
+         * Latencies in ascending order
+         */
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package one.june.leave_management.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives a closed-loop workload: each worker keeps one request in flight, picking the endpoint at random by
+ * the configured weights, and records its latency once the warmup is over.
+ */
+class LoadDriver {
+
+    private final HttpClient client;
+    private final LoadTestRequests requests;
+    private final String signingSecret;
+
+    LoadDriver(HttpClient client, LoadTestRequests requests, String signingSecret) {
+        this.client = client;
+        this.requests = requests;
+        this.signingSecret = signingSecret;
+    }
+
+    /**
+     * Ingests {@code count} leaves so the fetch workload finds data
+     *
+     * @throws IllegalStateException if any ingest fails
+     */
+    void seed(int count, int concurrency) {
+        AtomicInteger remaining = new AtomicInteger(count);
+        AtomicLong failures = new AtomicLong();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.submit(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        if (!send(requests.build(Endpoint.INGEST, null))) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+        if (failures.get() > 0) {
+            throw new IllegalStateException(failures.get() + " of " + count + " seed ingests failed");
+        }
+    }
+
+    /**
+     * Runs the warmup and the measured period
+     *
+     * @return Latencies recorded during the measured period, merged across workers
+     */
+    LatencyRecorder run(LoadTestConfig config) throws InterruptedException, ExecutionException {
+        Endpoint[] weighted = weighted(config.mix());
+        long measureFrom = System.nanoTime() + config.warmup().toNanos();
+        long measureUntil = measureFrom + config.duration().toNanos();
+
+        List<Future<LatencyRecorder>> results = new ArrayList<>();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.concurrency(); i++) {
+                results.add(workers.submit(() -> work(weighted, measureFrom, measureUntil)));
+            }
+        }
+
+        LatencyRecorder merged = new LatencyRecorder();
+        for (Future<LatencyRecorder> result : results) {
+            merged.merge(result.get());
+        }
+        return merged;
+    }
+
+    private LatencyRecorder work(Endpoint[] weighted, long measureFrom, long measureUntil) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        SlackRequestSigner signer = new SlackRequestSigner(signingSecret);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long now;
+        while ((now = System.nanoTime()) < measureUntil) {
+            Endpoint endpoint = weighted[random.nextInt(weighted.length)];
+            HttpRequest request = requests.build(endpoint, signer);
+            long startNanos = System.nanoTime();
+            boolean success = send(request);
+            long latencyNanos = System.nanoTime() - startNanos;
+            if (now >= measureFrom) {
+                recorder.record(endpoint, latencyNanos, success);
+            }
+        }
+        return recorder;
+    }
+
+    private boolean send(HttpRequest request) {
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() / 100 == 2;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * One slot per unit of weight, so a uniform pick follows the mix
+     */
+    private static Endpoint[] weighted(Map<Endpoint, Integer> mix) {
+        List<Endpoint> slots = new ArrayList<>();
+        mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(endpoint);
+            }
+        });
+        return slots.toArray(Endpoint[]::new);
+    }
+}
@@ -0,0 +1,74 @@
+package one.june.leave_management.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties
+ * <p>
+ * The Gradle {@code loadTest} task forwards every {@code -Ploadtest.*} project property, for example
+ * {@code ./gradlew loadTest -Ploadtest.concurrency=64 -Ploadtest.mix=fetch=80,ingest=20}.
+ *
+ * @param duration            Measured run time
+ * @param warmup              Run time before measuring starts, excluded from the report
+ * @param concurrency         Number of workers, each with one request in flight
+ * @param mix                 Relative weight of each endpoint
+ * @param seedUsers           Users given leaves before the run, and queried by the fetch workload
+ * @param seedLeavesPerUser   Leaves ingested per seeded user
+ * @param slackLatency        Delay the stub Slack server adds to every response
+ * @param reportFile          Where the JSON report is written
+ */
+record LoadTestConfig(
+        Duration duration,
+        Duration warmup,
+        int concurrency,
+        Map<Endpoint, Integer> mix,
+        int seedUsers,
+        int seedLeavesPerUser,
+        Duration slackLatency,
+        Path reportFile
+) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60)),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 15)),
+                Integer.getInteger("loadtest.concurrency", 32),
+                parseMix(System.getProperty("loadtest.mix", "fetch=70,ingest=20,slack-command=5,slack-interaction=5")),
+                Integer.getInteger("loadtest.seed-users", 200),
+                Integer.getInteger("loadtest.seed-leaves-per-user", 5),
+                Duration.ofMillis(Long.getLong("loadtest.slack-latency-ms", 50)),
+                Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/results.json"))
+        );
+    }
+
+    /**
+     * Parses a mix such as {@code fetch=80,ingest=20}
+     */
+    static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected <endpoint>=<weight>");
+            }
+            Endpoint endpoint = Arrays.stream(Endpoint.values())
+                    .filter(e -> e.key().equals(parts[0].trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint '" + parts[0]
+                            + "', expected one of " + Arrays.stream(Endpoint.values()).map(Endpoint::key).toList()));
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of " + endpoint.key() + " cannot be negative");
+            }
+            weights.put(endpoint, weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix must give at least one endpoint a positive weight");
+        }
+        return weights;
+    }
+}
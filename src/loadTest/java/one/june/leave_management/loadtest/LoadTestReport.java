@@ -0,0 +1,119 @@
+package one.june.leave_management.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Throughput and latency percentiles per endpoint for one measured run
+ *
+ * @param startedAt   When measuring started
+ * @param config      Settings of the run
+ * @param endpoints   One entry per endpoint that received requests
+ * @param slackCalls  Calls the stub Slack server answered during the whole run, warmup included
+ */
+record LoadTestReport(Instant startedAt, LoadTestConfig config, List<EndpointResult> endpoints, long slackCalls) {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    /**
+     * @param endpoint          Endpoint key
+     * @param description       Method and path of the endpoint
+     * @param requests          Requests completed while measuring
+     * @param errors            Requests that failed or returned a non-2xx status
+     * @param throughput        Requests per second
+     * @param meanMillis        Mean latency
+     * @param percentileMillis  Latency by percentile
+     * @param maxMillis         Highest latency
+     */
+    record EndpointResult(String endpoint, String description, long requests, long errors, double throughput,
+                          double meanMillis, Map<String, Double> percentileMillis, double maxMillis) {
+    }
+
+    static LoadTestReport of(Instant startedAt, LoadTestConfig config, LatencyRecorder recorder, long slackCalls) {
+        double seconds = config.duration().toNanos() / 1e9;
+        List<EndpointResult> endpoints = new ArrayList<>();
+        recorder.samples().forEach((endpoint, samples) -> {
+            long[] sorted = samples.sorted();
+            double total = 0;
+            for (long latency : sorted) {
+                total += latency;
+            }
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            for (double p : PERCENTILES) {
+                percentiles.put("p" + (p == Math.floor(p) ? String.valueOf((int) p) : String.valueOf(p)),
+                        millis(sorted[percentileIndex(sorted.length, p)]));
+            }
+            endpoints.add(new EndpointResult(endpoint.key(), endpoint.description(), sorted.length, samples.errors(),
+                    sorted.length / seconds, millis(total / sorted.length), percentiles,
+                    millis(sorted[sorted.length - 1])));
+        });
+        return new LoadTestReport(startedAt, config, endpoints, slackCalls);
+    }
+
+    long totalRequests() {
+        return endpoints.stream().mapToLong(EndpointResult::requests).sum();
+    }
+
+    long totalErrors() {
+        return endpoints.stream().mapToLong(EndpointResult::errors).sum();
+    }
+
+    void print(PrintStream out) {
+        out.printf("%nLoad test: %d workers, %ds measured after %ds warmup%n",
+                config.concurrency(), config.duration().toSeconds(), config.warmup().toSeconds());
+        out.printf("%-18s %9s %7s %9s %8s %8s %8s %8s %8s %8s%n",
+                "endpoint", "requests", "errors", "req/s", "mean", "p50", "p95", "p99", "p99.9", "max");
+        for (EndpointResult result : endpoints) {
+            out.printf("%-18s %9d %7d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+                    result.endpoint(), result.requests(), result.errors(), result.throughput(),
+                    result.meanMillis(), result.percentileMillis().get("p50"), result.percentileMillis().get("p95"),
+                    result.percentileMillis().get("p99"), result.percentileMillis().get("p99.9"), result.maxMillis());
+        }
+        out.printf("%-18s %9d %7d %9.1f   (latencies in ms)%n", "total", totalRequests(), totalErrors(),
+                totalRequests() / (config.duration().toNanos() / 1e9));
+    }
+
+    void writeJson(Path file) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("startedAt", startedAt.toString());
+        json.put("durationSeconds", config.duration().toSeconds());
+        json.put("warmupSeconds", config.warmup().toSeconds());
+        json.put("concurrency", config.concurrency());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        config.mix().forEach((endpoint, weight) -> mix.put(endpoint.key(), weight));
+        json.put("mix", mix);
+        json.put("slackLatencyMillis", config.slackLatency().toMillis());
+        json.put("totalRequests", totalRequests());
+        json.put("totalErrors", totalErrors());
+        json.put("throughput", totalRequests() / (config.duration().toNanos() / 1e9));
+        json.put("slackCalls", slackCalls);
+        json.put("endpoints", endpoints);
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), json);
+    }
+
+    /**
+     * Nearest-rank index of a percentile in a sorted array
+     */
+    static int percentileIndex(int size, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100 * size);
+        return Math.min(Math.max(rank, 1), size) - 1;
+    }
+
+    private static double millis(double nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
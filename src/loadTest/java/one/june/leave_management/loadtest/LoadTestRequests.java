@@ -0,0 +1,126 @@
+package one.june.leave_management.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds the requests sent for each endpoint
+ * <p>
+ * Ingests spread over {@code users} users and never overlap: the n-th ingest books a two-day leave for user
+ * {@code n % users} in week {@code n / users}. Fetches query a random one of those users. Every Slack request
+ * uses its own user, trigger and view, so none is mistaken for a retry or rejected as an overlap.
+ */
+class LoadTestRequests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final LocalDate FIRST_LEAVE = LocalDate.of(2020, 1, 6);
+    private static final String FORM = "application/x-www-form-urlencoded";
+
+    private final String baseUrl;
+    private final int users;
+    private final AtomicLong ingestSequence = new AtomicLong();
+    private final AtomicLong slackSequence = new AtomicLong();
+
+    LoadTestRequests(String baseUrl, int users) {
+        this.baseUrl = baseUrl;
+        this.users = users;
+    }
+
+    HttpRequest build(Endpoint endpoint, SlackRequestSigner signer) {
+        return switch (endpoint) {
+            case FETCH -> fetch();
+            case INGEST -> ingest();
+            case SLACK_COMMAND -> slackCommand(signer);
+            case SLACK_INTERACTION -> slackInteraction(signer);
+        };
+    }
+
+    private HttpRequest fetch() {
+        String userId = userId(ThreadLocalRandom.current().nextInt(users));
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/leaves?userId=" + userId))
+                .timeout(TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest ingest() {
+        long n = ingestSequence.getAndIncrement();
+        LocalDate start = FIRST_LEAVE.plusWeeks(n / users);
+        String body = """
+                {"sourceType":"WEB","sourceId":"loadtest-%d","userId":"%s",\
+                "dateRange":{"startDate":"%s","endDate":"%s"},\
+                "type":"ANNUAL_LEAVE","status":"REQUESTED","durationType":"FULL_DAY"}"""
+                .formatted(n, userId((int) (n % users)), start, start.plusDays(1));
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/leaves/ingest"))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest slackCommand(SlackRequestSigner signer) {
+        long n = slackSequence.getAndIncrement();
+        String body = "command=" + encode("/leave")
+                + "&text="
+                + "&user_id=UCMD" + n
+                + "&user_name=loadtest" + n
+                + "&channel_id=C0LOADTEST"
+                + "&channel_name=load-test"
+                + "&team_id=T0LOADTEST"
+                + "&team_domain=loadtest"
+                + "&trigger_id=trigger-" + n
+                + "&api_app_id=A0LOADTEST"
+                + "&response_url=" + encode("https://hooks.slack.com/commands/T0LOADTEST/" + n);
+        return signed("/integrations/slack/commands/leave", body, signer);
+    }
+
+    private HttpRequest slackInteraction(SlackRequestSigner signer) {
+        long n = slackSequence.getAndIncrement();
+        String metadata = "{\\\"userId\\\":\\\"USUB%d\\\",\\\"channelId\\\":\\\"C0LOADTEST\\\",\\\"channelName\\\":\\\"load-test\\\",\\\"threadTs\\\":\\\"1700000000.%d\\\"}"
+                .formatted(n, n);
+        String payload = """
+                {"type":"view_submission",\
+                "team":{"id":"T0LOADTEST","domain":"loadtest"},\
+                "user":{"id":"USUB%d","username":"loadtest%d","name":"Load Test","team_id":"T0LOADTEST"},\
+                "api_app_id":"A0LOADTEST","token":"loadtest","trigger_id":"trigger-%d",\
+                "view":{"id":"VSUB%d","team_id":"T0LOADTEST","type":"modal","callback_id":"leave_application_submit",\
+                "state":{"values":{\
+                "leave_type_category_block":{"leave_type_category_action":{"type":"radio_buttons",\
+                "selected_option":{"text":{"type":"plain_text","text":"Annual Leave"},"value":"ANNUAL_LEAVE"}}},\
+                "leave_duration_block":{"leave_duration_action":{"type":"radio_buttons",\
+                "selected_option":{"text":{"type":"plain_text","text":"Full Day"},"value":"FULL_DAY"}}},\
+                "start_date_block":{"start_date_action":{"type":"datepicker","selected_date":"2024-07-01"}},\
+                "end_date_block":{"end_date_action":{"type":"datepicker","selected_date":"2024-07-03"}},\
+                "reason_block":{"reason_action":{"type":"plain_text_input","value":"Load test"}}}},\
+                "private_metadata":"%s",\
+                "title":{"type":"plain_text","text":"Apply for Leave"}}}"""
+                .formatted(n, n, n, n, metadata);
+        return signed("/integrations/slack/interactions", "payload=" + encode(payload), signer);
+    }
+
+    private HttpRequest signed(String path, String body, SlackRequestSigner signer) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        String timestamp = String.valueOf(System.currentTimeMillis() / 1000);
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", FORM)
+                .header("X-Slack-Request-Timestamp", timestamp)
+                .header("X-Slack-Signature", signer.sign(timestamp, bytes))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(bytes))
+                .build();
+    }
+
+    private static String userId(int index) {
+        return "ULOAD" + index;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
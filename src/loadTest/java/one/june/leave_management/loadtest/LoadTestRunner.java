@@ -0,0 +1,88 @@
+package one.june.leave_management.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import one.june.leave_management.LeaveManagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * End-to-end load test of the leave and Slack endpoints
+ * <p>
+ * Starts an embedded PostgreSQL (migrated by Flyway on startup) and a stub Slack API server, boots the application
+ * against both on a random port, seeds leaves, and then runs the configured workload over HTTP. Slack requests are
+ * signed with the signing secret the application is started with. Throughput and latency percentiles per endpoint
+ * are printed and written as JSON, see {@link LoadTestConfig} for the settings.
+ * <p>
+ * Run with {@code ./gradlew loadTest}.
+ */
+public class LoadTestRunner {
+
+    private static final String SIGNING_SECRET = "load-test-signing-secret";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        LoadTestReport report;
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             StubSlackServer slack = new StubSlackServer(config.slackLatency());
+             ConfigurableApplicationContext app = startApplication(postgres, slack);
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            String baseUrl = "http://127.0.0.1:" + app.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(clientExecutor)
+                    .build();
+            LoadDriver driver = new LoadDriver(client, new LoadTestRequests(baseUrl, config.seedUsers()),
+                    SIGNING_SECRET);
+
+            System.out.printf("Seeding %d leaves for %d users%n",
+                    config.seedUsers() * config.seedLeavesPerUser(), config.seedUsers());
+            driver.seed(config.seedUsers() * config.seedLeavesPerUser(), config.concurrency());
+
+            System.out.printf("Running %s for %ds after a %ds warmup with %d workers%n", config.mix(),
+                    config.duration().toSeconds(), config.warmup().toSeconds(), config.concurrency());
+            Instant startedAt = Instant.now().plus(config.warmup());
+            LatencyRecorder recorder = driver.run(config);
+            report = LoadTestReport.of(startedAt, config, recorder, slack.calls());
+        }
+
+        report.print(System.out);
+        report.writeJson(config.reportFile());
+        System.out.println("Report written to " + config.reportFile().toAbsolutePath());
+        // Exit explicitly: the closed application can leave non-daemon client threads behind
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext startApplication(EmbeddedPostgres postgres, StubSlackServer slack) {
+        // Command line arguments, so they take precedence over application.properties
+        return new SpringApplicationBuilder(LeaveManagementApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres")
+                                + "&reWriteBatchedInserts=true",
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=postgres",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--logging.level.root=WARN",
+                        "--slack.signing-secret=" + SIGNING_SECRET,
+                        "--slack.bot-token=xoxb-load-test",
+                        "--slack.api-base-url=" + slack.baseUrl(),
+                        // Keep the outbound rate limits out of the way; they pace Slack, not the endpoints measured
+                        "--slack.dispatch.method-permits-per-second.[chat.postMessage]=10000",
+                        "--slack.dispatch.default-method-permits-per-second=10000",
+                        "--slack.dispatch.method-burst=10000",
+                        "--slack.dispatch.channel-permits-per-second=10000",
+                        "--slack.dispatch.channel-burst=10000"
+                );
+    }
+}
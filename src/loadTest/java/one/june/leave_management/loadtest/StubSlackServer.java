@@ -0,0 +1,81 @@
+package one.june.leave_management.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for the Slack Web API
+ * <p>
+ * Answers every method with a successful response after a fixed delay, so outbound Slack calls cost a realistic
+ * round trip without leaving the machine: {@code chat.*} methods return a message timestamp and {@code views.*}
+ * methods return a view ID.
+ */
+class StubSlackServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Duration latency;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong sequence = new AtomicLong();
+
+    StubSlackServer(Duration latency) throws IOException {
+        this.latency = latency;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/", this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    /**
+     * Value for {@code slack.api-base-url}
+     */
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/api";
+    }
+
+    long calls() {
+        return calls.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            body.readAllBytes();
+            calls.incrementAndGet();
+            if (!latency.isZero()) {
+                Thread.sleep(latency);
+            }
+
+            String method = exchange.getRequestURI().getPath().substring("/api/".length());
+            long n = sequence.incrementAndGet();
+            String response;
+            if (method.startsWith("chat.")) {
+                response = "{\"ok\":true,\"channel\":\"C0LOADTEST\",\"ts\":\"1700000000." + n + "\"}";
+            } else if (method.startsWith("views.")) {
+                response = "{\"ok\":true,\"view\":{\"id\":\"V" + n + "\"}}";
+            } else {
+                response = "{\"ok\":true}";
+            }
+
+            byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
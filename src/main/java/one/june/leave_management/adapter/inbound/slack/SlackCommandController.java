@@ -38,13 +38,16 @@ public class SlackCommandController {
 
     private final SlackRequestSignatureVerifier signatureVerifier;
     private final SlackLeaveOrchestrator slackLeaveOrchestrator;
+    private final SlackRetryDeduplicator retryDeduplicator;
 
     public SlackCommandController(
             SlackRequestSignatureVerifier signatureVerifier,
-            SlackLeaveOrchestrator slackLeaveOrchestrator
+            SlackLeaveOrchestrator slackLeaveOrchestrator,
+            SlackRetryDeduplicator retryDeduplicator
     ) {
         this.signatureVerifier = signatureVerifier;
         this.slackLeaveOrchestrator = slackLeaveOrchestrator;
+        this.retryDeduplicator = retryDeduplicator;
     }
 
     /**
@@ -55,7 +58,8 @@ public class SlackCommandController {
      *   <li>Read request body</li>
      *   <li>Verify Slack signature to ensure request is from Slack</li>
      *   <li>Parse form payload to SlackCommandRequest</li>
-     *   <li>Route to orchestrator for business logic</li>
+     *   <li>ACK retries of an already accepted command without processing them again</li>
+     *   <li>Route to orchestrator for business logic, releasing the command if that fails</li>
      *   <li>ACK immediately with 200 OK</li>
      * </ol>
      * <p>
@@ -81,7 +85,7 @@ public class SlackCommandController {
         // Step 1: Verify signature to ensure request is from Slack
         String signature = request.getHeader("X-Slack-Signature");
         String timestamp = request.getHeader("X-Slack-Request-Timestamp");
-        signatureVerifier.verify(signature, timestamp, requestBody);
+        signatureVerifier.verify(signature, timestamp, rawBody);
 
         // Step 2: Parse command request from form payload
         SlackCommandRequest slackRequest = SlackRequestParser.parseCommandPayload(
@@ -93,10 +97,24 @@ public class SlackCommandController {
                 slackRequest.getUserId(),
                 slackRequest.getChannelName());
 
-        // Step 3: Route to orchestrator for business logic
-        slackLeaveOrchestrator.handleSlashCommand(slackRequest);
+        // Step 3: ACK a retry of a command that was already accepted, so it does not open a second thread
+        String triggerId = slackRequest.getTriggerId();
+        String requestKey = triggerId != null ? "command:" + triggerId : null;
+        if (retryDeduplicator.isDuplicate(requestKey,
+                request.getHeader(SlackRetryDeduplicator.RETRY_NUM_HEADER),
+                request.getHeader(SlackRetryDeduplicator.RETRY_REASON_HEADER))) {
+            return ResponseEntity.ok().build();
+        }
 
-        // Step 4: ACK immediately with 200 OK
+        // Step 4: Route to orchestrator for business logic; a failed hand-off frees the command for a retry
+        try {
+            slackLeaveOrchestrator.handleSlashCommand(slackRequest);
+        } catch (RuntimeException e) {
+            retryDeduplicator.release(requestKey);
+            throw e;
+        }
+
+        // Step 5: ACK immediately with 200 OK
         return ResponseEntity.ok().build();
     }
 }
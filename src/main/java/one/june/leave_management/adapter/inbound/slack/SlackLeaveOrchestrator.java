@@ -5,34 +5,32 @@ import one.june.leave_management.adapter.inbound.slack.dto.SlackCommandRequest;
 import one.june.leave_management.adapter.inbound.slack.dto.SlackViewClosedRequest;
 import one.june.leave_management.adapter.inbound.slack.dto.SlackViewSubmissionRequest;
 import one.june.leave_management.adapter.inbound.slack.mapper.SlackLeaveRequestMapper;
+import one.june.leave_management.adapter.inbound.slack.util.SlackInteractionPayload;
 import one.june.leave_management.adapter.inbound.slack.util.SlackMessageTemplate;
 import one.june.leave_management.adapter.inbound.slack.util.SlackMetadataUtil;
-import one.june.leave_management.adapter.inbound.slack.util.SlackRequestParser;
 import one.june.leave_management.adapter.inbound.web.dto.LeaveIngestionRequest;
-import one.june.leave_management.adapter.outbound.slack.builder.SlackBlockBuilder;
-import one.june.leave_management.adapter.outbound.slack.builder.SlackModalBuilder;
+import one.june.leave_management.adapter.outbound.slack.builder.LeaveApplicationModalTemplate;
 import one.june.leave_management.adapter.outbound.slack.client.SlackApiClient;
 import one.june.leave_management.adapter.outbound.slack.dto.SlackMessageRequest;
 import one.june.leave_management.adapter.outbound.slack.dto.SlackMessageResponse;
-import one.june.leave_management.adapter.outbound.slack.dto.SlackModalView;
-import one.june.leave_management.adapter.outbound.slack.dto.blocks.elements.SlackOption;
 import one.june.leave_management.application.leave.command.LeaveIngestionCommand;
 import one.june.leave_management.application.leave.dto.LeaveDto;
 import one.june.leave_management.application.leave.service.LeaveService;
 import one.june.leave_management.common.mapper.LeaveMapper;
+import one.june.leave_management.config.SlackDispatchProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 /**
  * Orchestrator for Slack-specific leave request workflows
  * <p>
  * This service coordinates the flow of Slack leave interactions:
  * - Receives leave requests from Slack controllers
- * - Processes them asynchronously in a new transaction
+ * - Processes them asynchronously, outside of the caller's transaction
  * - Posts success/failure messages back to the Slack thread
  * <p>
  * This is part of the adapter layer and coordinates between:
@@ -41,8 +39,8 @@ import java.util.List;
  * <p>
  * The @Async annotation ensures the method runs in a separate thread,
  * allowing controllers to return immediately to Slack.
- * The @Transactional annotation with REQUIRES_NEW creates a new
- * transaction, independent of the caller's transaction context.
+ * The @Transactional annotation with NOT_SUPPORTED keeps it independent of the
+ * caller's transaction context; the leave service opens its own transaction.
  */
 @Slf4j
 @Service
@@ -51,15 +49,40 @@ public class SlackLeaveOrchestrator {
     private final LeaveService leaveService;
     private final LeaveMapper leaveMapper;
     private final SlackApiClient slackApiClient;
+    private final LeaveApplicationModalTemplate leaveApplicationModalTemplate;
+    private final SlackDispatchProperties dispatchProperties;
+    private SlackLeaveOrchestrator self;
 
     public SlackLeaveOrchestrator(
             LeaveService leaveService,
             LeaveMapper leaveMapper,
-            SlackApiClient slackApiClient
+            SlackApiClient slackApiClient,
+            LeaveApplicationModalTemplate leaveApplicationModalTemplate,
+            SlackDispatchProperties dispatchProperties
     ) {
         this.leaveService = leaveService;
         this.leaveMapper = leaveMapper;
         this.slackApiClient = slackApiClient;
+        this.leaveApplicationModalTemplate = leaveApplicationModalTemplate;
+        this.dispatchProperties = dispatchProperties;
+    }
+
+    /**
+     * Injects this bean's proxy, so the @Async and @Transactional methods called from within this class
+     * actually run on the async executor instead of on the caller's thread
+     *
+     * @param self The proxied orchestrator, resolved lazily
+     */
+    @Autowired
+    void setSelf(@Lazy SlackLeaveOrchestrator self) {
+        this.self = self;
+    }
+
+    /**
+     * Returns the proxy to call @Async methods through, or this instance when created outside Spring
+     */
+    private SlackLeaveOrchestrator self() {
+        return self != null ? self : this;
     }
 
     /**
@@ -71,7 +94,10 @@ public class SlackLeaveOrchestrator {
      * 3. Posts a success message to the Slack thread if successful
      * 4. Posts a failure message to the Slack thread if an error occurs
      * <p>
-     * Runs in a separate thread (@Async) with a new transaction (@Transactional REQUIRES_NEW).
+     * Runs in a separate thread (@Async) outside of any transaction (@Transactional NOT_SUPPORTED): the ingest
+     * commits in its own transaction, so a failed ingest is rolled back before the failure is reported and the
+     * Slack calls never hold a database connection. The reply is queued without waiting for it to be sent, so
+     * only a failed ingest is ever reported as a failed request.
      *
      * @param leaveRequest The leave request from the modal
      * @param channelId    The channel ID where to post updates
@@ -79,7 +105,7 @@ public class SlackLeaveOrchestrator {
      * @param userId       The Slack user ID for tagging the user
      */
     @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void processLeaveRequestAsync(
             LeaveIngestionRequest leaveRequest,
             String channelId,
@@ -89,6 +115,7 @@ public class SlackLeaveOrchestrator {
         log.info("Processing leave request for user: {}, channel: {}, thread_ts: {}",
                 userId, channelId, threadTs);
 
+        SlackMessageRequest message;
         try {
             // Convert to command
             LeaveIngestionCommand command = leaveMapper.toCommand(
@@ -102,29 +129,43 @@ public class SlackLeaveOrchestrator {
             log.info("Successfully created leave with ID: {}", result.getId());
 
             // Build success message
-            SlackMessageRequest message = SlackMessageTemplate.leaveCreated(
+            message = SlackMessageTemplate.leaveCreated(
                     channelId, threadTs, userId, result
             );
 
-            // Send success message to thread
-            slackApiClient.postThreadReply(channelId, threadTs, message);
-            log.info("Successfully posted success message to thread");
-
         } catch (Exception e) {
             log.error("Failed to process leave request for user: {}", userId, e);
 
             // Build failure message
-            SlackMessageRequest message = SlackMessageTemplate.leaveRequestFailed(
+            message = SlackMessageTemplate.leaveRequestFailed(
                     channelId, threadTs, userId, e.getMessage()
             );
+        }
+
+        // Send the outcome to the thread
+        submitThreadReply(channelId, threadTs, message, "outcome");
+    }
 
-            // Send failure message to thread
-            try {
-                slackApiClient.postThreadReply(channelId, threadTs, message);
-                log.info("Successfully posted failure message to thread");
-            } catch (Exception messagingException) {
-                log.error("Failed to post failure message to thread", messagingException);
-            }
+    /**
+     * Queues a reply to the thread and logs whether it was posted, without waiting for it
+     *
+     * @param channelId   The channel ID where the thread exists
+     * @param threadTs    The thread timestamp of the parent message
+     * @param message     The reply to post
+     * @param description What the reply is, for the log (e.g., "cancellation")
+     */
+    private void submitThreadReply(String channelId, String threadTs, SlackMessageRequest message,
+                                   String description) {
+        try {
+            slackApiClient.submitThreadReply(channelId, threadTs, message).whenComplete((response, error) -> {
+                if (error != null) {
+                    log.error("Failed to post {} message to thread", description, error);
+                } else {
+                    log.info("Successfully posted {} message to thread", description);
+                }
+            });
+        } catch (Exception e) {
+            log.error("Failed to post {} message to thread", description, e);
         }
     }
 
@@ -132,6 +173,8 @@ public class SlackLeaveOrchestrator {
      * Creates and posts the initial thread anchor message
      * <p>
      * This message serves as the anchor for all subsequent updates about the leave request.
+     * It is posted while Slack waits for the slash command to be acknowledged, so it is only waited for up to
+     * the configured anchorMaxWait; a message that could not be sent by then is withdrawn.
      *
      * @param channelId The channel ID where the message will be posted
      * @param userTag   The Slack user tag (e.g., "&lt;@U12345&gt;")
@@ -143,7 +186,7 @@ public class SlackLeaveOrchestrator {
                     channelId, userTag
             );
 
-            return slackApiClient.postMessage(channelId, message);
+            return slackApiClient.postMessage(channelId, message, dispatchProperties.getAnchorMaxWait());
 
         } catch (Exception e) {
             log.error("Failed to post thread anchor message", e);
@@ -161,17 +204,11 @@ public class SlackLeaveOrchestrator {
      * @param userId    The Slack user ID for tagging
      */
     public void postCancellationMessage(String channelId, String threadTs, String userId) {
-        try {
-            SlackMessageRequest message = SlackMessageTemplate.leaveRequestCancelled(
-                    channelId, threadTs, userId
-            );
-
-            slackApiClient.postThreadReply(channelId, threadTs, message);
-            log.info("Successfully posted cancellation message to thread");
+        SlackMessageRequest message = SlackMessageTemplate.leaveRequestCancelled(
+                channelId, threadTs, userId
+        );
 
-        } catch (Exception e) {
-            log.error("Failed to post cancellation message to thread", e);
-        }
+        submitThreadReply(channelId, threadTs, message, "cancellation");
     }
 
     /**
@@ -191,13 +228,20 @@ public class SlackLeaveOrchestrator {
      * @param requestBody The raw form-encoded request body from Slack
      */
     public void handleViewSubmission(String requestBody) {
+        handleViewSubmission(SlackInteractionPayload.parse(requestBody));
+    }
+
+    /**
+     * Handles view_submission events from an interaction payload already parsed for this request
+     *
+     * @param payload The parsed interaction payload
+     * @see #handleViewSubmission(String)
+     */
+    public void handleViewSubmission(SlackInteractionPayload payload) {
         log.info("Handling view_submission event");
 
-        // Parse the view submission request from form-encoded payload
-        SlackViewSubmissionRequest submissionRequest = SlackRequestParser.parsePayload(
-                requestBody,
-                SlackViewSubmissionRequest.class
-        );
+        // Bind the view submission request from the parsed payload
+        SlackViewSubmissionRequest submissionRequest = payload.as(SlackViewSubmissionRequest.class);
 
         log.info("View submission from user: {}, view ID: {}",
                 submissionRequest.getUser().getId(),
@@ -217,7 +261,7 @@ public class SlackLeaveOrchestrator {
         log.info("Mapped to leave request: {}", leaveRequest);
 
         // Trigger async leave processing with thread context
-        processLeaveRequestAsync(
+        self().processLeaveRequestAsync(
                 leaveRequest,
                 channelId,
                 threadTs,
@@ -243,13 +287,20 @@ public class SlackLeaveOrchestrator {
      * @param requestBody The raw form-encoded request body from Slack
      */
     public void handleViewClosed(String requestBody) {
+        handleViewClosed(SlackInteractionPayload.parse(requestBody));
+    }
+
+    /**
+     * Handles view_closed events from an interaction payload already parsed for this request
+     *
+     * @param payload The parsed interaction payload
+     * @see #handleViewClosed(String)
+     */
+    public void handleViewClosed(SlackInteractionPayload payload) {
         log.info("Handling view_closed event");
 
-        // Parse the view closed request from form-encoded payload
-        SlackViewClosedRequest closedRequest = SlackRequestParser.parsePayload(
-                requestBody,
-                SlackViewClosedRequest.class
-        );
+        // Bind the view closed request from the parsed payload
+        SlackViewClosedRequest closedRequest = payload.as(SlackViewClosedRequest.class);
 
         log.info("View closed by user: {}, view ID: {}",
                 closedRequest.getUser().getId(),
@@ -306,7 +357,7 @@ public class SlackLeaveOrchestrator {
 
         // Trigger modal opening asynchronously with thread context
         log.info("Triggering modal opening asynchronously for trigger_id: {}", commandRequest.getTriggerId());
-        openLeaveApplicationModalAsync(commandRequest, threadTs);
+        self().openLeaveApplicationModalAsync(commandRequest, threadTs);
 
         log.info("Successfully initiated slash command workflow");
     }
@@ -332,9 +383,17 @@ public class SlackLeaveOrchestrator {
             log.info("Building and opening leave application modal for user: {}, thread_ts: {}",
                     slackRequest.getUserId(), threadTs);
 
-            SlackModalView modalView = buildLeaveApplicationModal(slackRequest, threadTs);
+            // Create JSON metadata with thread context
+            String metadataJson = SlackMetadataUtil.createMetadata(
+                    slackRequest.getUserId(),
+                    slackRequest.getChannelId(),
+                    slackRequest.getChannelName(),
+                    threadTs
+            );
+
+            String viewJson = leaveApplicationModalTemplate.render(metadataJson);
 
-            slackApiClient.openModal(slackRequest.getTriggerId(), modalView);
+            slackApiClient.openPrecompiledModal(slackRequest.getTriggerId(), viewJson);
 
             log.info("Leave application modal opened successfully for user: {}", slackRequest.getUserId());
 
@@ -347,97 +406,4 @@ public class SlackLeaveOrchestrator {
             // - Send a notification to administrators
         }
     }
-
-    /**
-     * Builds a modal view for leave application
-     * <p>
-     * The modal contains form fields for:
-     * - Leave type (Annual Leave / Optional Holiday)
-     * - Duration (Full Day / First Half / Second Half)
-     * - Start date
-     * - End date
-     * - Reason (optional)
-     * <p>
-     * This structure follows Slack's Block Kit format for modals.
-     * Reference: <a href="https://api.slack.com/block-kit/building">...</a>
-     *
-     * @param slackRequest The Slack command request containing user context
-     * @param threadTs     The thread timestamp for posting updates later
-     * @return A configured SlackModalView for leave application
-     */
-    private SlackModalView buildLeaveApplicationModal(SlackCommandRequest slackRequest, String threadTs) {
-        // Leave Type options (ANNUAL_LEAVE, OPTIONAL_HOLIDAY)
-        List<SlackOption> leaveTypeOptions = List.of(
-                SlackOption.of("Annual Leave", "ANNUAL_LEAVE"),
-                SlackOption.of("Optional Holiday", "OPTIONAL_HOLIDAY")
-        );
-
-        // Leave Duration options (FULL_DAY, FIRST_HALF, SECOND_HALF)
-        List<SlackOption> leaveDurationOptions = List.of(
-                SlackOption.of("Full Day", "FULL_DAY"),
-                SlackOption.of("First Half", "FIRST_HALF"),
-                SlackOption.of("Second Half", "SECOND_HALF")
-        );
-
-        List<Object> blocks = List.of(
-                // Leave Type selection (ANNUAL_LEAVE vs OPTIONAL_HOLIDAY)
-                SlackBlockBuilder.radioButtonsInput(
-                        "leave_type_category_block",
-                        "leave_type_category_action",
-                        "Leave Type",
-                        leaveTypeOptions,
-                        "ANNUAL_LEAVE"
-                ),
-
-                // Leave Duration selection (FULL_DAY vs HALF_DAY)
-                SlackBlockBuilder.radioButtonsInput(
-                        "leave_duration_block",
-                        "leave_duration_action",
-                        "Duration",
-                        leaveDurationOptions,
-                        "FULL_DAY"
-                ),
-
-                // Start date
-                SlackBlockBuilder.dateInput(
-                        "start_date_block",
-                        "start_date_action",
-                        "Start Date",
-                        "Select a date",
-                        false // required
-                ),
-
-                // End date
-                SlackBlockBuilder.dateInput(
-                        "end_date_block",
-                        "end_date_action",
-                        "End Date",
-                        "Select a date",
-                        false // required
-                ),
-
-                // Reason
-                SlackBlockBuilder.plainTextInput(
-                        "reason_block",
-                        "reason_action",
-                        "Reason",
-                        "Optional: Provide a reason for your leave",
-                        true, // multiline
-                        true // optional
-                )
-        );
-
-        // Create JSON metadata with thread context
-        String metadataJson = SlackMetadataUtil.createMetadata(
-                slackRequest.getUserId(),
-                slackRequest.getChannelId(),
-                slackRequest.getChannelName(),
-                threadTs
-        );
-
-        return SlackModalBuilder.create("Apply for Leave", "leave_application_submit")
-                .withBlocks(blocks)
-                .withPrivateMetadata(metadataJson)
-                .build();
-    }
 }
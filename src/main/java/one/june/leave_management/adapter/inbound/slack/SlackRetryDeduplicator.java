@@ -0,0 +1,179 @@
+package one.june.leave_management.adapter.inbound.slack;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import one.june.leave_management.adapter.persistence.jdbc.SlackRequestDedupJdbcRepository;
+import one.june.leave_management.config.SlackIdempotencyProperties;
+import one.june.leave_management.config.SlackIdempotencyProperties.Store;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * Recognizes Slack retries of requests that were already accepted
+ * <p>
+ * Slack retries a request that was not answered within 3 seconds, marking the retry with
+ * {@code X-Slack-Retry-Num}. Processing the retry again would post a second thread anchor or ingest the
+ * submission twice, so the controllers ask {@link #isDuplicate} before routing and only ACK duplicates.
+ * If routing an accepted request fails, the controllers {@link #release} its key again, so Slack's retry or a
+ * resubmission of the same view is processed instead of being ACKed and lost.
+ * Requests are identified by their interaction type and trigger_id or view.id, which Slack keeps across retries.
+ * <p>
+ * Accepted keys are remembered in a bounded in-memory map for {@code ttl}. With the JDBC store they are also
+ * claimed in the slack_request_dedup table, so a retry that lands on another instance is recognized too. If the
+ * table cannot be reached the request is processed, as it would be without deduplication.
+ * <p>
+ * Metric: {@code slack.requests.retries}, tagged {@code outcome=acked|processed}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "slack.enabled", havingValue = "true", matchIfMissing = true)
+public class SlackRetryDeduplicator {
+
+    /**
+     * Header Slack sets on retried deliveries, starting at 1
+     */
+    public static final String RETRY_NUM_HEADER = "X-Slack-Retry-Num";
+
+    /**
+     * Header Slack sets on retried deliveries with the reason for the retry, e.g. http_timeout
+     */
+    public static final String RETRY_REASON_HEADER = "X-Slack-Retry-Reason";
+
+    private final SlackIdempotencyProperties properties;
+    private final SlackRequestDedupJdbcRepository dedupJdbcRepository;
+    private final Clock clock;
+    private final Cache<String, Boolean> acceptedKeys;
+    private final Counter ackedCounter;
+    private final Counter processedCounter;
+
+    public SlackRetryDeduplicator(SlackIdempotencyProperties properties,
+                                  SlackRequestDedupJdbcRepository dedupJdbcRepository,
+                                  MeterRegistry meterRegistry) {
+        this(properties, dedupJdbcRepository, meterRegistry, Clock.systemUTC());
+    }
+
+    SlackRetryDeduplicator(SlackIdempotencyProperties properties,
+                           SlackRequestDedupJdbcRepository dedupJdbcRepository,
+                           MeterRegistry meterRegistry,
+                           Clock clock) {
+        this.properties = properties;
+        this.dedupJdbcRepository = dedupJdbcRepository;
+        this.clock = clock;
+        this.acceptedKeys = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+
+        this.ackedCounter = retryCounter("acked", meterRegistry);
+        this.processedCounter = retryCounter("processed", meterRegistry);
+    }
+
+    private static Counter retryCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("slack.requests.retries")
+                .description("Slack deliveries that were retries or duplicates of an accepted request")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the request as accepted, or reports that it already was
+     *
+     * @param requestKey  The request identity, e.g. "command:" + trigger_id; null if the request has none
+     * @param retryNum    The X-Slack-Retry-Num header, or null on the first delivery
+     * @param retryReason The X-Slack-Retry-Reason header, or null on the first delivery
+     * @return true if the request was already accepted and must only be ACKed
+     */
+    public boolean isDuplicate(String requestKey, String retryNum, String retryReason) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+
+        if (requestKey == null || requestKey.isBlank()) {
+            if (retryNum != null) {
+                log.warn("Processing Slack retry {} ({}) without a request identity", retryNum, retryReason);
+                processedCounter.increment();
+            }
+            return false;
+        }
+
+        if (!claim(requestKey)) {
+            log.info("ACKing duplicate Slack delivery of {} without processing (retry: {}, reason: {})",
+                    requestKey, retryNum, retryReason);
+            ackedCounter.increment();
+            return true;
+        }
+
+        if (retryNum != null) {
+            // The first delivery never reached this instance (or the store), so the retry does the work
+            log.info("Processing Slack retry {} of {} ({}); the original delivery was not seen",
+                    retryNum, requestKey, retryReason);
+            processedCounter.increment();
+        }
+        return false;
+    }
+
+    private boolean claim(String requestKey) {
+        if (acceptedKeys.asMap().putIfAbsent(requestKey, Boolean.TRUE) != null) {
+            return false;
+        }
+        if (properties.getStore() != Store.JDBC) {
+            return true;
+        }
+
+        Instant now = clock.instant();
+        try {
+            // A key claimed by another instance stays in the local map, so later retries skip the database
+            return dedupJdbcRepository.claim(requestKey, now, now.minus(properties.getTtl()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to claim Slack request {} in the dedup table, processing it anyway", requestKey, e);
+            return true;
+        }
+    }
+
+    /**
+     * Forgets an accepted request whose processing failed, so a later delivery of it is processed again
+     *
+     * @param requestKey The request identity passed to {@link #isDuplicate}; null if the request has none
+     */
+    public void release(String requestKey) {
+        if (!properties.isEnabled() || requestKey == null || requestKey.isBlank()) {
+            return;
+        }
+
+        acceptedKeys.invalidate(requestKey);
+        if (properties.getStore() != Store.JDBC) {
+            return;
+        }
+        try {
+            dedupJdbcRepository.release(requestKey);
+            log.debug("Released Slack request {} after failed processing", requestKey);
+        } catch (DataAccessException e) {
+            // The claim then blocks deliveries on other instances until it expires
+            log.warn("Failed to release Slack request {} in the dedup table", requestKey, e);
+        }
+    }
+
+    /**
+     * Deletes expired claims from the slack_request_dedup table when the JDBC store is used
+     */
+    @Scheduled(fixedDelayString = "#{@slackIdempotencyProperties.purgeInterval.toMillis()}")
+    public void purgeExpired() {
+        if (!properties.isEnabled() || properties.getStore() != Store.JDBC) {
+            return;
+        }
+        try {
+            int purged = dedupJdbcRepository.purgeExpired(clock.instant().minus(properties.getTtl()));
+            log.debug("Purged {} expired Slack request dedup rows", purged);
+        } catch (DataAccessException e) {
+            log.warn("Failed to purge expired Slack request dedup rows", e);
+        }
+    }
+}
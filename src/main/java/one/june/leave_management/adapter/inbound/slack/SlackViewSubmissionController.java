@@ -2,7 +2,7 @@ package one.june.leave_management.adapter.inbound.slack;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
-import one.june.leave_management.adapter.inbound.slack.util.SlackRequestParser;
+import one.june.leave_management.adapter.inbound.slack.util.SlackInteractionPayload;
 import one.june.leave_management.adapter.inbound.slack.util.SlackRequestSignatureVerifier;
 import one.june.leave_management.common.annotation.Auditable;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -12,8 +12,6 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.nio.charset.StandardCharsets;
-
 /**
  * REST controller for handling Slack interactions
  * <p>
@@ -36,13 +34,16 @@ public class SlackViewSubmissionController {
 
     private final SlackRequestSignatureVerifier signatureVerifier;
     private final SlackLeaveOrchestrator slackLeaveOrchestrator;
+    private final SlackRetryDeduplicator retryDeduplicator;
 
     public SlackViewSubmissionController(
             SlackRequestSignatureVerifier signatureVerifier,
-            SlackLeaveOrchestrator slackLeaveOrchestrator
+            SlackLeaveOrchestrator slackLeaveOrchestrator,
+            SlackRetryDeduplicator retryDeduplicator
     ) {
         this.signatureVerifier = signatureVerifier;
         this.slackLeaveOrchestrator = slackLeaveOrchestrator;
+        this.retryDeduplicator = retryDeduplicator;
     }
 
     /**
@@ -59,7 +60,8 @@ public class SlackViewSubmissionController {
      *   <li>Read request body</li>
      *   <li>Verify Slack signature to ensure request is from Slack</li>
      *   <li>Extract type field from payload</li>
-     *   <li>Route to appropriate handler in orchestrator based on type</li>
+     *   <li>ACK retries of an already accepted interaction without processing them again</li>
+     *   <li>Route to appropriate handler in orchestrator based on type, releasing the interaction if that fails</li>
      *   <li>Return empty response (Slack closes modal automatically)</li>
      * </ol>
      * <p>
@@ -76,34 +78,48 @@ public class SlackViewSubmissionController {
             HttpServletRequest request,
             @RequestBody byte[] rawBody
     ) {
-        String requestBody = new String(rawBody, StandardCharsets.UTF_8);
         log.info("Received Slack interaction");
 
         // Step 1: Verify signature to ensure request is from Slack
         String signature = request.getHeader("X-Slack-Signature");
         String timestamp = request.getHeader("X-Slack-Request-Timestamp");
-        signatureVerifier.verify(signature, timestamp, requestBody);
+        signatureVerifier.verify(signature, timestamp, rawBody);
 
-        // Step 2: Extract interaction type from payload
-        String type = SlackRequestParser.extractType(requestBody);
+        // Step 2: Extract interaction type from the payload, parsed once for the whole request
+        SlackInteractionPayload payload = SlackInteractionPayload.fromRequest(request, rawBody);
+        String type = payload.getType();
         log.info("Interaction type: {}", type);
 
-        // Step 3: Route to appropriate handler based on type
-        switch (type) {
-            case "view_submission" -> {
-                log.debug("Routing view_submission to orchestrator");
-                slackLeaveOrchestrator.handleViewSubmission(requestBody);
-            }
-            case "view_closed" -> {
-                log.debug("Routing view_closed to orchestrator");
-                slackLeaveOrchestrator.handleViewClosed(requestBody);
-            }
-            default -> {
-                log.warn("Unknown interaction type: {}", type);
+        // Step 3: ACK a retry of an interaction that was already accepted, so it is not processed twice
+        String viewId = payload.getViewId();
+        String requestKey = viewId != null ? type + ":" + viewId : null;
+        if (retryDeduplicator.isDuplicate(requestKey,
+                request.getHeader(SlackRetryDeduplicator.RETRY_NUM_HEADER),
+                request.getHeader(SlackRetryDeduplicator.RETRY_REASON_HEADER))) {
+            return ResponseEntity.ok().build();
+        }
+
+        // Step 4: Route to appropriate handler based on type; a failed hand-off frees the interaction for a retry
+        try {
+            switch (type) {
+                case "view_submission" -> {
+                    log.debug("Routing view_submission to orchestrator");
+                    slackLeaveOrchestrator.handleViewSubmission(payload);
+                }
+                case "view_closed" -> {
+                    log.debug("Routing view_closed to orchestrator");
+                    slackLeaveOrchestrator.handleViewClosed(payload);
+                }
+                default -> {
+                    log.warn("Unknown interaction type: {}", type);
+                }
             }
+        } catch (RuntimeException e) {
+            retryDeduplicator.release(requestKey);
+            throw e;
         }
 
-        // Step 4: Return empty response - Slack closes the modal automatically
+        // Step 5: Return empty response - Slack closes the modal automatically
         return ResponseEntity.ok().build();
     }
 }
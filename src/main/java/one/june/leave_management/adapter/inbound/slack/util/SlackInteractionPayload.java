@@ -0,0 +1,239 @@
+package one.june.leave_management.adapter.inbound.slack.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import one.june.leave_management.common.exception.SlackPayloadParseException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Slack interaction payload, parsed once per request
+ * <p>
+ * Interactions arrive as application/x-www-form-urlencoded with the JSON in a "payload" field. The field is
+ * located and percent-decoded straight from the request bytes in a single pass, and Jackson parses the decoded
+ * bytes into a tree once. Typed views ({@link #as(Class)}) are bound from that tree without re-reading the JSON.
+ * <p>
+ * The parsed payload is stored as a request attribute, so the audit aspect, the controller and the orchestrator
+ * share one instance instead of each decoding and parsing the body again.
+ */
+public final class SlackInteractionPayload {
+
+    /**
+     * Request attribute holding the payload parsed for the current request
+     */
+    public static final String REQUEST_ATTRIBUTE = SlackInteractionPayload.class.getName();
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final byte[] PAYLOAD_FIELD = "payload".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[] json;
+    private final JsonNode root;
+    private String jsonString;
+
+    private SlackInteractionPayload(byte[] json, JsonNode root) {
+        this.json = json;
+        this.root = root;
+    }
+
+    /**
+     * Parses the payload of a form-encoded interaction body
+     *
+     * @param rawBody The raw request body bytes
+     * @return The parsed payload
+     * @throws SlackPayloadParseException if the payload field is missing, empty or not valid JSON
+     */
+    public static SlackInteractionPayload parse(byte[] rawBody) {
+        SlackInteractionPayload payload = parseIfPresent(rawBody);
+        if (payload == null) {
+            throw new SlackPayloadParseException("Missing 'payload' parameter in request body");
+        }
+        return payload;
+    }
+
+    /**
+     * Parses the payload of a form-encoded interaction body
+     *
+     * @param requestBody The raw form-encoded request body
+     * @return The parsed payload
+     * @throws SlackPayloadParseException if the payload field is missing, empty or not valid JSON
+     */
+    public static SlackInteractionPayload parse(String requestBody) {
+        return parse(requestBody.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the payload already parsed for this request, parsing and storing it on first use
+     *
+     * @param request The current HTTP request
+     * @param rawBody The raw request body bytes
+     * @return The parsed payload
+     * @throws SlackPayloadParseException if the payload field is missing, empty or not valid JSON
+     */
+    public static SlackInteractionPayload fromRequest(HttpServletRequest request, byte[] rawBody) {
+        SlackInteractionPayload payload = fromRequestIfPresent(request, rawBody);
+        if (payload == null) {
+            throw new SlackPayloadParseException("Missing 'payload' parameter in request body");
+        }
+        return payload;
+    }
+
+    /**
+     * Like {@link #fromRequest}, but returns null for bodies without a payload field, such as slash commands
+     *
+     * @param request The current HTTP request
+     * @param rawBody The raw request body bytes
+     * @return The parsed payload, or null if the body has no non-empty payload field
+     * @throws SlackPayloadParseException if the payload is not valid JSON
+     */
+    public static SlackInteractionPayload fromRequestIfPresent(HttpServletRequest request, byte[] rawBody) {
+        if (request.getAttribute(REQUEST_ATTRIBUTE) instanceof SlackInteractionPayload cached) {
+            return cached;
+        }
+        SlackInteractionPayload payload = parseIfPresent(rawBody);
+        if (payload != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE, payload);
+        }
+        return payload;
+    }
+
+    private static SlackInteractionPayload parseIfPresent(byte[] rawBody) {
+        byte[] json = decodeField(rawBody, PAYLOAD_FIELD);
+        if (json == null || json.length == 0) {
+            return null;
+        }
+        try {
+            return new SlackInteractionPayload(json, objectMapper.readTree(json));
+        } catch (IOException e) {
+            throw new SlackPayloadParseException("Failed to parse payload JSON", e);
+        }
+    }
+
+    /**
+     * Finds a field in a form-encoded body and percent-decodes its value without building intermediate Strings
+     *
+     * @param body  The form-encoded bytes
+     * @param field The field name, which must not need encoding
+     * @return The decoded value bytes, or null if the field is absent
+     */
+    static byte[] decodeField(byte[] body, byte[] field) {
+        int start = 0;
+        while (start <= body.length) {
+            int end = indexOf(body, (byte) '&', start);
+            int nameEnd = start + field.length;
+            if (nameEnd < end && body[nameEnd] == '=' && regionMatches(body, start, field)) {
+                return percentDecode(body, nameEnd + 1, end);
+            }
+            start = end + 1;
+        }
+        return null;
+    }
+
+    private static int indexOf(byte[] bytes, byte target, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == target) {
+                return i;
+            }
+        }
+        return bytes.length;
+    }
+
+    private static boolean regionMatches(byte[] bytes, int offset, byte[] expected) {
+        for (int i = 0; i < expected.length; i++) {
+            if (bytes[offset + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] percentDecode(byte[] bytes, int from, int to) {
+        // Decoding only shrinks the value, so the encoded length is an upper bound
+        byte[] decoded = new byte[to - from];
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            byte b = bytes[i];
+            if (b == '+') {
+                decoded[length++] = ' ';
+            } else if (b == '%') {
+                if (i + 2 >= to) {
+                    throw new SlackPayloadParseException("Incomplete escape sequence in form-encoded payload");
+                }
+                int high = Character.digit(bytes[i + 1], 16);
+                int low = Character.digit(bytes[i + 2], 16);
+                if (high < 0 || low < 0) {
+                    throw new SlackPayloadParseException("Invalid escape sequence in form-encoded payload");
+                }
+                decoded[length++] = (byte) ((high << 4) | low);
+                i += 2;
+            } else {
+                decoded[length++] = b;
+            }
+        }
+        return length == decoded.length ? decoded : Arrays.copyOf(decoded, length);
+    }
+
+    /**
+     * Returns the interaction type used for routing (e.g., "view_submission", "view_closed")
+     *
+     * @return The type field value
+     * @throws SlackPayloadParseException if the type field is missing
+     */
+    public String getType() {
+        String type = root.path("type").asText();
+        if (type.isEmpty()) {
+            throw new SlackPayloadParseException("Missing 'type' field in payload");
+        }
+        return type;
+    }
+
+    /**
+     * Returns the ID of the user who triggered the interaction
+     *
+     * @return The user.id field value, or null if absent
+     */
+    public String getUserId() {
+        JsonNode userId = root.path("user").path("id");
+        return userId.isTextual() ? userId.asText() : null;
+    }
+
+    /**
+     * Returns the ID of the view the interaction belongs to, which Slack keeps the same across retries
+     *
+     * @return The view.id field value, or null if absent
+     */
+    public String getViewId() {
+        JsonNode viewId = root.path("view").path("id");
+        return viewId.isTextual() ? viewId.asText() : null;
+    }
+
+    /**
+     * Binds the payload to a typed request object
+     *
+     * @param targetClass The class to bind the payload into
+     * @param <T>         The type of the target class
+     * @return An instance of the target class populated from the payload
+     * @throws SlackPayloadParseException if the payload does not match the target class
+     */
+    public <T> T as(Class<T> targetClass) {
+        try {
+            return objectMapper.treeToValue(root, targetClass);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new SlackPayloadParseException("Failed to parse payload to type: " + targetClass.getName(), e);
+        }
+    }
+
+    /**
+     * Returns the decoded payload JSON, e.g. for audit logging
+     *
+     * @return The payload JSON text
+     */
+    public String getJson() {
+        if (jsonString == null) {
+            jsonString = new String(json, StandardCharsets.UTF_8);
+        }
+        return jsonString;
+    }
+}
@@ -21,6 +21,8 @@ import java.util.stream.Collectors;
  * </ul>
  * <p>
  * This class provides type-safe parsing using Java generics and Jackson ObjectMapper.
+ * Request handlers should use {@link SlackInteractionPayload} directly, which parses an interaction
+ * payload once and shares it for the rest of the request.
  */
 @Slf4j
 public class SlackRequestParser {
@@ -68,8 +70,7 @@ public class SlackRequestParser {
      */
     public static <T> T parsePayload(String requestBody, Class<T> targetClass) {
         try {
-            String payloadJson = extractPayloadJson(requestBody);
-            return objectMapper.readValue(payloadJson, targetClass);
+            return SlackInteractionPayload.parse(requestBody).as(targetClass);
 
         } catch (Exception e) {
             throw new SlackPayloadParseException(
@@ -89,13 +90,7 @@ public class SlackRequestParser {
      */
     public static String extractType(String requestBody) {
         try {
-            String payloadJson = extractPayloadJson(requestBody);
-            var rootNode = objectMapper.readTree(payloadJson);
-            String type = rootNode.path("type").asText();
-
-            if (type == null || type.isEmpty()) {
-                throw new SlackPayloadParseException("Missing 'type' field in payload");
-            }
+            String type = SlackInteractionPayload.parse(requestBody).getType();
 
             log.debug("Extracted interaction type: {}", type);
             return type;
@@ -6,21 +6,33 @@ import one.june.leave_management.common.exception.SlackSignatureVerificationExce
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.util.HexFormat;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Utility class for verifying Slack request signatures
  * This ensures that requests actually come from Slack and not from malicious actors
+ * <p>
+ * Initialized {@link Mac} instances are kept in a pool and reused, so a request only pays for the HMAC itself.
+ * The pool grows to the number of concurrent verifications and, unlike a ThreadLocal, does not create a Mac
+ * per thread when requests run on short-lived or virtual threads.
  */
 @Slf4j
 public class SlackRequestSignatureVerifier {
 
-    private final String signingSecret;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String VERSION_PREFIX = "v0=";
+
+    private final SecretKeySpec secretKey;
+    private final Queue<Mac> macPool = new ConcurrentLinkedQueue<>();
 
     public SlackRequestSignatureVerifier(String signingSecret) {
-        this.signingSecret = signingSecret;
+        this.secretKey = new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        // Fail at startup rather than on the first request if the key or algorithm is unusable
+        macPool.offer(newMac());
     }
 
     /**
@@ -32,6 +44,18 @@ public class SlackRequestSignatureVerifier {
      * @throws SlackSignatureVerificationException if the signature is invalid
      */
     public void verify(String signature, String timestamp, String requestBody) throws SlackSignatureVerificationException {
+        verify(signature, timestamp, requestBody.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Verifies the Slack request signature against the raw request body bytes
+     *
+     * @param signature The signature from X-Slack-Signature header
+     * @param timestamp The timestamp from X-Slack-Request-Timestamp header
+     * @param requestBody The raw request body, exactly as received
+     * @throws SlackSignatureVerificationException if the signature is invalid
+     */
+    public void verify(String signature, String timestamp, byte[] requestBody) throws SlackSignatureVerificationException {
         if (timestamp == null || timestamp.isEmpty()) {
             throw new SlackSignatureVerificationException("Missing timestamp parameter");
         }
@@ -53,12 +77,12 @@ public class SlackRequestSignatureVerifier {
             throw new SlackSignatureVerificationException("Invalid timestamp format");
         }
 
-        // Verify the signature
-        String expectedSignature = "v0=" + generateSignature(timestamp, requestBody);
+        // Verify the signature in constant time, so response timing does not reveal how much of it matched
+        byte[] expectedSignature = generateSignature(timestamp, requestBody);
+        byte[] actualSignature = decodeSignature(signature);
 
-        log.debug("Signature: {}, expected: {}", signature, expectedSignature);
-
-        if (!signature.equals(expectedSignature)) {
+        if (actualSignature == null || !MessageDigest.isEqual(expectedSignature, actualSignature)) {
+            log.debug("Slack signature mismatch, received: {}", signature);
             throw new SlackSignatureVerificationException("Invalid signature");
         }
 
@@ -66,23 +90,50 @@ public class SlackRequestSignatureVerifier {
     }
 
     /**
-     * Generates a signature for the given timestamp and request body
+     * Decodes a "v0=&lt;hex&gt;" signature header into the raw HMAC bytes
+     *
+     * @param signature The signature header value
+     * @return The decoded bytes, or null if the header is not a well-formed v0 signature
+     */
+    private static byte[] decodeSignature(String signature) {
+        if (!signature.startsWith(VERSION_PREFIX)) {
+            return null;
+        }
+        try {
+            return HexFormat.of().parseHex(signature, VERSION_PREFIX.length(), signature.length());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Generates the HMAC of "v0:{timestamp}:{body}" for the given timestamp and request body
      *
      * @param timestamp The request timestamp
      * @param requestBody The request body
-     * @return The generated signature
+     * @return The raw HMAC-SHA256 bytes
      */
-    private String generateSignature(String timestamp, String requestBody) {
+    private byte[] generateSignature(String timestamp, byte[] requestBody) {
+        Mac mac = macPool.poll();
+        if (mac == null) {
+            mac = newMac();
+        }
         try {
-            String baseString = "v0:" + timestamp + ":" + requestBody;
-
-            Mac mac = Mac.getInstance("HmacSHA256");
-            SecretKeySpec secretKeySpec = new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-            mac.init(secretKeySpec);
+            mac.update(("v0:" + timestamp + ":").getBytes(StandardCharsets.UTF_8));
+            return mac.doFinal(requestBody);
+        } finally {
+            // doFinal already resets the Mac; reset again in case the call failed halfway
+            mac.reset();
+            macPool.offer(mac);
+        }
+    }
 
-            byte[] hash = mac.doFinal(baseString.getBytes(StandardCharsets.UTF_8));
-            return HexFormat.of().formatHex(hash);
-        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
             throw new RuntimeException("Failed to generate signature", e);
         }
     }
@@ -0,0 +1,99 @@
+package one.june.leave_management.adapter.inbound.web;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import one.june.leave_management.adapter.inbound.web.dto.LeaveIngestionRequest;
+import one.june.leave_management.application.leave.command.LeaveIngestionCommand;
+import one.june.leave_management.application.leave.dto.LeaveIngestionResult;
+import one.june.leave_management.application.leave.service.LeaveService;
+import one.june.leave_management.common.mapper.LeaveMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Validates and ingests a group of leave requests as one batch.
+ * <p>
+ * Bean validation runs per item instead of through {@code @Valid}, so an invalid item becomes a
+ * failed result rather than rejecting the whole request. Valid items are handed to
+ * {@link LeaveService#ingestBatch(List)} together.
+ */
+@Component
+public class LeaveBatchIngestionHandler {
+    private static final Logger logger = LoggerFactory.getLogger(LeaveBatchIngestionHandler.class);
+
+    private final LeaveService leaveService;
+    private final LeaveMapper leaveMapper;
+    private final Validator validator;
+
+    public LeaveBatchIngestionHandler(LeaveService leaveService,
+                                      LeaveMapper leaveMapper,
+                                      Validator validator) {
+        this.leaveService = leaveService;
+        this.leaveMapper = leaveMapper;
+        this.validator = validator;
+    }
+
+    /**
+     * Ingest the given requests as one batch.
+     *
+     * @param requests the leave requests; null entries are reported as failed
+     * @param firstIndex index reported for the first request, so callers can number items across batches
+     * @return one result per request, in the same order
+     */
+    public List<LeaveIngestionResult> ingest(List<LeaveIngestionRequest> requests, int firstIndex) {
+        LeaveIngestionResult[] results = new LeaveIngestionResult[requests.size()];
+        List<LeaveIngestionCommand> commands = new ArrayList<>(requests.size());
+        List<Integer> commandPositions = new ArrayList<>(requests.size());
+
+        for (int position = 0; position < requests.size(); position++) {
+            LeaveIngestionRequest request = requests.get(position);
+            String error = validate(request);
+            if (error != null) {
+                results[position] = LeaveIngestionResult.failed(
+                        firstIndex + position,
+                        request != null ? request.getSourceType() : null,
+                        request != null ? request.getSourceId() : null,
+                        error);
+                continue;
+            }
+            commands.add(leaveMapper.toCommand(request, request.getSourceType(), request.getSourceId()));
+            commandPositions.add(position);
+        }
+
+        if (!commands.isEmpty()) {
+            List<LeaveIngestionResult> commandResults = leaveService.ingestBatch(commands);
+            for (int i = 0; i < commandResults.size(); i++) {
+                int position = commandPositions.get(i);
+                LeaveIngestionResult result = commandResults.get(i);
+                result.setIndex(firstIndex + position);
+                results[position] = result;
+            }
+        }
+
+        logger.debug("Processed batch of {} requests starting at index {}", requests.size(), firstIndex);
+        return Arrays.asList(results);
+    }
+
+    private String validate(LeaveIngestionRequest request) {
+        if (request == null) {
+            return "Leave request must not be null";
+        }
+
+        Set<ConstraintViolation<LeaveIngestionRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+}
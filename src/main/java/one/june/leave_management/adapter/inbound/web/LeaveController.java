@@ -7,15 +7,21 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import one.june.leave_management.adapter.inbound.web.dto.LeaveBatchIngestionResponse;
 import one.june.leave_management.adapter.inbound.web.dto.LeaveFetchQuery;
 import one.june.leave_management.adapter.inbound.web.dto.LeaveIngestionRequest;
 import one.june.leave_management.application.leave.command.LeaveIngestionCommand;
+import one.june.leave_management.application.leave.dto.LeaveCursorPage;
 import one.june.leave_management.application.leave.dto.LeaveDto;
+import one.june.leave_management.application.leave.dto.LeaveIngestionResult;
 import one.june.leave_management.application.leave.service.LeaveService;
 import one.june.leave_management.common.annotation.Auditable;
 import one.june.leave_management.common.mapper.LeaveMapper;
 import one.june.leave_management.common.model.Quarter;
+import one.june.leave_management.config.LeaveIngestionProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -30,19 +36,34 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/leaves")
 @Tag(name = "Leave Management", description = "APIs for managing leave requests and queries")
 public class LeaveController {
     private static final Logger logger = LoggerFactory.getLogger(LeaveController.class);
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
 
     private final LeaveService leaveService;
     private final LeaveMapper leaveMapper;
+    private final LeaveBatchIngestionHandler leaveBatchIngestionHandler;
+    private final LeaveStreamIngestionHandler leaveStreamIngestionHandler;
+    private final LeaveIngestionProperties leaveIngestionProperties;
 
     public LeaveController(LeaveService leaveService,
-                           LeaveMapper leaveMapper) {
+                           LeaveMapper leaveMapper,
+                           LeaveBatchIngestionHandler leaveBatchIngestionHandler,
+                           LeaveStreamIngestionHandler leaveStreamIngestionHandler,
+                           LeaveIngestionProperties leaveIngestionProperties) {
         this.leaveService = leaveService;
         this.leaveMapper = leaveMapper;
+        this.leaveBatchIngestionHandler = leaveBatchIngestionHandler;
+        this.leaveStreamIngestionHandler = leaveStreamIngestionHandler;
+        this.leaveIngestionProperties = leaveIngestionProperties;
     }
 
     @PostMapping("/ingest")
@@ -84,6 +105,82 @@ public class LeaveController {
         return ResponseEntity.status(HttpStatus.CREATED).body(result);
     }
 
+    @PostMapping("/ingest/batch")
+    @Auditable("Batch leave ingestion endpoint")
+    @Operation(
+            summary = "Create or update leave requests in bulk",
+            description = "Ingests an array of leave requests in a single transaction. Source references are resolved " +
+                    "and overlaps checked for the whole batch at once, and writes are batched. Each item gets its own " +
+                    "result, so invalid or overlapping items are reported without failing the rest of the batch.",
+            tags = {"Leave Management"}
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed - see per-item results for failures",
+                    content = @Content(schema = @Schema(implementation = LeaveBatchIngestionResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Batch is larger than the configured maximum size",
+                    content = @Content(schema = @Schema(implementation = one.june.leave_management.common.exception.ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = one.june.leave_management.common.exception.ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<LeaveBatchIngestionResponse> ingestLeaveBatch(
+            @Parameter(
+                    description = "Leave requests to create or update",
+                    required = true
+            )
+            @RequestBody List<LeaveIngestionRequest> requests) {
+        logger.info("Received batch leave ingestion request with {} items", requests.size());
+
+        if (requests.size() > leaveIngestionProperties.getBatchMaxSize()) {
+            throw new IllegalArgumentException("Batch size " + requests.size() +
+                    " exceeds the maximum of " + leaveIngestionProperties.getBatchMaxSize());
+        }
+
+        List<LeaveIngestionResult> results = leaveBatchIngestionHandler.ingest(requests, 0);
+        LeaveBatchIngestionResponse response = LeaveBatchIngestionResponse.of(results);
+
+        logger.info("Batch ingestion finished: {} succeeded, {} failed", response.getSucceeded(), response.getFailed());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/ingest/stream", consumes = NDJSON_MEDIA_TYPE, produces = NDJSON_MEDIA_TYPE)
+    @Auditable("Streaming leave ingestion endpoint")
+    @Operation(
+            summary = "Create or update leave requests from an NDJSON stream",
+            description = "Reads one leave request per line (application/x-ndjson) incrementally and commits them in " +
+                    "chunks of leave.ingestion.stream-chunk-size. One NDJSON result is streamed back per non-blank line " +
+                    "after each chunk commits; result indexes are zero-based line numbers. Lines longer than " +
+                    "leave.ingestion.stream-max-line-length characters are reported as failed. Intended for large backfills.",
+            tags = {"Leave Management"}
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Stream processed - one result line per input line",
+                    content = @Content(mediaType = NDJSON_MEDIA_TYPE,
+                            schema = @Schema(implementation = LeaveIngestionResult.class))
+            )
+    })
+    public void ingestLeaveStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.info("Received streaming leave ingestion request");
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(NDJSON_MEDIA_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        int failed = leaveStreamIngestionHandler.ingest(request.getInputStream(), response.getOutputStream());
+
+        logger.info("Streaming ingestion finished with {} failed lines", failed);
+    }
+
     @GetMapping
     @Auditable("Fetch leaves endpoint")
     @Operation(
@@ -141,4 +238,63 @@ public class LeaveController {
 
         return ResponseEntity.ok(result);
     }
-}
\ No newline at end of file
+
+    @GetMapping(params = "cursor")
+    @Auditable("Fetch leaves by cursor endpoint")
+    @Operation(
+            summary = "Fetch leave requests with optional filters using a cursor",
+            description = "Keyset-paginated variant of the fetch endpoint, selected by passing the cursor parameter. " +
+                    "Leaves are ordered by start date then ID. Pass an empty cursor for the first page and the returned " +
+                    "nextCursor for the following ones. No totals are computed, and the cost of a page does not depend " +
+                    "on how deep it is.",
+            tags = {"Leave Management"}
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Leave requests successfully retrieved",
+                    content = @Content(schema = @Schema(implementation = LeaveCursorPage.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request parameters - e.g., malformed cursor or quarter specified without year",
+                    content = @Content(schema = @Schema(implementation = one.june.leave_management.common.exception.ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = one.june.leave_management.common.exception.ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<LeaveCursorPage> fetchLeavesByCursor(
+            @Parameter(description = "Opaque cursor from the previous page; empty for the first page", example = "")
+            @RequestParam String cursor,
+            @Parameter(description = "Maximum number of leaves to return (1-" + MAX_CURSOR_PAGE_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Filter by user ID (optional)", example = "user123")
+            @RequestParam(required = false) String userId,
+            @Parameter(description = "Filter by year (optional, required when using quarter)", example = "2024")
+            @RequestParam(required = false) Integer year,
+            @Parameter(description = "Filter by quarter (optional, requires year to be specified)", example = "Q1")
+            @RequestParam(required = false) Quarter quarter) {
+        logger.info("Fetching leaves by cursor - userId: {}, year: {}, quarter: {}, cursor: {}, size: {}",
+                    userId, year, quarter, cursor, size);
+
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+
+        LeaveFetchQuery query = LeaveFetchQuery.builder()
+                .userId(userId)
+                .year(year)
+                .quarter(quarter)
+                .build();
+
+        LeaveCursorPage result = leaveService.fetchLeavesByCursor(query, cursor, size);
+
+        logger.info("Successfully fetched {} leaves by cursor (hasNext: {})",
+                    result.getContent().size(), result.isHasNext());
+
+        return ResponseEntity.ok(result);
+    }
+}
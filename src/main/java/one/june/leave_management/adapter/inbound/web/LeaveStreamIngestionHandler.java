@@ -0,0 +1,214 @@
+package one.june.leave_management.adapter.inbound.web;
+
+import one.june.leave_management.adapter.inbound.web.dto.LeaveIngestionRequest;
+import one.june.leave_management.application.leave.dto.LeaveIngestionOutcome;
+import one.june.leave_management.application.leave.dto.LeaveIngestionResult;
+import one.june.leave_management.config.LeaveIngestionProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ingests newline-delimited JSON leave requests from a stream, one chunk at a time.
+ * <p>
+ * Lines are read and parsed only until a chunk is full; the chunk is then committed through
+ * {@link LeaveBatchIngestionHandler} and its per-line results are written and flushed before
+ * the next line is read. Heap use is therefore bounded by the chunk size, and a slow database
+ * stops the reads, which fills the socket buffers and pushes back on the client. Lines are read
+ * up to {@code leave.ingestion.stream-max-line-length} characters; the rest of a longer line is
+ * skipped without being buffered and the line is reported as failed.
+ */
+@Component
+public class LeaveStreamIngestionHandler {
+    private static final Logger logger = LoggerFactory.getLogger(LeaveStreamIngestionHandler.class);
+
+    private final LeaveBatchIngestionHandler leaveBatchIngestionHandler;
+    private final LeaveIngestionProperties leaveIngestionProperties;
+    private final JsonMapper jsonMapper;
+
+    public LeaveStreamIngestionHandler(LeaveBatchIngestionHandler leaveBatchIngestionHandler,
+                                       LeaveIngestionProperties leaveIngestionProperties,
+                                       JsonMapper jsonMapper) {
+        this.leaveBatchIngestionHandler = leaveBatchIngestionHandler;
+        this.leaveIngestionProperties = leaveIngestionProperties;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Read NDJSON leave requests from {@code input} and write one NDJSON result per non-blank line to {@code output}.
+     * Result indexes are zero-based line numbers of the input. Lines longer than the configured maximum are failed.
+     *
+     * @param input the NDJSON request body
+     * @param output the response body
+     * @return the number of failed lines
+     * @throws IOException if reading the request or writing the response fails
+     */
+    public int ingest(InputStream input, OutputStream output) throws IOException {
+        int chunkSize = Math.max(1, leaveIngestionProperties.getStreamChunkSize());
+        int maxLineLength = Math.max(1, leaveIngestionProperties.getStreamMaxLineLength());
+        BoundedLineReader reader = new BoundedLineReader(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)), maxLineLength);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+
+        List<LeaveIngestionResult> chunkResults = new ArrayList<>(chunkSize);
+        List<LeaveIngestionRequest> chunkRequests = new ArrayList<>(chunkSize);
+        List<Integer> chunkRequestPositions = new ArrayList<>(chunkSize);
+        int lineIndex = 0;
+        int processed = 0;
+        int failed = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            int index = lineIndex++;
+            if (reader.isTooLong()) {
+                chunkResults.add(LeaveIngestionResult.failed(index, null, null,
+                        "Line exceeds the maximum length of " + maxLineLength + " characters"));
+            } else if (line.isBlank()) {
+                continue;
+            } else {
+                try {
+                    chunkRequests.add(jsonMapper.readValue(line, LeaveIngestionRequest.class));
+                    chunkRequestPositions.add(chunkResults.size());
+                    chunkResults.add(LeaveIngestionResult.builder().index(index).build());
+                } catch (JacksonException e) {
+                    chunkResults.add(LeaveIngestionResult.failed(index, null, null,
+                            "Malformed JSON line: " + e.getOriginalMessage()));
+                }
+            }
+
+            if (chunkResults.size() >= chunkSize) {
+                failed += flushChunk(chunkResults, chunkRequests, chunkRequestPositions, writer);
+                processed += chunkResults.size();
+                chunkResults.clear();
+                chunkRequests.clear();
+                chunkRequestPositions.clear();
+            }
+        }
+
+        if (!chunkResults.isEmpty()) {
+            failed += flushChunk(chunkResults, chunkRequests, chunkRequestPositions, writer);
+            processed += chunkResults.size();
+        }
+
+        logger.info("Streamed ingestion of {} lines finished with {} failures", processed, failed);
+        return failed;
+    }
+
+    /**
+     * Commit one chunk, write its results in line order and flush them to the client.
+     *
+     * @return the number of failed lines in the chunk
+     */
+    private int flushChunk(List<LeaveIngestionResult> chunkResults,
+                           List<LeaveIngestionRequest> chunkRequests,
+                           List<Integer> chunkRequestPositions,
+                           Writer writer) throws IOException {
+        if (!chunkRequests.isEmpty()) {
+            try {
+                List<LeaveIngestionResult> batchResults = leaveBatchIngestionHandler.ingest(chunkRequests, 0);
+                for (int i = 0; i < batchResults.size(); i++) {
+                    int position = chunkRequestPositions.get(i);
+                    LeaveIngestionResult result = batchResults.get(i);
+                    result.setIndex(chunkResults.get(position).getIndex());
+                    chunkResults.set(position, result);
+                }
+            } catch (RuntimeException e) {
+                // Not tied to any one line (rejected writes are already retried per line by the batch);
+                // the chunk's transaction rolled back, so report every line in it and keep going
+                logger.error("Failed to commit chunk starting at line {}", chunkResults.get(0).getIndex(), e);
+                for (int i = 0; i < chunkRequests.size(); i++) {
+                    int position = chunkRequestPositions.get(i);
+                    LeaveIngestionRequest request = chunkRequests.get(i);
+                    chunkResults.set(position, LeaveIngestionResult.failed(
+                            chunkResults.get(position).getIndex(),
+                            request.getSourceType(),
+                            request.getSourceId(),
+                            "Chunk could not be committed: " + e.getMessage()));
+                }
+            }
+        }
+
+        int failed = 0;
+        for (LeaveIngestionResult result : chunkResults) {
+            if (result.getOutcome() == LeaveIngestionOutcome.FAILED) {
+                failed++;
+            }
+            writer.write(jsonMapper.writeValueAsString(result));
+            writer.write('\n');
+        }
+        writer.flush();
+        return failed;
+    }
+
+    /**
+     * Reads lines terminated by LF or CRLF, buffering at most {@code maxLength} characters of each
+     */
+    private static final class BoundedLineReader {
+        private final Reader reader;
+        private final int maxLength;
+        private final StringBuilder line = new StringBuilder();
+        private boolean tooLong;
+
+        BoundedLineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * Read the next line, of which only the first characters are kept if it is too long.
+         *
+         * @return the line without its terminator, or null at the end of the stream
+         */
+        String readLine() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            boolean read = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                read = true;
+                if (c == '\n') {
+                    break;
+                }
+                // One character of slack for the CR of a CRLF terminator
+                if (line.length() <= maxLength) {
+                    line.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+            }
+            if (!read) {
+                return null;
+            }
+
+            if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+                line.setLength(line.length() - 1);
+            }
+            if (line.length() > maxLength) {
+                tooLong = true;
+            }
+            return line.toString();
+        }
+
+        /**
+         * Whether the line last read was longer than the maximum length
+         */
+        boolean isTooLong() {
+            return tooLong;
+        }
+    }
+}
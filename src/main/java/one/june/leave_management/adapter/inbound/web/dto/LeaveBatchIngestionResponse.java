@@ -0,0 +1,50 @@
+package one.june.leave_management.adapter.inbound.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import one.june.leave_management.application.leave.dto.LeaveIngestionOutcome;
+import one.june.leave_management.application.leave.dto.LeaveIngestionResult;
+
+import java.util.List;
+
+/**
+ * Response DTO for the batch leave ingestion endpoint
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Summary and per-item results of a batch leave ingestion")
+public class LeaveBatchIngestionResponse {
+
+    @Schema(description = "Number of items submitted", example = "3")
+    private int total;
+
+    @Schema(description = "Number of items created or updated", example = "2")
+    private int succeeded;
+
+    @Schema(description = "Number of items rejected", example = "1")
+    private int failed;
+
+    @Schema(description = "One result per submitted item, in submission order")
+    private List<LeaveIngestionResult> results;
+
+    public static LeaveBatchIngestionResponse of(List<LeaveIngestionResult> results) {
+        int failed = (int) results.stream()
+                .filter(result -> result.getOutcome() == LeaveIngestionOutcome.FAILED)
+                .count();
+        return LeaveBatchIngestionResponse.builder()
+                .total(results.size())
+                .succeeded(results.size() - failed)
+                .failed(failed)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package one.june.leave_management.adapter.outbound.slack.builder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import one.june.leave_management.adapter.outbound.slack.dto.SlackModalView;
+import one.june.leave_management.adapter.outbound.slack.dto.blocks.elements.SlackOption;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Pre-serialized leave application modal
+ * <p>
+ * Every /leave command opens the same modal; only private_metadata (the thread context) differs. The view is
+ * built and serialized to JSON once at startup, split around a placeholder for the metadata, and each request
+ * only splices in its JSON-escaped metadata. This keeps block building and Jackson serialization off the
+ * slash-command path, which has to reach Slack within 3 seconds.
+ */
+@Component
+public class LeaveApplicationModalTemplate {
+
+    private static final String METADATA_PLACEHOLDER = "__leave_application_private_metadata__";
+
+    private final String prefix;
+    private final String suffix;
+
+    public LeaveApplicationModalTemplate() {
+        String json;
+        try {
+            json = new ObjectMapper().writeValueAsString(buildModal(METADATA_PLACEHOLDER));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize the leave application modal", e);
+        }
+
+        int index = json.indexOf(METADATA_PLACEHOLDER);
+        if (index < 0 || json.indexOf(METADATA_PLACEHOLDER, index + 1) >= 0) {
+            throw new IllegalStateException("Leave application modal must contain the metadata placeholder once");
+        }
+        this.prefix = json.substring(0, index);
+        this.suffix = json.substring(index + METADATA_PLACEHOLDER.length());
+    }
+
+    /**
+     * Renders the modal view JSON for one request
+     *
+     * @param privateMetadata The private_metadata to embed (thread context JSON)
+     * @return The view JSON, ready to send as the "view" of a views.open call
+     */
+    public String render(String privateMetadata) {
+        char[] escaped = JsonStringEncoder.getInstance().quoteAsString(privateMetadata);
+        return new StringBuilder(prefix.length() + escaped.length + suffix.length())
+                .append(prefix)
+                .append(escaped)
+                .append(suffix)
+                .toString();
+    }
+
+    /**
+     * Builds a modal view for leave application
+     * <p>
+     * The modal contains form fields for:
+     * - Leave type (Annual Leave / Optional Holiday)
+     * - Duration (Full Day / First Half / Second Half)
+     * - Start date
+     * - End date
+     * - Reason (optional)
+     * <p>
+     * This structure follows Slack's Block Kit format for modals.
+     * Reference: <a href="https://api.slack.com/block-kit/building">...</a>
+     *
+     * @param privateMetadata The private_metadata to embed (thread context JSON)
+     * @return A configured SlackModalView for leave application
+     */
+    static SlackModalView buildModal(String privateMetadata) {
+        // Leave Type options (ANNUAL_LEAVE, OPTIONAL_HOLIDAY)
+        List<SlackOption> leaveTypeOptions = List.of(
+                SlackOption.of("Annual Leave", "ANNUAL_LEAVE"),
+                SlackOption.of("Optional Holiday", "OPTIONAL_HOLIDAY")
+        );
+
+        // Leave Duration options (FULL_DAY, FIRST_HALF, SECOND_HALF)
+        List<SlackOption> leaveDurationOptions = List.of(
+                SlackOption.of("Full Day", "FULL_DAY"),
+                SlackOption.of("First Half", "FIRST_HALF"),
+                SlackOption.of("Second Half", "SECOND_HALF")
+        );
+
+        List<Object> blocks = List.of(
+                // Leave Type selection (ANNUAL_LEAVE vs OPTIONAL_HOLIDAY)
+                SlackBlockBuilder.radioButtonsInput(
+                        "leave_type_category_block",
+                        "leave_type_category_action",
+                        "Leave Type",
+                        leaveTypeOptions,
+                        "ANNUAL_LEAVE"
+                ),
+
+                // Leave Duration selection (FULL_DAY vs HALF_DAY)
+                SlackBlockBuilder.radioButtonsInput(
+                        "leave_duration_block",
+                        "leave_duration_action",
+                        "Duration",
+                        leaveDurationOptions,
+                        "FULL_DAY"
+                ),
+
+                // Start date
+                SlackBlockBuilder.dateInput(
+                        "start_date_block",
+                        "start_date_action",
+                        "Start Date",
+                        "Select a date",
+                        false // required
+                ),
+
+                // End date
+                SlackBlockBuilder.dateInput(
+                        "end_date_block",
+                        "end_date_action",
+                        "End Date",
+                        "Select a date",
+                        false // required
+                ),
+
+                // Reason
+                SlackBlockBuilder.plainTextInput(
+                        "reason_block",
+                        "reason_action",
+                        "Reason",
+                        "Optional: Provide a reason for your leave",
+                        true, // multiline
+                        true // optional
+                )
+        );
+
+        return SlackModalBuilder.create("Apply for Leave", "leave_application_submit")
+                .withBlocks(blocks)
+                .withPrivateMetadata(privateMetadata)
+                .build();
+    }
+}
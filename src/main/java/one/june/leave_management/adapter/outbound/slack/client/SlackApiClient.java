@@ -1,5 +1,6 @@
 package one.june.leave_management.adapter.outbound.slack.client;
 
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
 import lombok.extern.slf4j.Slf4j;
 import one.june.leave_management.adapter.outbound.slack.dto.SlackErrorMessageRequest;
 import one.june.leave_management.adapter.outbound.slack.dto.SlackMessageRequest;
@@ -7,6 +8,7 @@ import one.june.leave_management.adapter.outbound.slack.dto.SlackMessageResponse
 import one.june.leave_management.adapter.outbound.slack.dto.SlackModalView;
 import one.june.leave_management.adapter.outbound.slack.dto.SlackViewOpenRequest;
 import one.june.leave_management.adapter.outbound.slack.dto.SlackViewOpenResponse;
+import one.june.leave_management.common.exception.SlackRateLimitedException;
 import one.june.leave_management.config.SlackProperties;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpEntity;
@@ -15,30 +17,42 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 /**
  * Outbound adapter for communicating with Slack API
  * Handles HTTP calls to Slack endpoints for modal operations
+ * Messages are sent through the {@link SlackMessageDispatcher} so they respect Slack's rate limits
  */
 @Slf4j
 @Component
 @ConditionalOnProperty(name = "slack.enabled", havingValue = "true", matchIfMissing = true)
 public class SlackApiClient {
 
+    private static final String CHAT_POST_MESSAGE = "chat.postMessage";
+
     private final RestTemplate restTemplate;
     private final SlackProperties slackProperties;
+    private final SlackMessageDispatcher messageDispatcher;
 
     /**
      * Creates a new SlackApiClient
      *
      * @param restTemplate The configured RestTemplate for making HTTP requests
      * @param slackProperties The Slack configuration properties
+     * @param messageDispatcher The queue that rate limits, orders and retries posted messages
      */
-    public SlackApiClient(RestTemplate restTemplate, SlackProperties slackProperties) {
+    public SlackApiClient(RestTemplate restTemplate, SlackProperties slackProperties,
+                          SlackMessageDispatcher messageDispatcher) {
         this.restTemplate = restTemplate;
         this.slackProperties = slackProperties;
+        this.messageDispatcher = messageDispatcher;
     }
 
     /**
@@ -57,6 +71,41 @@ public class SlackApiClient {
     public SlackViewOpenResponse openModal(String triggerId, SlackModalView view) {
         log.info("Opening modal in Slack with trigger_id: {}", triggerId);
 
+        String botToken = validateViewsOpen(triggerId);
+
+        SlackViewOpenRequest request = SlackViewOpenRequest.builder()
+                .triggerId(triggerId)
+                .view(view)
+                .build();
+
+        return sendViewsOpen(request, botToken);
+    }
+
+    /**
+     * Opens a modal view in Slack from an already serialized view
+     * <p>
+     * Used with {@link one.june.leave_management.adapter.outbound.slack.builder.LeaveApplicationModalTemplate},
+     * which renders the view JSON without building or serializing the blocks per request. The request body is
+     * written as-is instead of going through the message converters.
+     *
+     * @param triggerId The trigger ID received from the slash command
+     * @param viewJson  The modal view as a JSON object
+     * @return The response from Slack API
+     * @throws RuntimeException if the API call fails
+     */
+    public SlackViewOpenResponse openPrecompiledModal(String triggerId, String viewJson) {
+        log.info("Opening precompiled modal in Slack with trigger_id: {}", triggerId);
+
+        String botToken = validateViewsOpen(triggerId);
+
+        String request = "{\"trigger_id\":\""
+                + new String(JsonStringEncoder.getInstance().quoteAsString(triggerId))
+                + "\",\"view\":" + viewJson + "}";
+
+        return sendViewsOpen(request, botToken);
+    }
+
+    private String validateViewsOpen(String triggerId) {
         String botToken = slackProperties.getBotToken();
 
         // Validate inputs
@@ -70,11 +119,10 @@ public class SlackApiClient {
             throw new RuntimeException("Trigger ID cannot be null or empty");
         }
 
-        SlackViewOpenRequest request = SlackViewOpenRequest.builder()
-                .triggerId(triggerId)
-                .view(view)
-                .build();
+        return botToken;
+    }
 
+    private SlackViewOpenResponse sendViewsOpen(Object request, String botToken) {
         String fullApiUrl = slackProperties.getApiBaseUrl() + slackProperties.getViewsOpenEndpoint();
 
         try {
@@ -85,7 +133,7 @@ public class SlackApiClient {
             headers.setBearerAuth(botToken);
 
             // Create the HTTP entity with headers and body
-            HttpEntity<SlackViewOpenRequest> entity = new HttpEntity<>(request, headers);
+            HttpEntity<Object> entity = new HttpEntity<>(request, headers);
 
             log.debug("Sending request to Slack API...");
 
@@ -198,6 +246,8 @@ public class SlackApiClient {
      * <p>
      * This method is used to create thread anchor messages or post updates.
      * Returns the message timestamp (ts) which can be used as thread_ts for replies.
+     * The message is queued behind earlier messages to the same channel or thread and this
+     * method waits until it has been sent, for up to the dispatcher's maxWait.
      * <p>
      * Slack API reference: <a href="https://api.slack.com/methods/chat.postMessage">...</a>
      *
@@ -209,6 +259,33 @@ public class SlackApiClient {
     public SlackMessageResponse postMessage(String channelId, SlackMessageRequest message) {
         log.info("Posting message to channel: {}", channelId);
 
+        Supplier<SlackMessageResponse> call = postMessageCall(channelId, message);
+        return messageDispatcher.execute(CHAT_POST_MESSAGE, channelId, message.getThreadTs(), call);
+    }
+
+    /**
+     * Posts a message to a Slack channel, waiting at most the given time for it to be sent
+     * <p>
+     * Used when the caller has to answer Slack itself within a deadline. If the message has not been sent
+     * when the wait runs out it is withdrawn from the queue and never posted.
+     *
+     * @param channelId The channel ID where the message should be posted
+     * @param message   The message request containing blocks and other content
+     * @param maxWait   How long to wait for the message to be sent
+     * @return The response from Slack API containing the message timestamp
+     * @throws RuntimeException if the API call fails or the wait times out
+     */
+    public SlackMessageResponse postMessage(String channelId, SlackMessageRequest message, Duration maxWait) {
+        log.info("Posting message to channel: {} within {}", channelId, maxWait);
+
+        Supplier<SlackMessageResponse> call = postMessageCall(channelId, message);
+        return messageDispatcher.execute(CHAT_POST_MESSAGE, channelId, message.getThreadTs(), call, maxWait);
+    }
+
+    /**
+     * Validates a chat.postMessage request and builds the call the dispatcher runs for it
+     */
+    private Supplier<SlackMessageResponse> postMessageCall(String channelId, SlackMessageRequest message) {
         String botToken = slackProperties.getBotToken();
 
         // Validate inputs
@@ -230,8 +307,12 @@ public class SlackApiClient {
         // Ensure channel is set in the message
         message.setChannel(channelId);
 
-        String fullApiUrl = slackProperties.getApiBaseUrl() + "/chat.postMessage";
+        String fullApiUrl = slackProperties.getApiBaseUrl() + "/" + CHAT_POST_MESSAGE;
+
+        return () -> sendMessage(fullApiUrl, botToken, message);
+    }
 
+    private SlackMessageResponse sendMessage(String fullApiUrl, String botToken, SlackMessageRequest message) {
         try {
             // Set up headers with authorization and content type
             HttpHeaders headers = new HttpHeaders();
@@ -269,6 +350,10 @@ public class SlackApiClient {
             log.info("Successfully posted message. Message timestamp (ts): {}", response.getTs());
             return response;
 
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            Duration retryAfter = retryAfter(e.getResponseHeaders());
+            log.warn("Slack chat.postMessage API rate limited the request. Retry-After: {}", retryAfter);
+            throw new SlackRateLimitedException(CHAT_POST_MESSAGE, retryAfter, e);
         } catch (RestClientException e) {
             log.error("HTTP error calling Slack chat.postMessage API. Type: {}, Message: {}",
                     e.getClass().getName(), e.getMessage(), e);
@@ -309,4 +394,51 @@ public class SlackApiClient {
         // Reuse postMessage logic
         return postMessage(channelId, message);
     }
+
+    /**
+     * Queues a threaded reply without waiting for it to be sent
+     * <p>
+     * Used for replies nothing else waits on, such as the outcome of a leave request: the caller is not held
+     * up while the channel is rate limited, and a slow queue is not mistaken for a failed post.
+     *
+     * @param channelId The channel ID where the thread exists
+     * @param threadTs  The thread timestamp (ts) of the parent message
+     * @param message   The message request containing blocks and other content
+     * @return A future completed with the response from Slack API, or with the error once posting fails for good
+     * @throws RuntimeException if the request is invalid
+     */
+    public CompletableFuture<SlackMessageResponse> submitThreadReply(String channelId, String threadTs,
+                                                                     SlackMessageRequest message) {
+        log.info("Queueing thread reply to channel: {}, thread_ts: {}", channelId, threadTs);
+
+        // Validate thread_ts
+        if (threadTs == null || threadTs.trim().isEmpty()) {
+            log.error("Thread timestamp (threadTs) is null or empty");
+            throw new RuntimeException("Thread timestamp cannot be null or empty");
+        }
+
+        // Set the thread_ts in the message
+        message.setThreadTs(threadTs);
+
+        Supplier<SlackMessageResponse> call = postMessageCall(channelId, message);
+        return messageDispatcher.submit(CHAT_POST_MESSAGE, channelId, threadTs, call);
+    }
+
+    /**
+     * Reads the delay Slack asks for on a 429, given in seconds in the Retry-After header
+     *
+     * @param headers The response headers, may be null
+     * @return The requested delay, or null when the header is missing or not a number of seconds
+     */
+    static Duration retryAfter(HttpHeaders headers) {
+        String value = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
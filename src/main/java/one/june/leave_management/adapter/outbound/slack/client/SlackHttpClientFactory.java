@@ -0,0 +1,127 @@
+package one.june.leave_management.adapter.outbound.slack.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import one.june.leave_management.config.SlackHttpProperties;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the HTTP request factory used for Slack API calls.
+ * <p>
+ * Connections are kept alive and reused, so consecutive chat.postMessage/views.open calls skip the TCP and TLS
+ * handshake. The Apache client keeps a bounded pool per host, evicts idle connections in the background and
+ * publishes pool metrics under the name {@code slack}. The JDK client negotiates HTTP/2 where available, but
+ * manages its own pool: it only honors the connect and read timeouts, and a warning lists the pool settings it
+ * ignores.
+ */
+@Slf4j
+public class SlackHttpClientFactory {
+
+    /**
+     * Name tag of the published connection pool metrics
+     */
+    public static final String POOL_NAME = "slack";
+
+    private final SlackHttpProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public SlackHttpClientFactory(SlackHttpProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Create the request factory for the configured client type.
+     * The returned factory owns its client and closes it when destroyed.
+     *
+     * @return a pooled, keep-alive request factory
+     */
+    public ClientHttpRequestFactory create() {
+        log.info("Creating Slack HTTP client: {}", properties);
+        return switch (properties.getClient()) {
+            case APACHE -> createApache();
+            case JDK -> createJdk();
+        };
+    }
+
+    private HttpComponentsClientHttpRequestFactory createApache() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnectionsTotal())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeout().toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(properties.getReadTimeout().toMillis()))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(
+                                Timeout.ofMilliseconds(properties.getConnectionRequestTimeout().toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(properties.getReadTimeout().toMillis()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(properties.getMaxIdleTime().toMillis()))
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    private JdkClientHttpRequestFactory createJdk() {
+        List<String> ignored = ignoredByJdk(properties);
+        if (!ignored.isEmpty()) {
+            log.warn("slack.http.client=JDK ignores {}: the JDK client sizes and evicts its own connection pool "
+                    + "and publishes no pool metrics", String.join(", ", ignored));
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+        return requestFactory;
+    }
+
+    /**
+     * Pool settings changed from their defaults, which the JDK client cannot apply
+     *
+     * @param properties The configured properties
+     * @return The names of the ignored settings, empty when all are left at their defaults
+     */
+    static List<String> ignoredByJdk(SlackHttpProperties properties) {
+        SlackHttpProperties defaults = SlackHttpProperties.builder().build();
+        List<String> ignored = new ArrayList<>();
+        if (properties.getMaxConnectionsTotal() != defaults.getMaxConnectionsTotal()) {
+            ignored.add("max-connections-total");
+        }
+        if (properties.getMaxConnectionsPerRoute() != defaults.getMaxConnectionsPerRoute()) {
+            ignored.add("max-connections-per-route");
+        }
+        if (!properties.getConnectionRequestTimeout().equals(defaults.getConnectionRequestTimeout())) {
+            ignored.add("connection-request-timeout");
+        }
+        if (!properties.getMaxIdleTime().equals(defaults.getMaxIdleTime())) {
+            ignored.add("max-idle-time");
+        }
+        return ignored;
+    }
+}
@@ -0,0 +1,472 @@
+package one.june.leave_management.adapter.outbound.slack.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import one.june.leave_management.common.exception.SlackRateLimitedException;
+import one.june.leave_management.config.SlackDispatchProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Rate-limit-aware queue for outbound Slack messages
+ * <p>
+ * Messages are queued in lanes, one per channel or per thread, and each lane sends one message at a time, so
+ * replies in a thread arrive in the order they were submitted. Before a message is sent it takes a token from
+ * the bucket of its API method and from the bucket of its channel; when either is empty the lane is rescheduled
+ * for when a token frees up instead of blocking a thread.
+ * <p>
+ * A 429 from Slack pauses the whole method for the Retry-After delay and retries the message. Network errors and
+ * 5xx responses are retried with jittered exponential backoff. Any other failure, or running out of attempts,
+ * fails the message and the lane moves on.
+ * <p>
+ * A caller that stops waiting withdraws its message: unless a sender has already picked it up, it is dropped
+ * from its lane and never sent.
+ * <p>
+ * views.open is not queued: its trigger_id expires three seconds after the user's action.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "slack.enabled", havingValue = "true", matchIfMissing = true)
+public class SlackMessageDispatcher implements DisposableBean {
+
+    private final SlackDispatchProperties properties;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> methodBuckets = new ConcurrentHashMap<>();
+    private final Cache<String, TokenBucket> channelBuckets;
+    private final AtomicInteger backlog = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService senders;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter rateLimitedCounter;
+    private final Counter failedCounter;
+    private final Counter withdrawnCounter;
+    private final Timer latencyTimer;
+
+    public SlackMessageDispatcher(SlackDispatchProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        // An idle channel's bucket is full again after a few seconds, so dropping it loses nothing
+        this.channelBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+
+        if (properties.isEnabled()) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                    runnable -> daemon(runnable, "slack-dispatch-scheduler"));
+            AtomicInteger threadCount = new AtomicInteger();
+            this.senders = Executors.newFixedThreadPool(properties.getSenderThreads(),
+                    runnable -> daemon(runnable, "slack-dispatch-" + threadCount.incrementAndGet()));
+        } else {
+            this.scheduler = null;
+            this.senders = null;
+        }
+
+        Gauge.builder("slack.dispatch.backlog", backlog, AtomicInteger::get)
+                .description("Slack messages queued or in flight")
+                .register(meterRegistry);
+        Gauge.builder("slack.dispatch.lanes", lanes, Map::size)
+                .description("Channels and threads with queued Slack messages")
+                .register(meterRegistry);
+        this.sentCounter = dispatchCounter("sent", meterRegistry);
+        this.retriedCounter = dispatchCounter("retried", meterRegistry);
+        this.rateLimitedCounter = dispatchCounter("rate_limited", meterRegistry);
+        this.failedCounter = dispatchCounter("failed", meterRegistry);
+        this.withdrawnCounter = dispatchCounter("withdrawn", meterRegistry);
+        this.latencyTimer = Timer.builder("slack.dispatch.latency")
+                .description("Time from queueing a Slack message until it was sent")
+                .register(meterRegistry);
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static Counter dispatchCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("slack.dispatch.messages")
+                .description("Slack message send attempts by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue a Slack call and wait for its result for up to the configured maxWait
+     *
+     * @param method    The Slack API method, used to pick the token bucket (e.g., "chat.postMessage")
+     * @param channelId The channel the message is posted to
+     * @param threadTs  The thread the message is posted to, or null for a top-level message
+     * @param call      The call to Slack; runs on a sender thread
+     * @return The result of the call
+     * @throws RuntimeException the call's own exception once it fails for good, or if the wait times out
+     * @see #execute(String, String, String, Supplier, Duration)
+     */
+    public <T> T execute(String method, String channelId, String threadTs, Supplier<T> call) {
+        return execute(method, channelId, threadTs, call, properties.getMaxWait());
+    }
+
+    /**
+     * Queue a Slack call and wait for its result
+     * <p>
+     * When the wait times out the message is withdrawn, so a caller that reports the timeout never sees the
+     * message turn up later. Only a message a sender is already working on can no longer be withdrawn.
+     *
+     * @param method    The Slack API method, used to pick the token bucket (e.g., "chat.postMessage")
+     * @param channelId The channel the message is posted to
+     * @param threadTs  The thread the message is posted to, or null for a top-level message
+     * @param call      The call to Slack; runs on a sender thread
+     * @param maxWait   How long to wait before withdrawing the message
+     * @return The result of the call
+     * @throws RuntimeException the call's own exception once it fails for good, or if the wait times out
+     */
+    public <T> T execute(String method, String channelId, String threadTs, Supplier<T> call, Duration maxWait) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+
+        PendingMessage<T> message = enqueue(method, channelId, threadTs, call);
+        try {
+            return message.result.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Slack " + method + " failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            String outcome = withdraw(message)
+                    ? "the message was withdrawn and will not be sent"
+                    : "the message was already being sent";
+            throw new RuntimeException("Timed out after " + maxWait + " waiting for Slack " + method + "; "
+                    + outcome, e);
+        } catch (InterruptedException e) {
+            withdraw(message);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted waiting for Slack " + method, e);
+        }
+    }
+
+    /**
+     * Queue a Slack call without waiting for it
+     *
+     * @param method    The Slack API method, used to pick the token bucket (e.g., "chat.postMessage")
+     * @param channelId The channel the message is posted to
+     * @param threadTs  The thread the message is posted to, or null for a top-level message
+     * @param call      The call to Slack; runs on a sender thread
+     * @return A future completed with the call's result, or its exception once it fails for good
+     */
+    public <T> CompletableFuture<T> submit(String method, String channelId, String threadTs, Supplier<T> call) {
+        if (!properties.isEnabled()) {
+            try {
+                return CompletableFuture.completedFuture(call.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        return enqueue(method, channelId, threadTs, call).result;
+    }
+
+    private <T> PendingMessage<T> enqueue(String method, String channelId, String threadTs, Supplier<T> call) {
+        PendingMessage<T> message = new PendingMessage<>(method, call);
+        String laneKey = threadTs == null ? channelId : channelId + "/" + threadTs;
+        boolean[] created = new boolean[1];
+        backlog.incrementAndGet();
+
+        // A lane exists exactly while it has messages, and only its own dispatch chain removes it
+        Lane lane = lanes.compute(laneKey, (key, current) -> {
+            Lane target = current;
+            if (target == null) {
+                target = new Lane(key, channelId);
+                created[0] = true;
+            }
+            target.queue.add(message);
+            return target;
+        });
+
+        if (created[0]) {
+            scheduler.execute(() -> dispatchNext(lane));
+        }
+        return message;
+    }
+
+    private boolean withdraw(PendingMessage<?> message) {
+        if (!message.withdraw()) {
+            return false;
+        }
+        withdrawnCounter.increment();
+        // The lane drops the message once it reaches the head, without taking a token for it
+        return true;
+    }
+
+    /**
+     * Send the head of the lane once both of its token buckets allow it; runs on the scheduler thread
+     */
+    private void dispatchNext(Lane lane) {
+        PendingMessage<?> message = lane.queue.peek();
+        if (message.isWithdrawn()) {
+            finish(lane);
+            return;
+        }
+        long waitNanos = acquire(message.method, lane.channelId);
+        if (waitNanos > 0) {
+            scheduler.schedule(() -> dispatchNext(lane), waitNanos, TimeUnit.NANOSECONDS);
+            return;
+        }
+        senders.execute(() -> send(lane, message));
+    }
+
+    private synchronized long acquire(String method, String channelId) {
+        TokenBucket methodBucket = methodBucket(method);
+        TokenBucket channelBucket = channelBuckets.get(channelId, id -> new TokenBucket(
+                properties.getChannelPermitsPerSecond(), properties.getChannelBurst()));
+        long now = System.nanoTime();
+        long waitNanos = Math.max(methodBucket.nanosUntilAvailable(now), channelBucket.nanosUntilAvailable(now));
+        if (waitNanos == 0) {
+            methodBucket.take();
+            channelBucket.take();
+        }
+        return waitNanos;
+    }
+
+    private synchronized void pause(String method, Duration delay) {
+        long now = System.nanoTime();
+        methodBucket(method).pause(now, now + delay.toNanos());
+    }
+
+    private TokenBucket methodBucket(String method) {
+        return methodBuckets.computeIfAbsent(method, key -> new TokenBucket(
+                properties.getMethodPermitsPerSecond().getOrDefault(key, properties.getDefaultMethodPermitsPerSecond()),
+                properties.getMethodBurst()));
+    }
+
+    private void send(Lane lane, PendingMessage<?> message) {
+        if (!message.startSending()) {
+            // Withdrawn after it got its tokens
+            finish(lane);
+            return;
+        }
+        message.attempts++;
+        try {
+            message.run(() -> {
+                sentCounter.increment();
+                latencyTimer.record(System.nanoTime() - message.queuedAtNanos, TimeUnit.NANOSECONDS);
+            });
+            finish(lane);
+        } catch (SlackRateLimitedException e) {
+            rateLimitedCounter.increment();
+            Duration retryAfter = e.getRetryAfter() != null ? e.getRetryAfter() : properties.getDefaultRetryAfter();
+            log.warn("Slack rate limited {}, pausing it for {}", message.method, retryAfter);
+            // Later messages of every lane using this method wait for the pause through the bucket
+            pause(message.method, retryAfter);
+            retryOrFail(lane, message, e, Duration.ZERO);
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                retryOrFail(lane, message, e, backoff(message.attempts));
+            } else {
+                fail(lane, message, e);
+            }
+        }
+    }
+
+    private void retryOrFail(Lane lane, PendingMessage<?> message, RuntimeException error, Duration delay) {
+        if (message.attempts >= properties.getMaxAttempts()) {
+            fail(lane, message, error);
+            return;
+        }
+        retriedCounter.increment();
+        message.requeue();
+        log.warn("Retrying Slack {} to {} in {} (attempt {} of {}): {}", message.method, lane.key, delay,
+                message.attempts, properties.getMaxAttempts(), error.getMessage());
+        // The message stays at the head of its lane, so nothing behind it overtakes it, and can be withdrawn
+        // until it is sent again
+        scheduler.schedule(() -> dispatchNext(lane), delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void fail(Lane lane, PendingMessage<?> message, RuntimeException error) {
+        failedCounter.increment();
+        log.error("Giving up on Slack {} to {} after {} attempt(s)", message.method, lane.key, message.attempts, error);
+        message.result.completeExceptionally(error);
+        finish(lane);
+    }
+
+    /**
+     * Drop the head of the lane and carry on with the next message, or remove the lane once it is empty
+     */
+    private void finish(Lane lane) {
+        lane.queue.poll();
+        backlog.decrementAndGet();
+        Lane next = lanes.compute(lane.key, (key, current) ->
+                current == null || current.queue.isEmpty() ? null : current);
+        if (next != null) {
+            scheduler.execute(() -> dispatchNext(next));
+        }
+    }
+
+    /**
+     * Whether a failure is worth retrying: the network failed or Slack answered with a 5xx
+     */
+    static boolean isTransient(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ResourceAccessException || cause instanceof HttpServerErrorException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Exponential backoff capped at maxBackoff, with equal jitter so retries from many lanes spread out
+     *
+     * @param attempt The attempt that just failed, starting at 1
+     * @return A delay between half and all of the capped exponential backoff
+     */
+    Duration backoff(int attempt) {
+        long initialMillis = properties.getInitialBackoff().toMillis();
+        long maxMillis = properties.getMaxBackoff().toMillis();
+        int doublings = Math.min(attempt - 1, 30);
+        long cappedMillis = Math.max(1, Math.min(maxMillis, initialMillis << doublings));
+        long halfMillis = cappedMillis / 2;
+        return Duration.ofMillis(halfMillis + ThreadLocalRandom.current().nextLong(cappedMillis - halfMillis + 1));
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        senders.shutdownNow();
+        lanes.values().forEach(lane -> lane.queue.forEach(message -> message.result.completeExceptionally(
+                new IllegalStateException("Slack dispatcher shut down before the message was sent"))));
+        lanes.clear();
+    }
+
+    /**
+     * Messages for one channel or thread, sent one at a time in submission order
+     */
+    private static final class Lane {
+        private final String key;
+        private final String channelId;
+        private final Queue<PendingMessage<?>> queue = new ConcurrentLinkedQueue<>();
+
+        private Lane(String key, String channelId) {
+            this.key = key;
+            this.channelId = channelId;
+        }
+    }
+
+    private enum State { QUEUED, SENDING, WITHDRAWN }
+
+    private static final class PendingMessage<T> {
+        private final AtomicReference<State> state = new AtomicReference<>(State.QUEUED);
+        private final String method;
+        private final Supplier<T> call;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final long queuedAtNanos = System.nanoTime();
+        private int attempts;
+
+        private PendingMessage(String method, Supplier<T> call) {
+            this.method = method;
+            this.call = call;
+        }
+
+        private boolean startSending() {
+            return state.compareAndSet(State.QUEUED, State.SENDING);
+        }
+
+        private void requeue() {
+            state.set(State.QUEUED);
+        }
+
+        /**
+         * Take the message back unless a sender is working on it; its result is cancelled
+         */
+        private boolean withdraw() {
+            if (!state.compareAndSet(State.QUEUED, State.WITHDRAWN)) {
+                return false;
+            }
+            result.cancel(false);
+            return true;
+        }
+
+        private boolean isWithdrawn() {
+            return state.get() == State.WITHDRAWN;
+        }
+
+        /**
+         * Make the call, then record it as sent before waking up whoever waits for the result
+         */
+        private void run(Runnable onSent) {
+            T value = call.get();
+            onSent.run();
+            result.complete(value);
+        }
+    }
+
+    /**
+     * Token bucket refilled continuously at a fixed rate; guarded by the dispatcher's lock
+     */
+    private static final class TokenBucket {
+        private final double permitsPerNano;
+        private final double capacity;
+        private double tokens;
+        private long refilledAtNanos = System.nanoTime();
+        private long pausedUntilNanos = refilledAtNanos;
+
+        private TokenBucket(double permitsPerSecond, int burst) {
+            this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = Math.max(1, burst);
+            this.tokens = capacity;
+        }
+
+        private long nanosUntilAvailable(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAtNanos) * permitsPerNano);
+            refilledAtNanos = now;
+            if (now - pausedUntilNanos < 0) {
+                return pausedUntilNanos - now;
+            }
+            if (tokens >= 1) {
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / permitsPerNano));
+        }
+
+        private void take() {
+            tokens -= 1;
+        }
+
+        private void pause(long now, long untilNanos) {
+            if (untilNanos - pausedUntilNanos > 0) {
+                pausedUntilNanos = untilNanos;
+            }
+            // Slack counts the rejected burst too, so start again from an empty bucket
+            tokens = 0;
+            refilledAtNanos = now;
+        }
+    }
+}
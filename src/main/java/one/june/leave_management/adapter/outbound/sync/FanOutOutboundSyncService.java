@@ -0,0 +1,175 @@
+package one.june.leave_management.adapter.outbound.sync;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import one.june.leave_management.application.leave.service.LeaveSyncTarget;
+import one.june.leave_management.application.leave.service.OutboundSyncService;
+import one.june.leave_management.common.concurrent.MdcTaskDecorator;
+import one.june.leave_management.config.FanOutSyncProperties;
+import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.SourceType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbound sync that calls every target system concurrently, skipping the originating source.
+ * <p>
+ * Syncs are handed off once the caller's transaction commits, so no database connection is held while the
+ * targets are called and a rolled back change is never synced. Each target has its own bounded pool: at most
+ * maxConcurrentPerTarget calls run at once and further syncs wait in the target's queue, so one slow system
+ * cannot tie up the others. A call still running after the timeout is cancelled and its thread interrupted,
+ * which frees the thread as soon as the target's client gives up on the interrupt. A sync that finds the queue
+ * full, fails or exceeds the timeout is logged as an error and counted in {@code outbound.sync.fan-out.failed};
+ * for delivery guarantees use the outbox mode instead.
+ */
+@Service
+@ConditionalOnProperty(name = "outbound-sync.mode", havingValue = "fan-out")
+public class FanOutOutboundSyncService implements OutboundSyncService, DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(FanOutOutboundSyncService.class);
+
+    private final List<LeaveSyncTarget> targets;
+    private final FanOutSyncProperties properties;
+    private final Map<SourceType, ThreadPoolTaskExecutor> executors = new EnumMap<>(SourceType.class);
+    private final Map<SourceType, Counter> failureCounters = new EnumMap<>(SourceType.class);
+    private final ScheduledThreadPoolExecutor timeouts;
+
+    public FanOutOutboundSyncService(List<LeaveSyncTarget> targets, FanOutSyncProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.targets = targets;
+        this.properties = properties;
+        this.timeouts = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "outbound-sync-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Almost every sync finishes in time, so drop cancelled timers instead of keeping them until they are due
+        this.timeouts.setRemoveOnCancelPolicy(true);
+
+        MdcTaskDecorator mdcTaskDecorator = new MdcTaskDecorator();
+        for (LeaveSyncTarget target : targets) {
+            SourceType targetType = target.getSourceType();
+            if (executors.containsKey(targetType)) {
+                continue;
+            }
+
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(properties.getMaxConcurrentPerTarget());
+            executor.setMaxPoolSize(properties.getMaxConcurrentPerTarget());
+            executor.setQueueCapacity(properties.getQueueCapacityPerTarget());
+            executor.setThreadNamePrefix("outbound-sync-" + targetType.name().toLowerCase() + "-");
+            executor.setDaemon(true);
+            executor.setTaskDecorator(mdcTaskDecorator);
+            executor.setWaitForTasksToCompleteOnShutdown(true);
+            executor.setAwaitTerminationMillis(properties.getShutdownTimeout().toMillis());
+            executor.initialize();
+            executors.put(targetType, executor);
+
+            failureCounters.put(targetType, Counter.builder("outbound.sync.fan-out.failed")
+                    .description("Fan-out syncs that were rejected, failed or timed out")
+                    .tag("target", targetType.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void sync(Leave leave, SourceType originatingSource) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(leave, originatingSource);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(leave, originatingSource);
+            }
+        });
+    }
+
+    private void dispatch(Leave leave, SourceType originatingSource) {
+        int dispatched = 0;
+        for (LeaveSyncTarget target : targets) {
+            if (target.getSourceType() != originatingSource) {
+                syncAsync(target, leave, originatingSource);
+                dispatched++;
+            }
+        }
+        logger.debug("Fanned out sync of leave {} to {} targets", leave.getId(), dispatched);
+    }
+
+    private void syncAsync(LeaveSyncTarget target, Leave leave, SourceType originatingSource) {
+        SourceType targetType = target.getSourceType();
+        try {
+            executors.get(targetType).execute(() -> syncWithTimeout(target, leave, originatingSource));
+        } catch (RejectedExecutionException e) {
+            failureCounters.get(targetType).increment();
+            logger.error("Dropped sync of leave {} to {}: {} syncs running and the queue of {} is full",
+                    leave.getId(), targetType, properties.getMaxConcurrentPerTarget(),
+                    properties.getQueueCapacityPerTarget());
+        }
+    }
+
+    /**
+     * Call the target on this pool thread, cancelling the call and interrupting the thread once it runs longer
+     * than the timeout; the timeout starts when the call does, not while it waits in the queue
+     */
+    private void syncWithTimeout(LeaveSyncTarget target, Leave leave, SourceType originatingSource) {
+        SourceType targetType = target.getSourceType();
+        FutureTask<Void> call = new FutureTask<>(() -> target.sync(leave, originatingSource), null);
+        ScheduledFuture<?> timeout = timeouts.schedule(() -> {
+            if (call.cancel(true)) {
+                failureCounters.get(targetType).increment();
+                logger.error("Sync of leave {} to {} did not finish within {} and was interrupted",
+                        leave.getId(), targetType, properties.getTimeout());
+            }
+        }, properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+
+        try {
+            call.run();
+        } finally {
+            timeout.cancel(false);
+        }
+        if (call.isCancelled()) {
+            // Already reported by the timeout
+            return;
+        }
+
+        try {
+            call.get();
+            logger.debug("Synced leave {} to {}", leave.getId(), targetType);
+        } catch (ExecutionException e) {
+            failureCounters.get(targetType).increment();
+            logger.error("Failed to sync leave {} to {}", leave.getId(), targetType, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stop accepting syncs and let queued ones finish, up to the shutdown timeout
+     */
+    @Override
+    public void destroy() {
+        // Initiated on every target first, so the waits for their queues overlap
+        executors.values().forEach(ThreadPoolTaskExecutor::initiateShutdown);
+        executors.values().forEach(ThreadPoolTaskExecutor::shutdown);
+        // Kept until the queues are drained, so the syncs run during shutdown are still bounded
+        timeouts.shutdownNow();
+    }
+}
@@ -0,0 +1,32 @@
+package one.june.leave_management.adapter.outbound.sync;
+
+import one.june.leave_management.application.leave.service.LeaveSyncTarget;
+import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.SourceType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Placeholder sync target that only logs the leave, until a real adapter exists for the system.
+ */
+public class LoggingLeaveSyncTarget implements LeaveSyncTarget {
+    private static final Logger logger = LoggerFactory.getLogger(LoggingLeaveSyncTarget.class);
+
+    private final SourceType sourceType;
+
+    public LoggingLeaveSyncTarget(SourceType sourceType) {
+        this.sourceType = sourceType;
+    }
+
+    @Override
+    public SourceType getSourceType() {
+        return sourceType;
+    }
+
+    @Override
+    public void sync(Leave leave, SourceType originatingSource) {
+        logger.info("Syncing leave {} of user {} ({} to {}, {}, {}) to {} (originating source: {})",
+                leave.getId(), leave.getUserId(), leave.getStartDate(), leave.getEndDate(),
+                leave.getType(), leave.getStatus(), sourceType, originatingSource);
+    }
+}
@@ -0,0 +1,163 @@
+package one.june.leave_management.adapter.outbound.sync;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import one.june.leave_management.adapter.persistence.jdbc.OutboxEventJdbcRepository;
+import one.june.leave_management.adapter.persistence.jdbc.OutboxEventJdbcRepository.ClaimedEvent;
+import one.june.leave_management.application.leave.service.LeaveSyncTarget;
+import one.june.leave_management.config.OutboxProperties;
+import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.SourceType;
+import one.june.leave_management.domain.leave.port.LeaveRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Background dispatcher for the outbound sync outbox.
+ * <p>
+ * Each poll claims a batch of due rows with a lease and delivers them to the matching {@link LeaveSyncTarget}
+ * outside of any transaction, using the leave's current state. Delivered rows are deleted. Failed rows are
+ * retried with exponential backoff and dead-lettered after {@code maxAttempts}. Polling continues while
+ * full batches are claimed.
+ * <p>
+ * Metric: {@code outbox.dispatch}, tagged {@code outcome=success|retry|dead}.
+ */
+@Component
+@ConditionalOnProperty(name = "outbound-sync.outbox.dispatcher-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxEventJdbcRepository outboxEventJdbcRepository;
+    private final LeaveRepository leaveRepository;
+    private final OutboxProperties properties;
+    private final Clock clock;
+    private final Map<SourceType, LeaveSyncTarget> targetsBySource = new EnumMap<>(SourceType.class);
+    private final Counter successCounter;
+    private final Counter retryCounter;
+    private final Counter deadCounter;
+
+    public OutboxDispatcher(OutboxEventJdbcRepository outboxEventJdbcRepository,
+                            LeaveRepository leaveRepository,
+                            List<LeaveSyncTarget> syncTargets,
+                            OutboxProperties properties,
+                            MeterRegistry meterRegistry) {
+        this(outboxEventJdbcRepository, leaveRepository, syncTargets, properties, meterRegistry, Clock.systemUTC());
+    }
+
+    OutboxDispatcher(OutboxEventJdbcRepository outboxEventJdbcRepository,
+                     LeaveRepository leaveRepository,
+                     List<LeaveSyncTarget> syncTargets,
+                     OutboxProperties properties,
+                     MeterRegistry meterRegistry,
+                     Clock clock) {
+        this.outboxEventJdbcRepository = outboxEventJdbcRepository;
+        this.leaveRepository = leaveRepository;
+        this.properties = properties;
+        this.clock = clock;
+        syncTargets.forEach(target -> targetsBySource.putIfAbsent(target.getSourceType(), target));
+
+        this.successCounter = dispatchCounter("success", meterRegistry);
+        this.retryCounter = dispatchCounter("retry", meterRegistry);
+        this.deadCounter = dispatchCounter("dead", meterRegistry);
+    }
+
+    private static Counter dispatchCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("outbox.dispatch")
+                .description("Outbox rows processed by the dispatcher")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Claim and dispatch due rows until a batch comes back less than full.
+     */
+    @Scheduled(fixedDelayString = "#{@outboxProperties.pollInterval.toMillis()}")
+    public void poll() {
+        try {
+            int claimed;
+            do {
+                claimed = dispatchBatch();
+            } while (claimed == properties.getBatchSize());
+        } catch (RuntimeException e) {
+            // Claiming failed (e.g. the database is unavailable); the next poll tries again
+            logger.error("Failed to poll the outbound sync outbox", e);
+        }
+    }
+
+    /**
+     * Claim one batch of due rows and dispatch each of them.
+     *
+     * @return the number of claimed rows
+     */
+    int dispatchBatch() {
+        Instant now = clock.instant();
+        List<ClaimedEvent> events = outboxEventJdbcRepository.claimDue(
+                now, now.plus(properties.getLease()), properties.getBatchSize());
+        if (!events.isEmpty()) {
+            logger.debug("Claimed {} outbox rows", events.size());
+        }
+        events.forEach(this::dispatch);
+        return events.size();
+    }
+
+    private void dispatch(ClaimedEvent event) {
+        try {
+            LeaveSyncTarget target = targetsBySource.get(event.target());
+            if (target == null) {
+                throw new IllegalStateException("No sync target registered for " + event.target());
+            }
+
+            Optional<Leave> leave = leaveRepository.findById(event.leaveId());
+            if (leave.isEmpty()) {
+                logger.warn("Dropping outbox row {}: leave {} no longer exists", event.id(), event.leaveId());
+                outboxEventJdbcRepository.delete(event.id());
+                return;
+            }
+
+            target.sync(leave.get(), event.originatingSource());
+            outboxEventJdbcRepository.delete(event.id());
+            successCounter.increment();
+        } catch (RuntimeException e) {
+            handleFailure(event, e);
+        }
+    }
+
+    private void handleFailure(ClaimedEvent event, RuntimeException e) {
+        String error = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+
+        if (event.attempts() >= properties.getMaxAttempts()) {
+            logger.error("Dead-lettering sync of leave {} to {} after {} attempts: {}",
+                    event.leaveId(), event.target(), event.attempts(), error);
+            outboxEventJdbcRepository.deadLetter(event.id(), error);
+            deadCounter.increment();
+            return;
+        }
+
+        Duration backoff = backoff(event.attempts());
+        logger.warn("Sync of leave {} to {} failed (attempt {}), retrying in {}: {}",
+                event.leaveId(), event.target(), event.attempts(), backoff, error);
+        outboxEventJdbcRepository.reschedule(event.id(), clock.instant().plus(backoff), error);
+        retryCounter.increment();
+    }
+
+    /**
+     * Exponential backoff: initialBackoff doubled per previous attempt, capped at maxBackoff
+     */
+    Duration backoff(int attempts) {
+        int doublings = Math.min(Math.max(attempts - 1, 0), 30);
+        long backoffMillis = properties.getInitialBackoff().toMillis() << doublings;
+        long maxMillis = properties.getMaxBackoff().toMillis();
+        return Duration.ofMillis(backoffMillis <= 0 || backoffMillis > maxMillis ? maxMillis : backoffMillis);
+    }
+}
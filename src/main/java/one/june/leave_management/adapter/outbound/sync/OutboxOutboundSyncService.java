@@ -0,0 +1,65 @@
+package one.june.leave_management.adapter.outbound.sync;
+
+import one.june.leave_management.adapter.persistence.jpa.entity.OutboxEventJpaEntity;
+import one.june.leave_management.adapter.persistence.jpa.repository.OutboxEventJpaRepository;
+import one.june.leave_management.application.leave.service.LeaveSyncTarget;
+import one.june.leave_management.application.leave.service.OutboundSyncService;
+import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.SourceType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Outbound sync through a transactional outbox.
+ * Writes one outbox row per target system in the caller's transaction, so a leave change and its pending
+ * syncs commit or roll back together. The rows are delivered later by {@link OutboxDispatcher}.
+ */
+@Service
+@ConditionalOnProperty(name = "outbound-sync.mode", havingValue = "outbox", matchIfMissing = true)
+public class OutboxOutboundSyncService implements OutboundSyncService {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxOutboundSyncService.class);
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final List<SourceType> targets;
+
+    public OutboxOutboundSyncService(OutboxEventJpaRepository outboxEventJpaRepository,
+                                     List<LeaveSyncTarget> syncTargets) {
+        this.outboxEventJpaRepository = outboxEventJpaRepository;
+        this.targets = syncTargets.stream()
+                .map(LeaveSyncTarget::getSourceType)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sync(Leave leave, SourceType originatingSource) {
+        Instant now = Instant.now();
+        List<OutboxEventJpaEntity> events = targets.stream()
+                .filter(target -> target != originatingSource)
+                .map(target -> OutboxEventJpaEntity.builder()
+                        .leaveId(leave.getId())
+                        .target(target)
+                        .originatingSource(originatingSource)
+                        .nextAttemptAt(now)
+                        .createdAt(now)
+                        .build())
+                .collect(Collectors.toList());
+
+        outboxEventJpaRepository.saveAll(events);
+        logger.debug("Queued {} outbound syncs for leave {}", events.size(), leave.getId());
+    }
+
+    @Override
+    public boolean isTransactional() {
+        return true;
+    }
+}
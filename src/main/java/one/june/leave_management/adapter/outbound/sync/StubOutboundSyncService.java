@@ -5,9 +5,11 @@ import one.june.leave_management.domain.leave.model.Leave;
 import one.june.leave_management.domain.leave.model.SourceType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 @Service
+@ConditionalOnProperty(name = "outbound-sync.mode", havingValue = "stub")
 public class StubOutboundSyncService implements OutboundSyncService {
     private static final Logger logger = LoggerFactory.getLogger(StubOutboundSyncService.class);
 
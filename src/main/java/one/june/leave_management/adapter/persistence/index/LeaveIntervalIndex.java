@@ -0,0 +1,203 @@
+package one.june.leave_management.adapter.persistence.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import one.june.leave_management.common.model.DateRange;
+import one.june.leave_management.config.LeaveOverlapIndexProperties;
+import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.LeaveStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * In-memory index of leave date ranges per user, used to answer overlap checks without a database round trip.
+ * <p>
+ * Each user's leaves are kept in an immutable array sorted by start date, together with the running maximum
+ * of end dates. A lookup binary-searches the last leave starting on or before the range end and walks back
+ * only while the running maximum end can still reach the range start.
+ * <p>
+ * Cancelled leaves are not indexed, since they never overlap (see {@code excl_leave_user_period}).
+ * <p>
+ * Users are loaded lazily on first lookup. Writes are applied after their transaction commits, and only to
+ * users that are already loaded; everyone else is read fresh on their next lookup.
+ */
+@Component
+public class LeaveIntervalIndex {
+    private static final Logger logger = LoggerFactory.getLogger(LeaveIntervalIndex.class);
+
+    private final LeaveOverlapIndexProperties properties;
+    private final Cache<String, UserIntervals> intervalsByUser;
+
+    public LeaveIntervalIndex(LeaveOverlapIndexProperties properties) {
+        this.properties = properties;
+        this.intervalsByUser = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxUsers())
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Find the user's leaves overlapping the given range, loading the user's leaves on first use.
+     *
+     * @param userId the user ID
+     * @param dateRange the date range to check for overlaps
+     * @param excludeLeaveId a leave to ignore, or null
+     * @param loader loads all leaves of a user from the database
+     * @return overlapping leaves ordered by start date
+     */
+    public List<Leave> findOverlapping(String userId, DateRange dateRange, UUID excludeLeaveId,
+                                       Function<String, List<Leave>> loader) {
+        UserIntervals intervals = intervalsByUser.get(userId, key -> {
+            logger.debug("Warming leave interval index for user {}", key);
+            return UserIntervals.of(loader.apply(key));
+        });
+        return intervals.findOverlapping(dateRange, excludeLeaveId);
+    }
+
+    /**
+     * Record a saved leave once the current transaction commits.
+     *
+     * @param leave the saved leave
+     * @param previousUserId the user the leave belonged to before this save, or null for a new leave
+     */
+    public void onSaved(Leave leave, String previousUserId) {
+        afterCommit(() -> {
+            if (previousUserId != null && !previousUserId.equals(leave.getUserId())) {
+                intervalsByUser.asMap().computeIfPresent(previousUserId,
+                        (userId, intervals) -> intervals.without(leave.getId()));
+            }
+            intervalsByUser.asMap().computeIfPresent(leave.getUserId(),
+                    (userId, intervals) -> intervals.without(leave.getId()).with(leave));
+        });
+    }
+
+    /**
+     * Forget a deleted leave once the current transaction commits.
+     *
+     * @param userId the user the leave belonged to
+     * @param leaveId the deleted leave ID
+     */
+    public void onDeleted(String userId, UUID leaveId) {
+        afterCommit(() -> intervalsByUser.asMap().computeIfPresent(userId,
+                (key, intervals) -> intervals.without(leaveId)));
+    }
+
+    /**
+     * Drop every loaded user, e.g. after leaves were changed outside this index's knowledge.
+     */
+    public void clear() {
+        intervalsByUser.invalidateAll();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Immutable, start-sorted intervals of one user with a running maximum of end dates.
+     */
+    static final class UserIntervals {
+        private static final Comparator<Leave> BY_START = Comparator.comparing(Leave::getStartDate);
+
+        private final Leave[] leaves;
+        private final long[] starts;
+        private final long[] ends;
+        private final long[] maxEndSoFar;
+
+        private UserIntervals(Leave[] sortedLeaves) {
+            this.leaves = sortedLeaves;
+            this.starts = new long[sortedLeaves.length];
+            this.ends = new long[sortedLeaves.length];
+            this.maxEndSoFar = new long[sortedLeaves.length];
+
+            long maxEnd = Long.MIN_VALUE;
+            for (int i = 0; i < sortedLeaves.length; i++) {
+                starts[i] = sortedLeaves[i].getStartDate().toEpochDay();
+                ends[i] = sortedLeaves[i].getEndDate().toEpochDay();
+                maxEnd = Math.max(maxEnd, ends[i]);
+                maxEndSoFar[i] = maxEnd;
+            }
+        }
+
+        static UserIntervals of(List<Leave> leaves) {
+            Leave[] sorted = leaves.stream()
+                    .filter(leave -> leave.getStatus() != LeaveStatus.CANCELLED)
+                    .toArray(Leave[]::new);
+            Arrays.sort(sorted, BY_START);
+            return new UserIntervals(sorted);
+        }
+
+        UserIntervals with(Leave leave) {
+            List<Leave> updated = new ArrayList<>(Arrays.asList(leaves));
+            updated.add(leave);
+            return of(updated);
+        }
+
+        UserIntervals without(UUID leaveId) {
+            if (leaveId == null) {
+                return this;
+            }
+            return new UserIntervals(Arrays.stream(leaves)
+                    .filter(leave -> !leaveId.equals(leave.getId()))
+                    .toArray(Leave[]::new));
+        }
+
+        List<Leave> findOverlapping(DateRange dateRange, UUID excludeLeaveId) {
+            long rangeStart = dateRange.getStartDate().toEpochDay();
+            long rangeEnd = dateRange.getEndDate().toEpochDay();
+
+            // Leaves at index >= upper start after the range and cannot overlap
+            int upper = upperBound(rangeEnd);
+            List<Leave> overlapping = new ArrayList<>();
+            for (int i = upper - 1; i >= 0 && maxEndSoFar[i] >= rangeStart; i--) {
+                if (ends[i] >= rangeStart && (excludeLeaveId == null || !excludeLeaveId.equals(leaves[i].getId()))) {
+                    overlapping.add(leaves[i]);
+                }
+            }
+            Collections.reverse(overlapping);
+            return overlapping;
+        }
+
+        private int upperBound(long value) {
+            int low = 0;
+            int high = starts.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
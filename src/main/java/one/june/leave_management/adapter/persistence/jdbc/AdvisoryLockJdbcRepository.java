@@ -0,0 +1,29 @@
+package one.june.leave_management.adapter.persistence.jdbc;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Postgres advisory locks scoped to the current transaction.
+ * Runs on the transaction's connection, so the lock is released automatically on commit or rollback.
+ */
+@Repository
+public class AdvisoryLockJdbcRepository {
+
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtextextended(?, 0))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AdvisoryLockJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Block until the advisory lock for the given key is held by the current transaction.
+     *
+     * @param key the lock key, hashed to a 64-bit lock ID by the database
+     */
+    public void lockForTransaction(String key) {
+        jdbcTemplate.query(LOCK_SQL, resultSet -> null, key);
+    }
+}
@@ -0,0 +1,64 @@
+package one.june.leave_management.adapter.persistence.jdbc;
+
+import one.june.leave_management.adapter.persistence.jpa.entity.AuditLogJpaEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Plain JDBC access to the audit_log table for bulk writes.
+ * Bypasses the persistence context so large batches of audit rows are sent as a single JDBC batch.
+ */
+@Repository
+public class AuditLogJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_log (id, request_id, endpoint, http_method, source_type,
+                                   request_body, request_body_gzip, response_status,
+                                   response_body, response_body_gzip,
+                                   user_id, execution_time_ms, error_message, timestamp)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditLogJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert all given audit rows in one JDBC batch.
+     * Rows without an ID are given a random one.
+     *
+     * @param entities the audit rows to insert
+     */
+    public void insertAll(List<AuditLogJpaEntity> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = entities.stream()
+                .map(entity -> new Object[]{
+                        entity.getId() != null ? entity.getId() : UUID.randomUUID(),
+                        entity.getRequestId(),
+                        entity.getEndpoint(),
+                        entity.getHttpMethod(),
+                        entity.getSourceType(),
+                        entity.getRequestBody(),
+                        entity.getRequestBodyGzip(),
+                        entity.getResponseStatus(),
+                        entity.getResponseBody(),
+                        entity.getResponseBodyGzip(),
+                        entity.getUserId(),
+                        entity.getExecutionTimeMs(),
+                        entity.getErrorMessage(),
+                        entity.getTimestamp()
+                })
+                .collect(Collectors.toList());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+}
@@ -0,0 +1,94 @@
+package one.june.leave_management.adapter.persistence.jdbc;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Native PostgreSQL management of the monthly partitions of audit_log.
+ * Each month is a range partition named audit_log_pYYYYMM; other partitions (such as audit_log_default)
+ * are never touched. Partition names are built from the month only, never from user input.
+ */
+@Repository
+public class AuditLogPartitionJdbcRepository {
+
+    private static final String PARTITION_PREFIX = "audit_log_p";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern PARTITION_NAME = Pattern.compile(PARTITION_PREFIX + "(\\d{4})(\\d{2})");
+
+    private static final String FIND_PARTITIONS_SQL = """
+            SELECT child.relname
+              FROM pg_inherits
+              JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+             WHERE pg_inherits.inhparent = 'audit_log'::regclass
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditLogPartitionJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Find the months that have a partition attached to audit_log.
+     *
+     * @return the months, in no particular order
+     */
+    public List<YearMonth> findMonthlyPartitions() {
+        return jdbcTemplate.queryForList(FIND_PARTITIONS_SQL, String.class).stream()
+                .map(AuditLogPartitionJdbcRepository::parseMonth)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Create the partition for a month unless it already exists.
+     *
+     * @param month the month, covering [first day, first day of the next month)
+     */
+    public void createMonthlyPartition(YearMonth month) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                + " PARTITION OF audit_log FOR VALUES FROM ('" + month.atDay(1)
+                + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    /**
+     * Detach the partition of a month, keeping it as a standalone table.
+     *
+     * @param month the month
+     */
+    public void detachMonthlyPartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE audit_log DETACH PARTITION " + partitionName(month));
+    }
+
+    /**
+     * Drop the partition of a month and its rows.
+     *
+     * @param month the month
+     */
+    public void dropMonthlyPartition(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName(month));
+    }
+
+    /**
+     * @param month the month
+     * @return the name of the month's partition, e.g. audit_log_p202501
+     */
+    public static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX_FORMAT);
+    }
+
+    private static YearMonth parseMonth(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+}
@@ -0,0 +1,118 @@
+package one.june.leave_management.adapter.persistence.jdbc;
+
+import one.june.leave_management.common.model.DateRange;
+import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.LeaveDurationType;
+import one.june.leave_management.domain.leave.model.LeaveSourceRef;
+import one.june.leave_management.domain.leave.model.LeaveStatus;
+import one.june.leave_management.domain.leave.model.LeaveType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Native PostgreSQL writes for updating an existing leave without loading it first.
+ * The leave row is updated with a single UPDATE ... RETURNING and its source references are upserted in one
+ * JDBC batch through INSERT ... ON CONFLICT on uk_leave_source_ref_type_id, so unchanged references cost no
+ * row changes at all.
+ */
+@Repository
+public class LeaveUpsertJdbcRepository {
+
+    /**
+     * Locks the row, updates it and returns the new values together with the user it belonged to before
+     */
+    private static final String UPDATE_LEAVE_SQL = """
+            UPDATE leave l
+               SET user_id = ?, start_date = ?, end_date = ?, type = ?, status = ?, duration_type = ?,
+                   updated_at = CURRENT_TIMESTAMP
+              FROM (SELECT id, user_id FROM leave WHERE id = ? FOR UPDATE) previous
+             WHERE l.id = previous.id
+            RETURNING l.id, l.user_id, l.start_date, l.end_date, l.type, l.status, l.duration_type,
+                      previous.user_id AS previous_user_id
+            """;
+
+    private static final String UPSERT_SOURCE_REF_SQL = """
+            INSERT INTO leave_source_ref (id, leave_id, source_type, source_id)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (source_type, source_id) DO UPDATE
+               SET leave_id = EXCLUDED.leave_id, updated_at = CURRENT_TIMESTAMP
+             WHERE leave_source_ref.leave_id <> EXCLUDED.leave_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LeaveUpsertJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Result of a native leave update
+     *
+     * @param leave the leave as stored after the update, with the source references it was saved with
+     * @param previousUserId the user the leave belonged to before the update
+     */
+    public record UpdatedLeave(Leave leave, String previousUserId) {
+    }
+
+    /**
+     * Update an existing leave and upsert its source references.
+     * Source references are only added or re-pointed at this leave; references missing from the leave are kept.
+     *
+     * @param leave the leave to write; must have an ID
+     * @return the updated leave, or empty if no leave exists with that ID
+     */
+    public Optional<UpdatedLeave> update(Leave leave) {
+        List<UpdatedLeave> updated = jdbcTemplate.query(UPDATE_LEAVE_SQL,
+                (rs, rowNum) -> new UpdatedLeave(
+                        Leave.builder()
+                                .id(rs.getObject("id", UUID.class))
+                                .userId(rs.getString("user_id"))
+                                .dateRange(DateRange.builder()
+                                        .startDate(rs.getDate("start_date").toLocalDate())
+                                        .endDate(rs.getDate("end_date").toLocalDate())
+                                        .build())
+                                .type(LeaveType.valueOf(rs.getString("type")))
+                                .status(LeaveStatus.valueOf(rs.getString("status")))
+                                .durationType(LeaveDurationType.valueOf(rs.getString("duration_type")))
+                                .sourceRefs(new ArrayList<>(leave.getSourceRefs()))
+                                .build(),
+                        rs.getString("previous_user_id")),
+                leave.getUserId(),
+                Date.valueOf(leave.getStartDate()),
+                Date.valueOf(leave.getEndDate()),
+                leave.getType().name(),
+                leave.getStatus().name(),
+                leave.getDurationType().name(),
+                leave.getId());
+
+        if (updated.isEmpty()) {
+            return Optional.empty();
+        }
+
+        upsertSourceRefs(leave.getId(), leave.getSourceRefs());
+        return Optional.of(updated.get(0));
+    }
+
+    private void upsertSourceRefs(UUID leaveId, List<LeaveSourceRef> sourceRefs) {
+        if (sourceRefs.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = sourceRefs.stream()
+                .map(sourceRef -> new Object[]{
+                        UUID.randomUUID(),
+                        leaveId,
+                        sourceRef.getSourceType().name(),
+                        sourceRef.getSourceId()
+                })
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(UPSERT_SOURCE_REF_SQL, batchArgs);
+    }
+}
@@ -0,0 +1,107 @@
+package one.june.leave_management.adapter.persistence.jdbc;
+
+import one.june.leave_management.domain.leave.model.SourceType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Native PostgreSQL access used by the outbox dispatcher.
+ * Rows are claimed with FOR UPDATE SKIP LOCKED and a lease, so several instances can poll the same table
+ * without dispatching a row twice while its lease is valid, and without holding a transaction open while the
+ * remote calls run.
+ */
+@Repository
+public class OutboxEventJdbcRepository {
+
+    private static final String CLAIM_SQL = """
+            UPDATE outbox_event e
+               SET locked_until = ?, attempts = e.attempts + 1
+             WHERE e.id IN (SELECT id
+                              FROM outbox_event
+                             WHERE status = 'PENDING'
+                               AND next_attempt_at <= ?
+                               AND (locked_until IS NULL OR locked_until < ?)
+                             ORDER BY next_attempt_at
+                             LIMIT ?
+                               FOR UPDATE SKIP LOCKED)
+            RETURNING e.id, e.leave_id, e.target, e.originating_source, e.attempts
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM outbox_event WHERE id = ?";
+
+    private static final String RESCHEDULE_SQL = """
+            UPDATE outbox_event
+               SET next_attempt_at = ?, locked_until = NULL, last_error = ?
+             WHERE id = ?
+            """;
+
+    private static final String DEAD_LETTER_SQL = """
+            UPDATE outbox_event
+               SET status = 'DEAD', locked_until = NULL, last_error = ?
+             WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxEventJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * A claimed outbox row
+     *
+     * @param id the outbox row ID
+     * @param leaveId the leave to sync
+     * @param target the system to sync the leave to
+     * @param originatingSource the source that produced the leave change
+     * @param attempts number of attempts including the one this claim is for
+     */
+    public record ClaimedEvent(UUID id, UUID leaveId, SourceType target, SourceType originatingSource, int attempts) {
+    }
+
+    /**
+     * Claim up to {@code limit} due rows that no other dispatcher holds a valid lease on.
+     *
+     * @param now the current time
+     * @param leaseUntil when the lease taken on the claimed rows expires
+     * @param limit maximum number of rows to claim
+     * @return the claimed rows
+     */
+    public List<ClaimedEvent> claimDue(Instant now, Instant leaseUntil, int limit) {
+        Timestamp nowTimestamp = Timestamp.from(now);
+        return jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new ClaimedEvent(
+                        rs.getObject("id", UUID.class),
+                        rs.getObject("leave_id", UUID.class),
+                        SourceType.valueOf(rs.getString("target")),
+                        SourceType.valueOf(rs.getString("originating_source")),
+                        rs.getInt("attempts")),
+                Timestamp.from(leaseUntil), nowTimestamp, nowTimestamp, limit);
+    }
+
+    /**
+     * Remove a successfully dispatched row.
+     */
+    public void delete(UUID id) {
+        jdbcTemplate.update(DELETE_SQL, id);
+    }
+
+    /**
+     * Release a failed row for another attempt at {@code nextAttemptAt}.
+     */
+    public void reschedule(UUID id, Instant nextAttemptAt, String error) {
+        jdbcTemplate.update(RESCHEDULE_SQL, Timestamp.from(nextAttemptAt), error, id);
+    }
+
+    /**
+     * Park a row that ran out of attempts; it is kept for inspection and never claimed again.
+     */
+    public void deadLetter(UUID id, String error) {
+        jdbcTemplate.update(DEAD_LETTER_SQL, error, id);
+    }
+}
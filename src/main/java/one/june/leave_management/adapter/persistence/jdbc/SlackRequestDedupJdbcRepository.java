@@ -0,0 +1,64 @@
+package one.june.leave_management.adapter.persistence.jdbc;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * Native PostgreSQL access to the Slack request deduplication table.
+ * A key is claimed with a single upsert, so two instances receiving the same delivery cannot both claim it.
+ * A row older than the TTL counts as free and is taken over by the claim.
+ */
+@Repository
+public class SlackRequestDedupJdbcRepository {
+
+    private static final String CLAIM_SQL = """
+            INSERT INTO slack_request_dedup (request_key, received_at)
+            VALUES (?, ?)
+            ON CONFLICT (request_key) DO UPDATE
+               SET received_at = EXCLUDED.received_at
+             WHERE slack_request_dedup.received_at < ?
+            """;
+
+    private static final String RELEASE_SQL = "DELETE FROM slack_request_dedup WHERE request_key = ?";
+
+    private static final String PURGE_SQL = "DELETE FROM slack_request_dedup WHERE received_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SlackRequestDedupJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Claim a request key unless it was already claimed after {@code expiredBefore}.
+     *
+     * @param requestKey the request key
+     * @param now the current time
+     * @param expiredBefore claims older than this are expired
+     * @return true if the key was claimed by this call
+     */
+    public boolean claim(String requestKey, Instant now, Instant expiredBefore) {
+        return jdbcTemplate.update(CLAIM_SQL, requestKey, Timestamp.from(now), Timestamp.from(expiredBefore)) > 0;
+    }
+
+    /**
+     * Delete the claim of a request key, so the key can be claimed again.
+     *
+     * @param requestKey the request key
+     */
+    public void release(String requestKey) {
+        jdbcTemplate.update(RELEASE_SQL, requestKey);
+    }
+
+    /**
+     * Delete claims older than {@code expiredBefore}.
+     *
+     * @return the number of deleted rows
+     */
+    public int purgeExpired(Instant expiredBefore) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.from(expiredBefore));
+    }
+}
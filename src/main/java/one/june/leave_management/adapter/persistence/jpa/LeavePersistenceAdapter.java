@@ -1,24 +1,41 @@
 package one.june.leave_management.adapter.persistence.jpa;
 
+import one.june.leave_management.adapter.persistence.index.LeaveIntervalIndex;
+import one.june.leave_management.adapter.persistence.jdbc.LeaveUpsertJdbcRepository;
+import one.june.leave_management.adapter.persistence.jdbc.LeaveUpsertJdbcRepository.UpdatedLeave;
 import one.june.leave_management.adapter.persistence.jpa.entity.LeaveJpaEntity;
 import one.june.leave_management.adapter.persistence.jpa.entity.LeaveSourceRefJpaEntity;
 import one.june.leave_management.adapter.persistence.jpa.repository.LeaveJpaRepository;
+import one.june.leave_management.common.exception.OverlappingLeaveException;
 import one.june.leave_management.common.mapper.LeaveMapper;
 import one.june.leave_management.common.model.DateRange;
+import one.june.leave_management.config.LeavePersistenceProperties;
 import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.LeaveCursor;
 import one.june.leave_management.domain.leave.model.LeaveFilters;
 import one.june.leave_management.domain.leave.model.LeaveSourceRef;
 import one.june.leave_management.domain.leave.port.LeaveRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
@@ -26,13 +43,27 @@ public class LeavePersistenceAdapter implements LeaveRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(LeavePersistenceAdapter.class);
 
+    /**
+     * PostgreSQL SQLState for exclusion constraint violations (excl_leave_user_period)
+     */
+    private static final String EXCLUSION_VIOLATION_SQL_STATE = "23P01";
+
     private final LeaveJpaRepository leaveJpaRepository;
     private final LeaveMapper leaveMapper;
+    private final LeaveIntervalIndex leaveIntervalIndex;
+    private final LeaveUpsertJdbcRepository leaveUpsertJdbcRepository;
+    private final LeavePersistenceProperties leavePersistenceProperties;
 
     public LeavePersistenceAdapter(LeaveJpaRepository leaveJpaRepository,
-                                   LeaveMapper leaveMapper) {
+                                   LeaveMapper leaveMapper,
+                                   LeaveIntervalIndex leaveIntervalIndex,
+                                   LeaveUpsertJdbcRepository leaveUpsertJdbcRepository,
+                                   LeavePersistenceProperties leavePersistenceProperties) {
         this.leaveJpaRepository = leaveJpaRepository;
         this.leaveMapper = leaveMapper;
+        this.leaveIntervalIndex = leaveIntervalIndex;
+        this.leaveUpsertJdbcRepository = leaveUpsertJdbcRepository;
+        this.leavePersistenceProperties = leavePersistenceProperties;
     }
 
     // LeaveRepository implementation
@@ -41,7 +72,12 @@ public class LeavePersistenceAdapter implements LeaveRepository {
     public Leave save(Leave leave) {
         logger.debug("Saving leave: {}", leave);
 
+        if (leave.getId() != null && leavePersistenceProperties.isNativeUpsert()) {
+            return updateNatively(leave);
+        }
+
         LeaveJpaEntity jpaEntity = leaveMapper.toJpaEntity(leave);
+        String previousUserId = null;
 
         // Handle source references for new leaves
         if (jpaEntity.getId() == null) {
@@ -56,27 +92,81 @@ public class LeavePersistenceAdapter implements LeaveRepository {
             UUID leaveId = jpaEntity.getId();
             LeaveJpaEntity existingEntity = leaveJpaRepository.findById(leaveId)
                     .orElseThrow(() -> new IllegalArgumentException("Leave not found with id: " + leaveId));
-            existingEntity.getSourceRefs().clear();
+            previousUserId = existingEntity.getUserId();
+            copyToExistingEntity(leave, existingEntity);
+            jpaEntity = existingEntity;
+        }
 
-            // Add or update source references
-            for (LeaveSourceRef sourceRef : leave.getSourceRefs()) {
-                LeaveSourceRefJpaEntity sourceRefJpaEntity = leaveMapper.toJpaEntity(sourceRef);
-                sourceRefJpaEntity.setLeave(existingEntity);
-                existingEntity.getSourceRefs().add(sourceRefJpaEntity);
-            }
+        // Flush so an overlap rejected by the database surfaces here rather than at commit
+        LeaveJpaEntity savedEntity;
+        try {
+            savedEntity = leaveJpaRepository.saveAndFlush(jpaEntity);
+        } catch (DataIntegrityViolationException e) {
+            throw translateOverlapViolation(e, leave);
+        }
+        Leave savedLeave = leaveMapper.toDomainEntity(savedEntity);
+        leaveIntervalIndex.onSaved(savedLeave, previousUserId);
+        return savedLeave;
+    }
 
-            // Copy other properties
-            existingEntity.setUserId(leave.getUserId());
-            existingEntity.setStartDate(leave.getStartDate());
-            existingEntity.setEndDate(leave.getEndDate());
-            existingEntity.setType(leave.getType());
-            existingEntity.setStatus(leave.getStatus());
-            existingEntity.setDurationType(leave.getDurationType());
-            jpaEntity = existingEntity;
+    @Override
+    @Transactional
+    public List<Leave> saveAll(List<Leave> leaves) {
+        logger.debug("Saving {} leaves", leaves.size());
+
+        // Load every leave being updated in one query instead of one findById per leave
+        List<UUID> existingIds = leaves.stream()
+                .map(Leave::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        Map<UUID, LeaveJpaEntity> existingEntities = existingIds.isEmpty()
+                ? Map.of()
+                : leaveJpaRepository.findAllWithSourceRefsByIdIn(existingIds).stream()
+                        .collect(Collectors.toMap(LeaveJpaEntity::getId, Function.identity()));
+
+        List<LeaveJpaEntity> jpaEntities = new ArrayList<>(leaves.size());
+        List<LeaveJpaEntity> newEntities = new ArrayList<>();
+        List<LeaveJpaEntity> updatedEntities = new ArrayList<>();
+        List<String> previousUserIds = new ArrayList<>(leaves.size());
+        for (Leave leave : leaves) {
+            if (leave.getId() == null) {
+                LeaveJpaEntity jpaEntity = leaveMapper.toJpaEntity(leave);
+                for (LeaveSourceRef sourceRef : leave.getSourceRefs()) {
+                    LeaveSourceRefJpaEntity sourceRefJpaEntity = leaveMapper.toJpaEntity(sourceRef);
+                    sourceRefJpaEntity.setLeave(jpaEntity);
+                    jpaEntity.getSourceRefs().add(sourceRefJpaEntity);
+                }
+                jpaEntities.add(jpaEntity);
+                newEntities.add(jpaEntity);
+                previousUserIds.add(null);
+            } else {
+                LeaveJpaEntity existingEntity = existingEntities.get(leave.getId());
+                if (existingEntity == null) {
+                    throw new IllegalArgumentException("Leave not found with id: " + leave.getId());
+                }
+                previousUserIds.add(existingEntity.getUserId());
+                copyToExistingEntity(leave, existingEntity);
+                jpaEntities.add(existingEntity);
+                updatedEntities.add(existingEntity);
+            }
         }
 
-        LeaveJpaEntity savedEntity = leaveJpaRepository.save(jpaEntity);
-        return leaveMapper.toDomainEntity(savedEntity);
+        // Updates are flushed before inserts: the overlap constraint is checked per statement, so a leave
+        // moved away from some dates must be written before a new leave takes those dates.
+        // Each flush is grouped by Hibernate JDBC batching.
+        try {
+            leaveJpaRepository.saveAllAndFlush(updatedEntities);
+            leaveJpaRepository.saveAllAndFlush(newEntities);
+        } catch (DataIntegrityViolationException e) {
+            throw translateOverlapViolation(e, null);
+        }
+        List<Leave> savedLeaves = jpaEntities.stream()
+                .map(leaveMapper::toDomainEntity)
+                .collect(Collectors.toList());
+        for (int i = 0; i < savedLeaves.size(); i++) {
+            leaveIntervalIndex.onSaved(savedLeaves.get(i), previousUserIds.get(i));
+        }
+        return savedLeaves;
     }
 
     @Override
@@ -97,6 +187,10 @@ public class LeavePersistenceAdapter implements LeaveRepository {
     @Override
     @Transactional
     public void deleteById(UUID id) {
+        if (leaveIntervalIndex.isEnabled()) {
+            leaveJpaRepository.findById(id)
+                    .ifPresent(entity -> leaveIntervalIndex.onDeleted(entity.getUserId(), id));
+        }
         leaveJpaRepository.deleteById(id);
     }
 
@@ -111,6 +205,10 @@ public class LeavePersistenceAdapter implements LeaveRepository {
     public List<Leave> findOverlappingLeaves(String userId, DateRange dateRange) {
         logger.debug("Finding overlapping leaves for user {} with date range {}", userId, dateRange);
 
+        if (leaveIntervalIndex.isEnabled()) {
+            return leaveIntervalIndex.findOverlapping(userId, dateRange, null, this::loadAllForUser);
+        }
+
         List<LeaveJpaEntity> overlappingEntities = leaveJpaRepository.findOverlappingLeaves(
                 userId, dateRange.getStartDate(), dateRange.getEndDate());
 
@@ -125,6 +223,10 @@ public class LeavePersistenceAdapter implements LeaveRepository {
         logger.debug("Finding overlapping leaves for user {} with date range {} excluding leave ID {}",
                     userId, dateRange, excludeLeaveId);
 
+        if (leaveIntervalIndex.isEnabled()) {
+            return leaveIntervalIndex.findOverlapping(userId, dateRange, excludeLeaveId, this::loadAllForUser);
+        }
+
         List<LeaveJpaEntity> overlappingEntities = leaveJpaRepository.findOverlappingLeaves(
                 userId, dateRange.getStartDate(), dateRange.getEndDate(), excludeLeaveId);
 
@@ -138,35 +240,212 @@ public class LeavePersistenceAdapter implements LeaveRepository {
     public Page<Leave> findByFilters(LeaveFilters filters, Pageable pageable) {
         logger.debug("Finding leaves with filters: {}", filters);
 
-        // Calculate date ranges for year and quarter filters
-        java.time.LocalDate yearStart = null;
-        java.time.LocalDate yearEnd = null;
-        if (filters.getYear() != null) {
-            yearStart = java.time.LocalDate.of(filters.getYear(), 1, 1);
-            yearEnd = java.time.LocalDate.of(filters.getYear(), 12, 31);
-        }
-
-        java.time.LocalDate quarterStart = null;
-        java.time.LocalDate quarterEnd = null;
-        if (filters.getStartMonth() != null && filters.getEndMonth() != null && filters.getYear() != null) {
-            quarterStart = java.time.LocalDate.of(filters.getYear(), filters.getStartMonth(), 1);
-            // Last day of the end month
-            int lastDayOfMonth = java.time.YearMonth.of(filters.getYear(), filters.getEndMonth()).lengthOfMonth();
-            quarterEnd = java.time.LocalDate.of(filters.getYear(), filters.getEndMonth(), lastDayOfMonth);
-        }
+        FilterDates dates = FilterDates.of(filters);
 
-        Page<LeaveJpaEntity> jpaPage = leaveJpaRepository.findByFilters(
+        // Phase 1: page over IDs only
+        Page<UUID> idPage = leaveJpaRepository.findIdsByFilters(
                 filters.getUserId(),
                 filters.getYear(),
-                yearStart,
-                yearEnd,
+                dates.yearStart(),
+                dates.yearEnd(),
                 filters.getStartMonth(),
                 filters.getEndMonth(),
-                quarterStart,
-                quarterEnd,
+                dates.quarterStart(),
+                dates.quarterEnd(),
                 pageable
         );
 
-        return jpaPage.map(leaveMapper::toDomainEntity);
+        // Phase 2: load the page's leaves with their source references in one query, keeping the page order
+        Map<UUID, Leave> leavesById = loadWithSourceRefs(idPage.getContent());
+        return idPage.map(leavesById::get);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Leave> findBySourceRefs(Collection<LeaveSourceRef> sourceRefs) {
+        if (sourceRefs.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> sourceIds = sourceRefs.stream()
+                .map(LeaveSourceRef::getSourceId)
+                .collect(Collectors.toSet());
+        logger.debug("Resolving {} source references", sourceRefs.size());
+
+        // The query matches on source ID only; drop leaves whose match was under another source type
+        return leaveJpaRepository.findAllWithSourceRefsBySourceIds(sourceIds).stream()
+                .map(leaveMapper::toDomainEntity)
+                .filter(leave -> leave.getSourceRefs().stream().anyMatch(sourceRefs::contains))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Leave> findOverlappingLeaves(Collection<String> userIds, DateRange dateRange) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+
+        logger.debug("Finding overlapping leaves for {} users with date range {}", userIds.size(), dateRange);
+
+        return leaveJpaRepository.findOverlappingLeavesForUsers(
+                        userIds, dateRange.getStartDate(), dateRange.getEndDate()).stream()
+                .map(leaveMapper::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Leave> findByFiltersAfter(LeaveFilters filters, LeaveCursor after, int limit) {
+        logger.debug("Finding leaves with filters: {} after cursor: {}", filters, after);
+
+        FilterDates dates = FilterDates.of(filters);
+        List<UUID> ids = after == null
+                ? leaveJpaRepository.findIdsByFiltersFirst(
+                        filters.getUserId(),
+                        filters.getYear(),
+                        dates.yearStart(),
+                        dates.yearEnd(),
+                        filters.getStartMonth(),
+                        filters.getEndMonth(),
+                        dates.quarterStart(),
+                        dates.quarterEnd(),
+                        Limit.of(limit))
+                : leaveJpaRepository.findIdsByFiltersAfter(
+                        filters.getUserId(),
+                        filters.getYear(),
+                        dates.yearStart(),
+                        dates.yearEnd(),
+                        filters.getStartMonth(),
+                        filters.getEndMonth(),
+                        dates.quarterStart(),
+                        dates.quarterEnd(),
+                        after.getStartDate(),
+                        after.getId(),
+                        Limit.of(limit));
+
+        Map<UUID, Leave> leavesById = loadWithSourceRefs(ids);
+        return ids.stream()
+                .map(leavesById::get)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Update an existing leave with one UPDATE ... RETURNING plus one batched source reference upsert,
+     * instead of loading the entity and deleting and re-inserting its source references.
+     */
+    private Leave updateNatively(Leave leave) {
+        // The native statements bypass the persistence context, so write out anything pending first
+        leaveJpaRepository.flush();
+
+        UpdatedLeave updated;
+        try {
+            updated = leaveUpsertJdbcRepository.update(leave)
+                    .orElseThrow(() -> new IllegalArgumentException("Leave not found with id: " + leave.getId()));
+        } catch (DataIntegrityViolationException e) {
+            throw translateOverlapViolation(e, leave);
+        }
+
+        leaveIntervalIndex.onSaved(updated.leave(), updated.previousUserId());
+        return updated.leave();
+    }
+
+    private List<Leave> loadAllForUser(String userId) {
+        return leaveJpaRepository.findAllWithSourceRefsByUserId(userId).stream()
+                .map(leaveMapper::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+
+    private Map<UUID, Leave> loadWithSourceRefs(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return leaveJpaRepository.findAllWithSourceRefsByIdIn(ids).stream()
+                .map(leaveMapper::toDomainEntity)
+                .collect(Collectors.toMap(Leave::getId, Function.identity()));
+    }
+
+    /**
+     * Translate a violation of the leave overlap exclusion constraint into an OverlappingLeaveException.
+     * Any other integrity violation is returned unchanged.
+     *
+     * @param e the integrity violation raised while flushing
+     * @param leave the leave being saved, or null when the violating row of a batch is unknown
+     */
+    private RuntimeException translateOverlapViolation(DataIntegrityViolationException e, Leave leave) {
+        if (!isExclusionViolation(e)) {
+            return e;
+        }
+
+        if (leave == null) {
+            logger.warn("Batch write rejected by the leave overlap constraint");
+            return new OverlappingLeaveException(
+                    "A leave in the batch overlaps with an existing leave for the same user",
+                    null, null, null, null);
+        }
+
+        logger.warn("Leave for user {} from {} to {} rejected by the leave overlap constraint",
+                leave.getUserId(), leave.getStartDate(), leave.getEndDate());
+        return new OverlappingLeaveException(
+                String.format("User %s already has a leave that overlaps with the requested leave from %s to %s",
+                        leave.getUserId(), leave.getStartDate(), leave.getEndDate()),
+                leave.getUserId(), leave.getStartDate(), leave.getEndDate(), null);
+    }
+
+    private static boolean isExclusionViolation(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && EXCLUSION_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void copyToExistingEntity(Leave leave, LeaveJpaEntity existingEntity) {
+        existingEntity.getSourceRefs().clear();
+
+        // Add or update source references
+        for (LeaveSourceRef sourceRef : leave.getSourceRefs()) {
+            LeaveSourceRefJpaEntity sourceRefJpaEntity = leaveMapper.toJpaEntity(sourceRef);
+            sourceRefJpaEntity.setLeave(existingEntity);
+            existingEntity.getSourceRefs().add(sourceRefJpaEntity);
+        }
+
+        // Copy other properties
+        existingEntity.setUserId(leave.getUserId());
+        existingEntity.setStartDate(leave.getStartDate());
+        existingEntity.setEndDate(leave.getEndDate());
+        existingEntity.setType(leave.getType());
+        existingEntity.setStatus(leave.getStatus());
+        existingEntity.setDurationType(leave.getDurationType());
+    }
+
+    /**
+     * Date bounds derived from the year and quarter filters
+     */
+    private record FilterDates(LocalDate yearStart, LocalDate yearEnd, LocalDate quarterStart, LocalDate quarterEnd) {
+
+        static FilterDates of(LeaveFilters filters) {
+            // Calculate date ranges for year and quarter filters
+            LocalDate yearStart = null;
+            LocalDate yearEnd = null;
+            if (filters.getYear() != null) {
+                yearStart = LocalDate.of(filters.getYear(), 1, 1);
+                yearEnd = LocalDate.of(filters.getYear(), 12, 31);
+            }
+
+            LocalDate quarterStart = null;
+            LocalDate quarterEnd = null;
+            if (filters.getStartMonth() != null && filters.getEndMonth() != null && filters.getYear() != null) {
+                quarterStart = LocalDate.of(filters.getYear(), filters.getStartMonth(), 1);
+                // Last day of the end month
+                int lastDayOfMonth = YearMonth.of(filters.getYear(), filters.getEndMonth()).lengthOfMonth();
+                quarterEnd = LocalDate.of(filters.getYear(), filters.getEndMonth(), lastDayOfMonth);
+            }
+
+            return new FilterDates(yearStart, yearEnd, quarterStart, quarterEnd);
+        }
     }
-}
\ No newline at end of file
+}
@@ -15,6 +15,8 @@ import java.util.UUID;
 /**
  * JPA entity for audit_log table.
  * Stores comprehensive audit trail information for all API requests and responses.
+ * The table is partitioned by month on timestamp, so its primary key in the database is (id, timestamp).
+ * A body stored gzipped (see AuditPayloadPolicy) is in the *Gzip column and its text column is null.
  */
 @Entity
 @Table(name = "audit_log")
@@ -47,12 +49,18 @@ public class AuditLogJpaEntity {
     @Column(name = "request_body", columnDefinition = "TEXT")
     private String requestBody;
 
+    @Column(name = "request_body_gzip", columnDefinition = "BYTEA")
+    private byte[] requestBodyGzip;
+
     @Column(name = "response_status")
     private Integer responseStatus;
 
     @Column(name = "response_body", columnDefinition = "TEXT")
     private String responseBody;
 
+    @Column(name = "response_body_gzip", columnDefinition = "BYTEA")
+    private byte[] responseBodyGzip;
+
     @Column(name = "user_id", length = 255)
     private String userId;
 
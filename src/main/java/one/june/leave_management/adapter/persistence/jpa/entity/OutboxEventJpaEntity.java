@@ -0,0 +1,82 @@
+package one.june.leave_management.adapter.persistence.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import one.june.leave_management.domain.leave.model.SourceType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA entity for outbox_event table.
+ * One pending outbound sync of a leave to one target system.
+ */
+@Entity
+@Table(name = "outbox_event")
+@Getter
+@Setter
+@Builder
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventJpaEntity {
+
+    /**
+     * Lifecycle of an outbox row; dispatched rows are deleted
+     */
+    public enum Status {
+        PENDING,
+        DEAD
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "leave_id", nullable = false, columnDefinition = "UUID")
+    private UUID leaveId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target", nullable = false, length = 50)
+    private SourceType target;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "originating_source", nullable = false, length = 50)
+    private SourceType originatingSource;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private Instant lockedUntil;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
@@ -41,6 +41,7 @@ public interface AuditLogJpaRepository extends JpaRepository<AuditLogJpaEntity,
 
     /**
      * Find all audit logs within a time range.
+     * Only the monthly partitions overlapping the range are scanned.
      *
      * @param startTime the start of the time range
      * @param endTime the end of the time range
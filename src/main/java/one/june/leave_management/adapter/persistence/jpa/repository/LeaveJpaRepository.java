@@ -1,6 +1,7 @@
 package one.june.leave_management.adapter.persistence.jpa.repository;
 
 import one.june.leave_management.adapter.persistence.jpa.entity.LeaveJpaEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,19 +10,33 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface LeaveJpaRepository extends JpaRepository<LeaveJpaEntity, UUID> {
+
+    /**
+     * Optional user, year and quarter filters shared by the filtered queries
+     */
+    String FILTER_CONDITIONS =
+            "(:userId IS NULL OR l.userId = :userId) AND " +
+            "(:year IS NULL OR " +
+            "  (l.startDate <= :yearEnd AND l.endDate >= :yearStart)) AND " +
+            "(:startMonth IS NULL OR :endMonth IS NULL OR " +
+            "  (l.startDate <= :quarterEnd AND l.endDate >= :quarterStart))";
+
     List<LeaveJpaEntity> findByUserId(String userId);
 
     /**
      * Find leaves that overlap with the given date range for a specific user
      * Uses date range overlap logic: (start1 <= end2) AND (end1 >= start2)
+     * Cancelled leaves never overlap, as in the excl_leave_user_period constraint
      */
     @Query("SELECT l FROM LeaveJpaEntity l WHERE l.userId = :userId " +
-           "AND l.startDate <= :endDate AND l.endDate >= :startDate")
+           "AND l.startDate <= :endDate AND l.endDate >= :startDate " +
+           "AND l.status <> one.june.leave_management.domain.leave.model.LeaveStatus.CANCELLED")
     List<LeaveJpaEntity> findOverlappingLeaves(
             @Param("userId") String userId,
             @Param("startDate") LocalDate startDate,
@@ -30,9 +45,11 @@ public interface LeaveJpaRepository extends JpaRepository<LeaveJpaEntity, UUID>
     /**
      * Find leaves that overlap with the given date range for a specific user, excluding a specific leave ID
      * Uses date range overlap logic: (start1 <= end2) AND (end1 >= start2)
+     * Cancelled leaves never overlap, as in the excl_leave_user_period constraint
      */
     @Query("SELECT l FROM LeaveJpaEntity l WHERE l.userId = :userId " +
            "AND l.startDate <= :endDate AND l.endDate >= :startDate " +
+           "AND l.status <> one.june.leave_management.domain.leave.model.LeaveStatus.CANCELLED " +
            "AND l.id != :excludeLeaveId")
     List<LeaveJpaEntity> findOverlappingLeaves(
             @Param("userId") String userId,
@@ -41,9 +58,13 @@ public interface LeaveJpaRepository extends JpaRepository<LeaveJpaEntity, UUID>
             @Param("excludeLeaveId") UUID excludeLeaveId);
 
     /**
-     * Find leaves by filters with pagination support.
+     * Find the IDs of leaves matching the filters, with pagination support.
      * All filters are optional - null values will be ignored.
      *
+     * Only IDs are paged here; callers load the leaves and their source references for the page with
+     * {@link #findAllWithSourceRefsByIdIn(Collection)}, so a page costs a fixed number of queries instead of
+     * one extra query per row for the lazy source references.
+     *
      * Uses date range comparisons for year filtering to ensure compatibility with H2 database.
      *
      * @param userId optional user ID to filter by
@@ -51,22 +72,89 @@ public interface LeaveJpaRepository extends JpaRepository<LeaveJpaEntity, UUID>
      * @param startMonth optional start month for quarter filtering (1-12)
      * @param endMonth optional end month for quarter filtering (1-12)
      * @param pageable pagination and sorting parameters
-     * @return page of leaves matching the filter criteria
+     * @return page of IDs of leaves matching the filter criteria
      */
-    @Query("SELECT l FROM LeaveJpaEntity l WHERE " +
-           "(:userId IS NULL OR l.userId = :userId) AND " +
-           "(:year IS NULL OR " +
-           "  (l.startDate <= :yearEnd AND l.endDate >= :yearStart)) AND " +
-           "(:startMonth IS NULL OR :endMonth IS NULL OR " +
-           "  (l.startDate <= :quarterEnd AND l.endDate >= :quarterStart))")
-    Page<LeaveJpaEntity> findByFilters(
+    @Query(value = "SELECT l.id FROM LeaveJpaEntity l WHERE " + FILTER_CONDITIONS,
+           countQuery = "SELECT COUNT(l) FROM LeaveJpaEntity l WHERE " + FILTER_CONDITIONS)
+    Page<UUID> findIdsByFilters(
             @Param("userId") String userId,
             @Param("year") Integer year,
-            @Param("yearStart") java.time.LocalDate yearStart,
-            @Param("yearEnd") java.time.LocalDate yearEnd,
+            @Param("yearStart") LocalDate yearStart,
+            @Param("yearEnd") LocalDate yearEnd,
             @Param("startMonth") Integer startMonth,
             @Param("endMonth") Integer endMonth,
-            @Param("quarterStart") java.time.LocalDate quarterStart,
-            @Param("quarterEnd") java.time.LocalDate quarterEnd,
+            @Param("quarterStart") LocalDate quarterStart,
+            @Param("quarterEnd") LocalDate quarterEnd,
             Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * First page of IDs of leaves matching the filters in (startDate, id) keyset order.
+     * Returns a list rather than a page, so no count query is issued.
+     */
+    @Query("SELECT l.id FROM LeaveJpaEntity l WHERE " + FILTER_CONDITIONS +
+           " ORDER BY l.startDate ASC, l.id ASC")
+    List<UUID> findIdsByFiltersFirst(
+            @Param("userId") String userId,
+            @Param("year") Integer year,
+            @Param("yearStart") LocalDate yearStart,
+            @Param("yearEnd") LocalDate yearEnd,
+            @Param("startMonth") Integer startMonth,
+            @Param("endMonth") Integer endMonth,
+            @Param("quarterStart") LocalDate quarterStart,
+            @Param("quarterEnd") LocalDate quarterEnd,
+            Limit limit);
+
+    /**
+     * IDs of leaves matching the filters that come strictly after the given (startDate, id) position.
+     * Seeks through idx_leave_start_date_id instead of scanning past an offset.
+     */
+    @Query("SELECT l.id FROM LeaveJpaEntity l WHERE " + FILTER_CONDITIONS +
+           " AND (l.startDate > :afterStartDate OR (l.startDate = :afterStartDate AND l.id > :afterId))" +
+           " ORDER BY l.startDate ASC, l.id ASC")
+    List<UUID> findIdsByFiltersAfter(
+            @Param("userId") String userId,
+            @Param("year") Integer year,
+            @Param("yearStart") LocalDate yearStart,
+            @Param("yearEnd") LocalDate yearEnd,
+            @Param("startMonth") Integer startMonth,
+            @Param("endMonth") Integer endMonth,
+            @Param("quarterStart") LocalDate quarterStart,
+            @Param("quarterEnd") LocalDate quarterEnd,
+            @Param("afterStartDate") LocalDate afterStartDate,
+            @Param("afterId") UUID afterId,
+            Limit limit);
+
+    /**
+     * Find leaves (with their source references) that own a source reference with any of the given source IDs.
+     * Used by batch ingestion to resolve all (sourceType, sourceId) pairs in one round trip;
+     * callers match the source type in memory.
+     */
+    @Query("SELECT DISTINCT l FROM LeaveJpaEntity l LEFT JOIN FETCH l.sourceRefs " +
+           "WHERE l.id IN (SELECT r.leave.id FROM LeaveSourceRefJpaEntity r WHERE r.sourceId IN :sourceIds)")
+    List<LeaveJpaEntity> findAllWithSourceRefsBySourceIds(@Param("sourceIds") Collection<String> sourceIds);
+
+    /**
+     * Find leaves (with their source references) for any of the given users that overlap the given window.
+     * Uses date range overlap logic: (start1 <= end2) AND (end1 >= start2)
+     * Cancelled leaves never overlap, as in the excl_leave_user_period constraint
+     */
+    @Query("SELECT DISTINCT l FROM LeaveJpaEntity l LEFT JOIN FETCH l.sourceRefs " +
+           "WHERE l.userId IN :userIds AND l.startDate <= :endDate AND l.endDate >= :startDate " +
+           "AND l.status <> one.june.leave_management.domain.leave.model.LeaveStatus.CANCELLED")
+    List<LeaveJpaEntity> findOverlappingLeavesForUsers(
+            @Param("userIds") Collection<String> userIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Find all leaves of a user with their source references fetched in the same query.
+     */
+    @Query("SELECT DISTINCT l FROM LeaveJpaEntity l LEFT JOIN FETCH l.sourceRefs WHERE l.userId = :userId")
+    List<LeaveJpaEntity> findAllWithSourceRefsByUserId(@Param("userId") String userId);
+
+    /**
+     * Find leaves by ID with their source references fetched in the same query.
+     */
+    @Query("SELECT DISTINCT l FROM LeaveJpaEntity l LEFT JOIN FETCH l.sourceRefs WHERE l.id IN :ids")
+    List<LeaveJpaEntity> findAllWithSourceRefsByIdIn(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,16 @@
+package one.june.leave_management.adapter.persistence.jpa.repository;
+
+import one.june.leave_management.adapter.persistence.jpa.entity.OutboxEventJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for OutboxEventJpaEntity.
+ * Used to write outbox rows inside the leave transaction; claiming and completing rows goes through
+ * {@link one.june.leave_management.adapter.persistence.jdbc.OutboxEventJdbcRepository}.
+ */
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, UUID> {
+}
@@ -0,0 +1,119 @@
+package one.june.leave_management.application.audit.service;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import one.june.leave_management.adapter.persistence.jpa.entity.AuditLogJpaEntity;
+import one.june.leave_management.domain.audit.model.AuditLog;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Converts audit log domain models into rows, serializing request and response bodies to JSON.
+ * How much of each body is kept, and whether it is compressed, is decided by the {@link AuditPayloadPolicy}.
+ * Conversion is split in two so the costlier compression can run later on another thread: serializing into an
+ * uncompressed entity, then compressing its bodies.
+ */
+@Component
+@Slf4j
+public class AuditLogConverter {
+
+    private final ObjectMapper objectMapper;
+    private final AuditPayloadPolicy payloadPolicy;
+
+    public AuditLogConverter(AuditPayloadPolicy payloadPolicy) {
+        // Configure ObjectMapper to disable REQUIRE_HANDLERS_FOR_JAVA8_TIMES
+        // This allows serialization of objects with LocalDate fields without JavaTimeModule
+        this.objectMapper = new ObjectMapper()
+                .disable(MapperFeature.REQUIRE_HANDLERS_FOR_JAVA8_TIMES);
+        this.payloadPolicy = payloadPolicy;
+    }
+
+    /**
+     * Convert domain model to JPA entity.
+     *
+     * @param auditLog the domain model
+     * @return JPA entity
+     */
+    public AuditLogJpaEntity toJpaEntity(AuditLog auditLog) {
+        return compressBodies(toUncompressedEntity(auditLog));
+    }
+
+    /**
+     * Convert domain model to JPA entity with its bodies serialized and capped, but not compressed yet.
+     * The entity no longer refers to the request or response objects.
+     *
+     * @param auditLog the domain model
+     * @return JPA entity with text bodies, to be passed to {@link #compressBodies(AuditLogJpaEntity)}
+     */
+    public AuditLogJpaEntity toUncompressedEntity(AuditLog auditLog) {
+        String requestBody = safeToText(auditLog.getRequestBody(), auditLog.getEndpoint());
+        String responseBody = payloadPolicy.isResponseSampled(auditLog)
+                ? safeToText(auditLog.getResponseBody(), auditLog.getEndpoint())
+                : AuditPayloadPolicy.NOT_SAMPLED;
+
+        return AuditLogJpaEntity.builder()
+                .id(auditLog.getId())
+                .requestId(auditLog.getRequestId())
+                .endpoint(auditLog.getEndpoint())
+                .httpMethod(auditLog.getHttpMethod())
+                .sourceType(auditLog.getSourceType())
+                .requestBody(requestBody)
+                .responseStatus(auditLog.getResponseStatus())
+                .responseBody(responseBody)
+                .userId(auditLog.getUserId())
+                .executionTimeMs(auditLog.getExecutionTimeMs())
+                .errorMessage(auditLog.getErrorMessage())
+                .timestamp(auditLog.getTimestamp() != null ? auditLog.getTimestamp() : LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Compress the text bodies of an entity from {@link #toUncompressedEntity(AuditLog)} as the payload policy
+     * says, moving them to the gzip columns. Bodies already compressed are left alone.
+     *
+     * @param entity the entity, changed in place
+     * @return the same entity
+     */
+    public AuditLogJpaEntity compressBodies(AuditLogJpaEntity entity) {
+        if (entity.getRequestBody() != null) {
+            AuditPayloadPolicy.StoredBody requestBody = payloadPolicy.compress(entity.getRequestBody());
+            entity.setRequestBody(requestBody.text());
+            entity.setRequestBodyGzip(requestBody.gzip());
+        }
+        // The placeholder of an unsampled response is stored as is
+        if (entity.getResponseBody() != null && !AuditPayloadPolicy.NOT_SAMPLED.equals(entity.getResponseBody())) {
+            AuditPayloadPolicy.StoredBody responseBody = payloadPolicy.compress(entity.getResponseBody());
+            entity.setResponseBody(responseBody.text());
+            entity.setResponseBodyGzip(responseBody.gzip());
+        }
+        return entity;
+    }
+
+    /**
+     * Safely convert object to JSON, capped by the payload policy.
+     * Falls back to the object's toString() if conversion fails.
+     *
+     * @param obj the object to convert
+     * @param endpoint the audited endpoint, for its body size limit
+     * @return the body text, null for a null object
+     */
+    private String safeToText(Object obj, String endpoint) {
+        if (obj == null) {
+            return null;
+        }
+        AuditPayloadPolicy.CappedOutputStream out = payloadPolicy.newBodyStream(endpoint);
+        try {
+            objectMapper.writeValue(out, obj);
+        } catch (IOException e) {
+            log.warn("Failed to convert object to JSON: {}", e.getMessage());
+            out = payloadPolicy.newBodyStream(endpoint);
+            byte[] fallback = obj.toString().getBytes(StandardCharsets.UTF_8);
+            out.write(fallback, 0, fallback.length);
+        }
+        return payloadPolicy.toText(out);
+    }
+}
@@ -0,0 +1,138 @@
+package one.june.leave_management.application.audit.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import one.june.leave_management.adapter.persistence.jdbc.AdvisoryLockJdbcRepository;
+import one.june.leave_management.adapter.persistence.jdbc.AuditLogPartitionJdbcRepository;
+import one.june.leave_management.config.AuditPartitionProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Background job keeping the monthly partitions of audit_log in shape.
+ * <p>
+ * Each run creates the partitions of the current month and the next {@code monthsAhead} months, so inserts never
+ * fall into the default partition, and detaches or drops the partitions of months older than
+ * {@code retentionMonths} complete months. Months follow the JVM time zone, like the audit timestamps. Every change
+ * runs in its own transaction under an advisory lock, so instances running the job at the same time do not
+ * race, and a failing change does not stop the others; the next run retries it.
+ * <p>
+ * Metric: {@code audit.partition.maintenance}, tagged {@code action=created|detached|dropped|failed}.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "audit.partitioning.maintenance-enabled", havingValue = "true", matchIfMissing = true)
+public class AuditLogPartitionMaintainer {
+
+    private static final String LOCK_KEY = "audit_log_partition_maintenance";
+
+    private final AuditLogPartitionJdbcRepository partitionRepository;
+    private final AdvisoryLockJdbcRepository advisoryLockJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditPartitionProperties properties;
+    private final Clock clock;
+    private final Counter createdCounter;
+    private final Counter detachedCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    public AuditLogPartitionMaintainer(AuditLogPartitionJdbcRepository partitionRepository,
+                                       AdvisoryLockJdbcRepository advisoryLockJdbcRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       AuditPartitionProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this(partitionRepository, advisoryLockJdbcRepository, transactionManager, properties, meterRegistry,
+                Clock.systemDefaultZone());
+    }
+
+    AuditLogPartitionMaintainer(AuditLogPartitionJdbcRepository partitionRepository,
+                                AdvisoryLockJdbcRepository advisoryLockJdbcRepository,
+                                PlatformTransactionManager transactionManager,
+                                AuditPartitionProperties properties,
+                                MeterRegistry meterRegistry,
+                                Clock clock) {
+        this.partitionRepository = partitionRepository;
+        this.advisoryLockJdbcRepository = advisoryLockJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.clock = clock;
+
+        this.createdCounter = maintenanceCounter("created", meterRegistry);
+        this.detachedCounter = maintenanceCounter("detached", meterRegistry);
+        this.droppedCounter = maintenanceCounter("dropped", meterRegistry);
+        this.failedCounter = maintenanceCounter("failed", meterRegistry);
+    }
+
+    private static Counter maintenanceCounter(String action, MeterRegistry meterRegistry) {
+        return Counter.builder("audit.partition.maintenance")
+                .description("Changes made to the monthly partitions of audit_log")
+                .tag("action", action)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Create missing future partitions and expire partitions past the retention.
+     */
+    @Scheduled(fixedDelayString = "#{@auditPartitionProperties.maintenanceInterval.toMillis()}")
+    public void maintainPartitions() {
+        Set<YearMonth> existing;
+        try {
+            existing = new HashSet<>(partitionRepository.findMonthlyPartitions());
+        } catch (RuntimeException e) {
+            // The database is unavailable; the next run tries again
+            log.error("Failed to list audit_log partitions", e);
+            return;
+        }
+
+        YearMonth currentMonth = YearMonth.now(clock);
+        for (int i = 0; i <= properties.getMonthsAhead(); i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            if (!existing.contains(month)) {
+                apply("create", month, partitionRepository::createMonthlyPartition, createdCounter);
+            }
+        }
+
+        if (properties.getRetentionMonths() <= 0) {
+            return;
+        }
+        YearMonth oldestKept = currentMonth.minusMonths(properties.getRetentionMonths());
+        existing.stream()
+                .filter(month -> month.isBefore(oldestKept))
+                .sorted()
+                .forEach(this::expire);
+    }
+
+    private void expire(YearMonth month) {
+        if (properties.getRetentionAction() == AuditPartitionProperties.RetentionAction.DROP) {
+            apply("drop", month, partitionRepository::dropMonthlyPartition, droppedCounter);
+        } else {
+            apply("detach", month, partitionRepository::detachMonthlyPartition, detachedCounter);
+        }
+    }
+
+    private void apply(String action, YearMonth month, Consumer<YearMonth> change, Counter counter) {
+        String partition = AuditLogPartitionJdbcRepository.partitionName(month);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                advisoryLockJdbcRepository.lockForTransaction(LOCK_KEY);
+                change.accept(month);
+            });
+            counter.increment();
+            log.info("Audit log partition {} done: {}", action, partition);
+        } catch (RuntimeException e) {
+            // Creating a month fails if audit_log_default already holds rows of that month
+            failedCounter.increment();
+            log.error("Failed to {} audit log partition {}", action, partition, e);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package one.june.leave_management.application.audit.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import one.june.leave_management.adapter.persistence.jdbc.AuditLogJdbcRepository;
+import one.june.leave_management.adapter.persistence.jpa.entity.AuditLogJpaEntity;
+import one.june.leave_management.config.AuditWriterProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background writer for audit logs.
+ * <p>
+ * Request threads queue entities whose bodies are already serialized to text, so the bounded queue never
+ * holds live request or response objects. A single writer thread compresses the bodies and inserts the entities
+ * with JDBC batching, flushing when {@code flushSize} entries are collected or {@code flushInterval} has passed.
+ * When the queue is full, entries are dropped or the caller blocks briefly, depending on the overflow policy.
+ * On shutdown the queue is drained after the web server has stopped accepting requests.
+ * <p>
+ * Metrics: {@code audit.writer.queue.depth}, {@code audit.writer.dropped}, {@code audit.writer.written}
+ * and {@code audit.writer.failed}.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "audit.writer.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditLogWriter implements SmartLifecycle {
+
+    /**
+     * Stop after the web server (which stops around DEFAULT_PHASE - 2048) so in-flight requests are still audited
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    /**
+     * Marker put on the queue by stop() to wake a writer blocked waiting for entries; never written
+     */
+    private static final AuditLogJpaEntity WAKE_UP = new AuditLogJpaEntity();
+
+    private final AuditLogJdbcRepository auditLogJdbcRepository;
+    private final AuditLogConverter auditLogConverter;
+    private final AuditWriterProperties properties;
+    private final BlockingQueue<AuditLogJpaEntity> queue;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AuditLogWriter(AuditLogJdbcRepository auditLogJdbcRepository,
+                          AuditLogConverter auditLogConverter,
+                          AuditWriterProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.auditLogJdbcRepository = auditLogJdbcRepository;
+        this.auditLogConverter = auditLogConverter;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        Gauge.builder("audit.writer.queue.depth", queue, BlockingQueue::size)
+                .description("Audit log entries waiting to be written")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.writer.dropped")
+                .description("Audit log entries dropped because the queue was full")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.writer.written")
+                .description("Audit log entries written to the database")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.writer.failed")
+                .description("Audit log entries lost because their batch insert failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue an audit log entry for writing.
+     * Once the writer has stopped, entries are written synchronously so nothing is lost during shutdown.
+     *
+     * @param auditLog the audit log entity to write, from {@link AuditLogConverter#toUncompressedEntity}
+     * @return true if the entry was accepted, false if it was dropped
+     */
+    public boolean submit(AuditLogJpaEntity auditLog) {
+        if (!running) {
+            writeBatch(List.of(auditLog));
+            return true;
+        }
+
+        boolean accepted;
+        if (properties.getOverflowPolicy() == AuditWriterProperties.OverflowPolicy.BLOCK) {
+            try {
+                accepted = queue.offer(auditLog, properties.getBlockTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+        } else {
+            accepted = queue.offer(auditLog);
+        }
+
+        if (!accepted) {
+            droppedCounter.increment();
+            log.warn("Audit queue full, dropped audit log for request_id: {}, endpoint: {}",
+                    auditLog.getRequestId(), auditLog.getEndpoint());
+        }
+        return accepted;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drainLoop, "audit-writer");
+        writerThread.start();
+        log.info("Started audit log writer (capacity: {}, flush size: {}, flush interval: {})",
+                properties.getQueueCapacity(), properties.getFlushSize(), properties.getFlushInterval());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        // If the queue is full the writer is not blocked anyway
+        queue.offer(WAKE_UP);
+        try {
+            writerThread.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (writerThread.isAlive() || !queue.isEmpty()) {
+            log.warn("Audit log writer did not drain within {}; {} entries not written",
+                    properties.getShutdownTimeout(), queue.size());
+        } else {
+            log.info("Audit log writer stopped and drained");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void drainLoop() {
+        int flushSize = Math.max(1, properties.getFlushSize());
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        List<AuditLogJpaEntity> batch = new ArrayList<>(flushSize);
+
+        // Keep going after stop() until the queue is empty
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditLogJpaEntity first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null || first == WAKE_UP) {
+                    continue;
+                }
+                batch.add(first);
+
+                // Wait for the batch to fill up, but never longer than the flush interval
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < flushSize) {
+                    queue.drainTo(batch, flushSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= flushSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    AuditLogJpaEntity next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null || next == WAKE_UP) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queue.drainTo(batch);
+                batch.removeIf(entry -> entry == WAKE_UP);
+                writeBatch(batch);
+                return;
+            }
+
+            batch.removeIf(entry -> entry == WAKE_UP);
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<AuditLogJpaEntity> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            batch.forEach(auditLogConverter::compressBodies);
+            auditLogJdbcRepository.insertAll(batch);
+            writtenCounter.increment(batch.size());
+            log.debug("Wrote batch of {} audit logs", batch.size());
+        } catch (Exception e) {
+            // Auditing must never take the application down; count and log the loss
+            failedCounter.increment(batch.size());
+            log.error("Failed to write batch of {} audit logs", batch.size(), e);
+        }
+    }
+}
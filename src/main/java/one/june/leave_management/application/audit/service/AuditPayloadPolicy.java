@@ -0,0 +1,237 @@
+package one.june.leave_management.application.audit.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import one.june.leave_management.config.AuditPayloadProperties;
+import one.june.leave_management.domain.audit.model.AuditLog;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Decides how much of an audit request or response body is stored, and how.
+ * <p>
+ * Bodies are serialized into a {@link CappedOutputStream}, which keeps only the first {@code maxBodyBytes}
+ * (per endpoint) and counts the rest, so a large response never becomes a large String. Truncated bodies end with
+ * a marker giving the original size and are no longer valid JSON. Bodies of at least {@code compressionMinBytes}
+ * are gzipped when compression is enabled; this is a separate step, so it can run on the audit writer thread
+ * instead of the request thread. Only a sample of successful read responses keeps its body; the others store
+ * {@link #NOT_SAMPLED}.
+ * <p>
+ * Metric: {@code audit.payload.size} in bytes, tagged {@code stage=serialized|stored}.
+ */
+@Component
+public class AuditPayloadPolicy {
+
+    /**
+     * Stored instead of the response body of a read that was not sampled
+     */
+    public static final String NOT_SAMPLED = "[response body not sampled]";
+
+    private static final String TRUNCATION_MARKER = "...[truncated, %d bytes in total]";
+
+    private final AuditPayloadProperties properties;
+    private final DistributionSummary serializedSize;
+    private final DistributionSummary storedSize;
+
+    public AuditPayloadPolicy(AuditPayloadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.serializedSize = payloadSize("serialized", meterRegistry);
+        this.storedSize = payloadSize("stored", meterRegistry);
+    }
+
+    private static DistributionSummary payloadSize(String stage, MeterRegistry meterRegistry) {
+        return DistributionSummary.builder("audit.payload.size")
+                .description("Size of audit request and response bodies before and after the payload policy")
+                .baseUnit("bytes")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A body as stored: text, gzipped text, or neither
+     *
+     * @param text The body as text, or null
+     * @param gzip The body as gzipped text, or null
+     */
+    public record StoredBody(String text, byte[] gzip) {
+    }
+
+    /**
+     * Whether the response body of an audit log is stored.
+     * Failed requests and requests other than GET/HEAD are always stored.
+     *
+     * @param auditLog the audit log
+     * @return true to store the response body
+     */
+    public boolean isResponseSampled(AuditLog auditLog) {
+        boolean read = "GET".equalsIgnoreCase(auditLog.getHttpMethod())
+                || "HEAD".equalsIgnoreCase(auditLog.getHttpMethod());
+        boolean failed = auditLog.getErrorMessage() != null
+                || (auditLog.getResponseStatus() != null && auditLog.getResponseStatus() >= 400);
+        if (!read || failed) {
+            return true;
+        }
+        double rate = properties.getReadResponseSampleRate();
+        return rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    /**
+     * Maximum stored body size for an endpoint.
+     *
+     * @param endpoint the request path
+     * @return the size in bytes, 0 for no limit
+     */
+    public int maxBodyBytes(String endpoint) {
+        int maxBytes = properties.getMaxBodyBytes();
+        int longestPrefix = -1;
+        if (endpoint != null) {
+            for (Map.Entry<String, Integer> entry : properties.getEndpointMaxBodyBytes().entrySet()) {
+                String prefix = entry.getKey();
+                if (endpoint.startsWith(prefix) && prefix.length() > longestPrefix) {
+                    longestPrefix = prefix.length();
+                    maxBytes = entry.getValue();
+                }
+            }
+        }
+        return maxBytes;
+    }
+
+    /**
+     * Create the stream a body of this endpoint is serialized into.
+     *
+     * @param endpoint the request path
+     * @return a stream keeping at most the endpoint's maximum body bytes
+     */
+    public CappedOutputStream newBodyStream(String endpoint) {
+        return new CappedOutputStream(maxBodyBytes(endpoint));
+    }
+
+    /**
+     * Turn a serialized body into what is stored, truncating and compressing it as configured.
+     *
+     * @param serialized the stream the body was serialized into
+     * @return the stored body
+     */
+    public StoredBody store(CappedOutputStream serialized) {
+        return compress(toText(serialized));
+    }
+
+    /**
+     * Turn a serialized body into its text, ending with the truncation marker if it was capped.
+     *
+     * @param serialized the stream the body was serialized into
+     * @return the body text
+     */
+    public String toText(CappedOutputStream serialized) {
+        serializedSize.record(serialized.totalBytes());
+
+        String text = new String(serialized.buffer(), 0, serialized.keptBytes(), StandardCharsets.UTF_8);
+        if (serialized.isTruncated()) {
+            text += TRUNCATION_MARKER.formatted(serialized.totalBytes());
+        }
+        return text;
+    }
+
+    /**
+     * Gzip a body text if compression is enabled and the text reaches the threshold.
+     *
+     * @param text the body text from {@link #toText(CappedOutputStream)}
+     * @return the stored body
+     */
+    public StoredBody compress(String text) {
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        if (properties.getCompression() == AuditPayloadProperties.Compression.GZIP
+                && utf8.length >= properties.getCompressionMinBytes()) {
+            byte[] gzip = gzip(utf8);
+            storedSize.record(gzip.length);
+            return new StoredBody(null, gzip);
+        }
+        storedSize.record(utf8.length);
+        return new StoredBody(text, null);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            // Cannot happen when writing to memory
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Output stream keeping the first {@code maxBytes} bytes written and counting the rest.
+     * The kept bytes always end on a complete UTF-8 character.
+     */
+    public static final class CappedOutputStream extends OutputStream {
+
+        private final int maxBytes;
+        private byte[] buffer = new byte[256];
+        private int size;
+        private long totalBytes;
+
+        CappedOutputStream(int maxBytes) {
+            this.maxBytes = maxBytes > 0 ? maxBytes : Integer.MAX_VALUE - 8;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            totalBytes += length;
+            int kept = Math.min(length, maxBytes - size);
+            if (kept <= 0) {
+                return;
+            }
+            if (size + kept > buffer.length) {
+                int capacity = (int) Math.min((long) maxBytes, Math.max(size + kept, (long) buffer.length * 2));
+                buffer = Arrays.copyOf(buffer, capacity);
+            }
+            System.arraycopy(bytes, offset, buffer, size, kept);
+            size += kept;
+        }
+
+        boolean isTruncated() {
+            return totalBytes > size;
+        }
+
+        long totalBytes() {
+            return totalBytes;
+        }
+
+        byte[] buffer() {
+            return buffer;
+        }
+
+        /**
+         * Number of kept bytes, excluding a UTF-8 character cut off by the cap
+         */
+        int keptBytes() {
+            if (!isTruncated() || size == 0) {
+                return size;
+            }
+            // Step back over continuation bytes to the start of the last character
+            int start = size - 1;
+            while (start > 0 && (buffer[start] & 0xC0) == 0x80) {
+                start--;
+            }
+            int lead = buffer[start] & 0xFF;
+            int length = lead < 0x80 ? 1 : lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : 2;
+            return start + length <= size ? size : start;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package one.june.leave_management.application.leave.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * One page of leaves fetched with keyset pagination.
+ * Unlike {@link org.springframework.data.domain.Page} it carries no totals, since computing them requires a count query.
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Page of leaves fetched with an opaque cursor")
+public class LeaveCursorPage {
+    @Schema(description = "Leaves on this page, ordered by start date then ID")
+    private List<LeaveDto> content;
+
+    @Schema(description = "Requested page size", example = "20")
+    private int size;
+
+    @Schema(description = "Whether more leaves follow this page", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Cursor to pass as the cursor parameter to fetch the next page; absent on the last page",
+            example = "MjAyNC0wMS0xMHwxMjNlNDU2Ny1lODliLTEyZDMtYTQ1Ni00MjY2MTQxNzQwMDA")
+    private String nextCursor;
+}
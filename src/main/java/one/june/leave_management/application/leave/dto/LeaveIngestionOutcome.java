@@ -0,0 +1,10 @@
+package one.june.leave_management.application.leave.dto;
+
+/**
+ * Outcome of ingesting a single item of a batch or stream
+ */
+public enum LeaveIngestionOutcome {
+    CREATED,
+    UPDATED,
+    FAILED
+}
@@ -0,0 +1,54 @@
+package one.june.leave_management.application.leave.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import one.june.leave_management.domain.leave.model.SourceType;
+
+/**
+ * Per-item result of a batch or streaming leave ingestion.
+ * Failed items carry an error message instead of a leave, so one bad row does not fail the whole batch.
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Result of ingesting a single leave within a batch")
+public class LeaveIngestionResult {
+    @Schema(description = "Zero-based position of the item in the submitted batch", example = "0")
+    private int index;
+
+    @Schema(description = "Source system of the item", example = "KIMAI")
+    private SourceType sourceType;
+
+    @Schema(description = "ID of the leave in the source system", example = "kimai-4711")
+    private String sourceId;
+
+    @Schema(description = "Whether the item created a leave, updated one, or failed", example = "CREATED")
+    private LeaveIngestionOutcome outcome;
+
+    @Schema(description = "The created or updated leave; absent for failed items")
+    private LeaveDto leave;
+
+    @Schema(description = "Why the item failed; absent for successful items",
+            example = "Half-day leaves must have the same start and end date")
+    private String error;
+
+    public static LeaveIngestionResult failed(int index, SourceType sourceType, String sourceId, String error) {
+        return LeaveIngestionResult.builder()
+                .index(index)
+                .sourceType(sourceType)
+                .sourceId(sourceId)
+                .outcome(LeaveIngestionOutcome.FAILED)
+                .error(error)
+                .build();
+    }
+}
@@ -0,0 +1,186 @@
+package one.june.leave_management.application.leave.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import one.june.leave_management.application.leave.command.LeaveIngestionCommand;
+import one.june.leave_management.application.leave.dto.LeaveDto;
+import one.june.leave_management.application.leave.dto.LeaveSourceRefDto;
+import one.june.leave_management.common.model.DateRange;
+import one.june.leave_management.config.LeaveIngestionCacheProperties;
+import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.LeaveSourceRef;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Cache from a source reference to the leave it last produced and a hash of the payload that produced it.
+ * <p>
+ * Lets {@link LeaveService#ingest} answer a re-ingest of an unchanged payload (the common case for calendar
+ * re-syncs) without resolving the source reference or loading the leave. Entries are only written after their
+ * transaction commits. Any write to a leave evicts every source reference pointing at it, so a change made
+ * through one source is never hidden by a stale entry of another.
+ * <p>
+ * Invalidation is in-process only: writes made by other instances or directly in the database are not seen
+ * until the entry expires, which is why the cache is off by default. Entries hold private copies of the DTOs,
+ * and every hit returns a fresh copy, so callers may modify what they get back.
+ * <p>
+ * Metrics: the standard Caffeine cache meters under the name {@code leave.ingestion.source-ref}, e.g.
+ * {@code cache.gets} tagged {@code result=hit|miss}.
+ */
+@Component
+public class LeaveIngestionCache {
+
+    private static final String CACHE_NAME = "leave.ingestion.source-ref";
+
+    private final LeaveIngestionCacheProperties properties;
+    private final Cache<LeaveSourceRef, Entry> entries;
+
+    public LeaveIngestionCache(LeaveIngestionCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, CACHE_NAME);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Return the leave produced by the last ingest of this source reference, if its payload was identical.
+     *
+     * @param command the leave ingestion command
+     * @return a copy of the cached leave, or empty if the cache is disabled, has no entry or the payload changed
+     */
+    public Optional<LeaveDto> findUnchanged(LeaveIngestionCommand command) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+
+        Entry entry = entries.getIfPresent(sourceRef(command));
+        if (entry == null || !entry.contentHash().equals(contentHash(command))) {
+            return Optional.empty();
+        }
+        return Optional.of(copyOf(entry.leave()));
+    }
+
+    /**
+     * Remember the leave produced by an ingest once the current transaction commits.
+     *
+     * @param command the leave ingestion command
+     * @param savedLeave the leave as saved by the ingest
+     * @param savedDto the DTO returned for the ingest
+     */
+    public void onIngested(LeaveIngestionCommand command, Leave savedLeave, LeaveDto savedDto) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        LeaveSourceRef sourceRef = sourceRef(command);
+        Entry entry = new Entry(contentHash(command), copyOf(savedDto));
+        afterCommit(() -> {
+            savedLeave.getSourceRefs().forEach(entries::invalidate);
+            entries.put(sourceRef, entry);
+        });
+    }
+
+    /**
+     * Evict every source reference of a leave once the current transaction commits.
+     *
+     * @param savedLeave a leave written without going through {@link #onIngested}
+     */
+    public void onSaved(Leave savedLeave) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        afterCommit(() -> savedLeave.getSourceRefs().forEach(entries::invalidate));
+    }
+
+    /**
+     * Drop every entry, e.g. after leaves were changed outside of ingestion.
+     */
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Deep copy of a leave DTO, so neither the caller's nor the cache's copy can change the other
+     */
+    private static LeaveDto copyOf(LeaveDto dto) {
+        DateRange dateRange = dto.getDateRange();
+        return LeaveDto.builder()
+                .id(dto.getId())
+                .userId(dto.getUserId())
+                .dateRange(dateRange == null ? null : DateRange.builder()
+                        .startDate(dateRange.getStartDate())
+                        .endDate(dateRange.getEndDate())
+                        .build())
+                .type(dto.getType())
+                .status(dto.getStatus())
+                .durationType(dto.getDurationType())
+                .sourceRefs(dto.getSourceRefs() == null ? null : dto.getSourceRefs().stream()
+                        .map(sourceRef -> LeaveSourceRefDto.builder()
+                                .id(sourceRef.getId())
+                                .sourceType(sourceRef.getSourceType())
+                                .sourceId(sourceRef.getSourceId())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private static LeaveSourceRef sourceRef(LeaveIngestionCommand command) {
+        return LeaveSourceRef.builder()
+                .sourceType(command.getSourceType())
+                .sourceId(command.getSourceId())
+                .build();
+    }
+
+    /**
+     * Hash of every field an ingest applies to the leave
+     */
+    static String contentHash(LeaveIngestionCommand command) {
+        String content = String.join("|",
+                String.valueOf(command.getUserId()),
+                String.valueOf(command.getStartDate()),
+                String.valueOf(command.getEndDate()),
+                String.valueOf(command.getType()),
+                String.valueOf(command.getStatus()),
+                String.valueOf(command.getDurationType()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record Entry(String contentHash, LeaveDto leave) {
+    }
+}
@@ -2,23 +2,43 @@ package one.june.leave_management.application.leave.service;
 
 import one.june.leave_management.adapter.inbound.web.dto.LeaveFetchQuery;
 import one.june.leave_management.application.leave.command.LeaveIngestionCommand;
+import one.june.leave_management.application.leave.dto.LeaveCursorPage;
 import one.june.leave_management.application.leave.dto.LeaveDto;
+import one.june.leave_management.application.leave.dto.LeaveIngestionOutcome;
+import one.june.leave_management.application.leave.dto.LeaveIngestionResult;
 import one.june.leave_management.common.annotation.Auditable;
+import one.june.leave_management.common.exception.OverlappingLeaveException;
 import one.june.leave_management.common.mapper.LeaveMapper;
+import one.june.leave_management.common.model.DateRange;
+import one.june.leave_management.config.LeaveIngestionProperties;
 import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.LeaveCursor;
 import one.june.leave_management.domain.leave.model.LeaveFilters;
 import one.june.leave_management.domain.leave.model.LeaveSourceRef;
+import one.june.leave_management.domain.leave.model.SourceType;
 import one.june.leave_management.domain.leave.port.LeaveRepository;
 import one.june.leave_management.domain.leave.port.LeaveSourceRefRepository;
 import one.june.leave_management.domain.leave.service.LeaveDomainService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Unified service for leave operations.
@@ -34,30 +54,66 @@ public class LeaveService {
     private final OutboundSyncService outboundSyncService;
     private final LeaveDomainService leaveDomainService;
     private final LeaveMapper leaveMapper;
+    private final LeaveIngestionProperties leaveIngestionProperties;
+    private final UserIngestionLock userIngestionLock;
+    private final LeaveIngestionCache leaveIngestionCache;
+    private final TransactionTemplate transactionTemplate;
 
     public LeaveService(LeaveRepository leaveRepository,
                         LeaveSourceRefRepository leaveSourceRefRepository,
                         OutboundSyncService outboundSyncService,
                         LeaveDomainService leaveDomainService,
-                        LeaveMapper leaveMapper) {
+                        LeaveMapper leaveMapper,
+                        LeaveIngestionProperties leaveIngestionProperties,
+                        UserIngestionLock userIngestionLock,
+                        LeaveIngestionCache leaveIngestionCache,
+                        PlatformTransactionManager transactionManager) {
         this.leaveRepository = leaveRepository;
         this.leaveSourceRefRepository = leaveSourceRefRepository;
         this.outboundSyncService = outboundSyncService;
         this.leaveDomainService = leaveDomainService;
         this.leaveMapper = leaveMapper;
+        this.leaveIngestionProperties = leaveIngestionProperties;
+        this.userIngestionLock = userIngestionLock;
+        this.leaveIngestionCache = leaveIngestionCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
      * Ingest a leave request (create or update).
      * Creates a new leave or updates an existing one based on source type and source ID.
+     * A re-ingest of an unchanged payload is answered from the source reference cache, when enabled,
+     * before any transaction is started.
      *
      * @param command the leave ingestion command
      * @return the created or updated leave DTO
      */
-    @Transactional
     public LeaveDto ingest(LeaveIngestionCommand command) {
         logger.info("Ingesting leave: {}", command);
 
+        Optional<LeaveDto> unchanged = leaveIngestionCache.findUnchanged(command);
+        if (unchanged.isPresent()) {
+            logger.info("Skipping unchanged re-ingest of {}:{}", command.getSourceType(), command.getSourceId());
+            return unchanged.get();
+        }
+
+        return ingestLocked(command).leave();
+    }
+
+    /**
+     * Ingest a single command in its own transaction.
+     * A local user lock is taken before the transaction begins, so waiting for it does not hold a connection.
+     */
+    private IngestedLeave ingestLocked(LeaveIngestionCommand command) {
+        return userIngestionLock.callLocked(userIdsOf(List.of(command)),
+                () -> transactionTemplate.execute(status -> ingestInTransaction(command)));
+    }
+
+    private IngestedLeave ingestInTransaction(LeaveIngestionCommand command) {
+        // Held until commit, so concurrent ingests for this user see each other's writes; a no-op for a local
+        // lock already taken by ingestLocked
+        userIngestionLock.lock(command.getUserId());
+
         Optional<LeaveSourceRef> existingSourceRef = leaveSourceRefRepository
                 .findBySourceTypeAndSourceIdWithLeave(command.getSourceType(), command.getSourceId());
 
@@ -68,12 +124,179 @@ public class LeaveService {
         existingSourceRef.orElseGet(() -> createSourceReference(command, leave));
 
         leaveDomainService.validateLeaveForPersistence(leave);
-        leaveDomainService.validateNoOverlappingLeaves(leave);
+        // The exclusion constraint on the leave table is the authoritative overlap guard; this is a fast-fail
+        if (leaveIngestionProperties.isOverlapPreCheck()) {
+            leaveDomainService.validateNoOverlappingLeaves(leave);
+        }
         Leave savedLeave = leaveRepository.save(leave);
         performOutboundSync(savedLeave, command.getSourceType());
 
         logger.info("Successfully ingested leave: {}", leave);
-        return leaveMapper.toDto(savedLeave);
+        LeaveDto savedDto = leaveMapper.toDto(savedLeave);
+        leaveIngestionCache.onIngested(command, savedLeave, savedDto);
+        return new IngestedLeave(savedDto, existingSourceRef.isEmpty());
+    }
+
+    /**
+     * Ingest a batch of leave requests (create or update) in a single transaction.
+     * All (sourceType, sourceId) pairs are resolved with one query, overlaps for the whole batch are
+     * checked against one query plus the items accepted earlier in the batch, and the writes are
+     * flushed together through Hibernate JDBC batching.
+     * Items that fail validation are reported in their result and do not fail the rest of the batch.
+     * If the database rejects the batch write, e.g. an overlap committed concurrently by another instance or
+     * a concurrent insert of the same source reference, the batch is rolled back and every item is ingested
+     * again in its own transaction, so only the offending items fail.
+     *
+     * @param commands the leave ingestion commands
+     * @return one result per command, in the same order as the commands
+     */
+    public List<LeaveIngestionResult> ingestBatch(List<LeaveIngestionCommand> commands) {
+        logger.info("Ingesting batch of {} leaves", commands.size());
+        if (commands.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            return userIngestionLock.callLocked(userIdsOf(commands),
+                    () -> transactionTemplate.execute(status -> ingestBatchInTransaction(commands)));
+        } catch (OverlappingLeaveException | DataIntegrityViolationException e) {
+            // The flush cannot tell which row was rejected; find it by writing the items one at a time
+            logger.warn("Batch write of {} leaves rejected by the database, retrying item by item: {}",
+                    commands.size(), e.getMessage());
+            return ingestItemByItem(commands);
+        }
+    }
+
+    private List<LeaveIngestionResult> ingestBatchInTransaction(List<LeaveIngestionCommand> commands) {
+        userIngestionLock.lockAll(userIdsOf(commands));
+
+        List<LeaveSourceRef> requestedRefs = commands.stream()
+                .map(command -> LeaveSourceRef.builder()
+                        .sourceType(command.getSourceType())
+                        .sourceId(command.getSourceId())
+                        .build())
+                .collect(Collectors.toList());
+
+        Map<LeaveSourceRef, Leave> leavesBySourceRef = new HashMap<>();
+        for (Leave existingLeave : leaveRepository.findBySourceRefs(requestedRefs)) {
+            existingLeave.getSourceRefs().forEach(sourceRef -> leavesBySourceRef.put(sourceRef, existingLeave));
+        }
+        Map<String, List<Leave>> leavesByUser = loadOverlapCandidates(commands);
+
+        // Leaves to write, and which of them each successful command ended up in
+        List<Leave> leavesToSave = new ArrayList<>();
+        List<SourceType> syncSourceTypes = new ArrayList<>();
+        Map<Leave, Integer> saveSlots = new IdentityHashMap<>();
+        Map<Integer, Integer> saveSlotByCommand = new HashMap<>();
+        List<LeaveIngestionResult> results = new ArrayList<>(commands.size());
+
+        for (int index = 0; index < commands.size(); index++) {
+            LeaveIngestionCommand command = commands.get(index);
+            Leave current = leavesBySourceRef.get(requestedRefs.get(index));
+
+            Leave leave;
+            try {
+                // Everything up to the write is in-memory, so any failure here belongs to this item only
+                if (current != null) {
+                    leave = current.toBuilder().sourceRefs(current.getSourceRefs()).build();
+                    applyUpdate(command, leave);
+                } else {
+                    leave = createNewLeave(command);
+                    createSourceReference(command, leave);
+                }
+                leaveDomainService.validateLeaveForPersistence(leave);
+                leaveDomainService.validateNoOverlappingLeaves(
+                        leave, leavesByUser.getOrDefault(leave.getUserId(), List.of()));
+            } catch (RuntimeException e) {
+                logger.warn("Rejected batch item {} ({}:{}): {}",
+                        index, command.getSourceType(), command.getSourceId(), e.getMessage());
+                results.add(LeaveIngestionResult.failed(
+                        index, command.getSourceType(), command.getSourceId(), e.getMessage()));
+                continue;
+            }
+
+            // Make the accepted version visible to the items that follow
+            if (current != null) {
+                leavesByUser.getOrDefault(current.getUserId(), new ArrayList<>())
+                        .removeIf(other -> other == current
+                                || (current.getId() != null && current.getId().equals(other.getId())));
+            }
+            leavesByUser.computeIfAbsent(leave.getUserId(), userId -> new ArrayList<>()).add(leave);
+            leave.getSourceRefs().forEach(sourceRef -> leavesBySourceRef.put(sourceRef, leave));
+
+            Integer slot = current != null ? saveSlots.remove(current) : null;
+            if (slot == null) {
+                slot = leavesToSave.size();
+                leavesToSave.add(leave);
+                syncSourceTypes.add(command.getSourceType());
+            } else {
+                leavesToSave.set(slot, leave);
+                syncSourceTypes.set(slot, command.getSourceType());
+            }
+            saveSlots.put(leave, slot);
+            saveSlotByCommand.put(index, slot);
+
+            results.add(LeaveIngestionResult.builder()
+                    .index(index)
+                    .sourceType(command.getSourceType())
+                    .sourceId(command.getSourceId())
+                    .outcome(current != null ? LeaveIngestionOutcome.UPDATED : LeaveIngestionOutcome.CREATED)
+                    .build());
+        }
+
+        List<Leave> savedLeaves = leavesToSave.isEmpty() ? List.of() : leaveRepository.saveAll(leavesToSave);
+        List<LeaveDto> savedDtos = savedLeaves.stream()
+                .map(leaveMapper::toDto)
+                .collect(Collectors.toList());
+        saveSlotByCommand.forEach((index, slot) -> results.get(index).setLeave(savedDtos.get(slot)));
+
+        savedLeaves.forEach(leaveIngestionCache::onSaved);
+
+        for (int slot = 0; slot < savedLeaves.size(); slot++) {
+            performOutboundSync(savedLeaves.get(slot), syncSourceTypes.get(slot));
+        }
+
+        logger.info("Ingested batch of {} leaves: {} saved, {} failed",
+                commands.size(), saveSlotByCommand.size(), commands.size() - saveSlotByCommand.size());
+        return results;
+    }
+
+    /**
+     * Ingest every command of a batch in its own transaction, reporting failures per item.
+     */
+    private List<LeaveIngestionResult> ingestItemByItem(List<LeaveIngestionCommand> commands) {
+        List<LeaveIngestionResult> results = new ArrayList<>(commands.size());
+        int failed = 0;
+        for (int index = 0; index < commands.size(); index++) {
+            LeaveIngestionCommand command = commands.get(index);
+            try {
+                IngestedLeave ingested = ingestLocked(command);
+                results.add(LeaveIngestionResult.builder()
+                        .index(index)
+                        .sourceType(command.getSourceType())
+                        .sourceId(command.getSourceId())
+                        .outcome(ingested.created() ? LeaveIngestionOutcome.CREATED : LeaveIngestionOutcome.UPDATED)
+                        .leave(ingested.leave())
+                        .build());
+            } catch (RuntimeException e) {
+                logger.warn("Rejected batch item {} ({}:{}): {}",
+                        index, command.getSourceType(), command.getSourceId(), e.getMessage());
+                results.add(LeaveIngestionResult.failed(
+                        index, command.getSourceType(), command.getSourceId(), e.getMessage()));
+                failed++;
+            }
+        }
+
+        logger.info("Ingested batch of {} leaves item by item: {} saved, {} failed",
+                commands.size(), commands.size() - failed, failed);
+        return results;
+    }
+
+    private static Set<String> userIdsOf(List<LeaveIngestionCommand> commands) {
+        return commands.stream()
+                .map(LeaveIngestionCommand::getUserId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
     }
 
     /**
@@ -110,6 +333,42 @@ public class LeaveService {
         return dtoPage;
     }
 
+    /**
+     * Fetch leaves based on the provided filter criteria using keyset pagination.
+     * Leaves are ordered by start date then ID; no count query is issued and the cost of a page
+     * does not depend on how far into the result set the cursor points.
+     *
+     * @param query the filter query containing optional userId, year, and quarter
+     * @param cursor opaque cursor returned with the previous page, or null/blank for the first page
+     * @param size maximum number of leaves to return
+     * @return the page of leaves and the cursor for the next page
+     * @throws IllegalArgumentException if quarter is provided without year or the cursor is invalid
+     */
+    @Auditable
+    @Transactional(readOnly = true)
+    public LeaveCursorPage fetchLeavesByCursor(LeaveFetchQuery query, String cursor, int size) {
+        logger.info("Fetching leaves with query: {}, cursor: {} and size: {}", query, cursor, size);
+
+        query.validate();
+        LeaveFilters filters = convertToFilters(query);
+        LeaveCursor after = cursor == null || cursor.isBlank() ? null : LeaveCursor.decode(cursor);
+
+        // Fetch one extra row to learn whether another page follows
+        List<Leave> leaves = leaveRepository.findByFiltersAfter(filters, after, size + 1);
+        boolean hasNext = leaves.size() > size;
+        List<Leave> pageLeaves = hasNext ? leaves.subList(0, size) : leaves;
+
+        LeaveCursorPage page = LeaveCursorPage.builder()
+                .content(pageLeaves.stream().map(leaveMapper::toDto).collect(Collectors.toList()))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? LeaveCursor.of(pageLeaves.get(pageLeaves.size() - 1)).encode() : null)
+                .build();
+
+        logger.info("Successfully fetched {} leaves (hasNext: {})", pageLeaves.size(), hasNext);
+        return page;
+    }
+
     /**
      * Convert LeaveFetchQuery to LeaveFilters domain model.
      * Extracts quarter start/end months if quarter is provided.
@@ -139,6 +398,38 @@ public class LeaveService {
         return builder.build();
     }
 
+    /**
+     * Load every persisted leave that any command in the batch could overlap with, grouped by user.
+     */
+    private Map<String, List<Leave>> loadOverlapCandidates(List<LeaveIngestionCommand> commands) {
+        List<String> userIds = commands.stream()
+                .map(LeaveIngestionCommand::getUserId)
+                .filter(userId -> userId != null)
+                .distinct()
+                .collect(Collectors.toList());
+        LocalDate windowStart = commands.stream()
+                .map(LeaveIngestionCommand::getStartDate)
+                .filter(date -> date != null)
+                .min(LocalDate::compareTo)
+                .orElse(null);
+        LocalDate windowEnd = commands.stream()
+                .map(LeaveIngestionCommand::getEndDate)
+                .filter(date -> date != null)
+                .max(LocalDate::compareTo)
+                .orElse(null);
+
+        if (userIds.isEmpty() || windowStart == null || windowEnd == null || windowStart.isAfter(windowEnd)) {
+            return new HashMap<>();
+        }
+
+        DateRange window = DateRange.builder()
+                .startDate(windowStart)
+                .endDate(windowEnd)
+                .build();
+        return leaveRepository.findOverlappingLeaves(userIds, window).stream()
+                .collect(Collectors.groupingBy(Leave::getUserId, HashMap::new, Collectors.toCollection(ArrayList::new)));
+    }
+
     private Leave createNewLeave(LeaveIngestionCommand command) {
         logger.debug("Creating new leave from command");
         return Leave.builder()
@@ -154,6 +445,11 @@ public class LeaveService {
         logger.debug("Updating existing leave for source reference: {}", sourceRef);
 
         Leave leave = findOrCreateLeaveFromSourceRef(sourceRef);
+        applyUpdate(command, leave);
+        return leave;
+    }
+
+    private void applyUpdate(LeaveIngestionCommand command, Leave leave) {
         leave.update(
                 command.getUserId(),
                 command.getStartDate(),
@@ -161,7 +457,6 @@ public class LeaveService {
                 command.getType(),
                 command.getStatus()
         );
-        return leave;
     }
 
     private LeaveSourceRef createSourceReference(LeaveIngestionCommand command, Leave leave) {
@@ -173,14 +468,21 @@ public class LeaveService {
         return sourceRef;
     }
 
-    private void performOutboundSync(Leave leave, one.june.leave_management.domain.leave.model.SourceType sourceType) {
+    private void performOutboundSync(Leave leave, SourceType sourceType) {
+        if (outboundSyncService.isTransactional()) {
+            // The outbox rows are written in this transaction; a failure has marked it rollback-only,
+            // so the ingest fails and is rolled back with its syncs instead of reporting a lost success
+            outboundSyncService.sync(leave, sourceType);
+            logger.info("Queued sync of leave {} to external systems", leave.getId());
+            return;
+        }
+
         try {
             outboundSyncService.sync(leave, sourceType);
             logger.info("Successfully synced leave {} to external systems", leave.getId());
         } catch (Exception e) {
+            // Best-effort sync: the leave change stands even if the sync fails
             logger.error("Failed to sync leave {} to external systems", leave.getId(), e);
-            // Continue with the response even if sync fails - this is a business decision
-            // In production, consider adding monitoring/alerting for sync failures
         }
     }
 
@@ -205,4 +507,10 @@ public class LeaveService {
             throw new IllegalStateException("Source reference points to non-existent leave: " + sourceRef.getLeaveId());
         }
     }
+
+    /**
+     * Leave written by a single ingest and whether the ingest created it
+     */
+    private record IngestedLeave(LeaveDto leave, boolean created) {
+    }
 }
@@ -0,0 +1,26 @@
+package one.june.leave_management.application.leave.service;
+
+import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.SourceType;
+
+/**
+ * Pushes leaves to one external system.
+ * Implementations are called outside any database transaction and may be retried, so they must be idempotent.
+ * A call running too long is interrupted, so implementations must give up when interrupted and also set connect
+ * and read timeouts on their own client, since a blocking socket read does not notice the interrupt.
+ */
+public interface LeaveSyncTarget {
+
+    /**
+     * The system this target syncs to; changes that originate from it are not synced back
+     */
+    SourceType getSourceType();
+
+    /**
+     * Push the current state of a leave to the target system.
+     *
+     * @param leave the leave to sync
+     * @param originatingSource the source that produced the change
+     */
+    void sync(Leave leave, SourceType originatingSource);
+}
@@ -5,4 +5,15 @@ import one.june.leave_management.domain.leave.model.SourceType;
 
 public interface OutboundSyncService {
     void sync(Leave leave, SourceType originatingSource);
-}
\ No newline at end of file
+
+    /**
+     * Whether {@link #sync} is part of the caller's transaction.
+     * A failed transactional sync must fail the ingest, since the transaction can no longer commit;
+     * a failed best-effort sync is only logged.
+     *
+     * @return true if the sync commits or rolls back with the leave change
+     */
+    default boolean isTransactional() {
+        return false;
+    }
+}
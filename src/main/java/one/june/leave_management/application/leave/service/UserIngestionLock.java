@@ -0,0 +1,180 @@
+package one.june.leave_management.application.leave.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import one.june.leave_management.adapter.persistence.jdbc.AdvisoryLockJdbcRepository;
+import one.june.leave_management.config.LeaveIngestionLockProperties;
+import one.june.leave_management.config.LeaveIngestionLockProperties.LockMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Serializes leave ingestion per user for the duration of the current transaction.
+ * <p>
+ * Without it, two ingests for the same user can both pass the overlap check before either commits.
+ * In LOCAL mode each user maps to one of a fixed set of lock stripes, so ingests for unrelated users only
+ * wait for each other when their users share a stripe. In ADVISORY mode a Postgres advisory lock per user
+ * is taken instead, which also serializes across instances. Several users are always locked in a fixed
+ * order so concurrent batches cannot deadlock.
+ * <p>
+ * Local stripes should be taken with {@link #callLocked} before the transaction begins, so a request waiting
+ * for a busy user does not hold a pooled database connection meanwhile. Advisory locks live in the database
+ * session and are always taken inside the transaction by {@link #lockAll}.
+ * <p>
+ * Metric: {@code leave.ingest.lock.wait}, tagged with the lock mode.
+ */
+@Component
+public class UserIngestionLock {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserIngestionLock.class);
+
+    private final LeaveIngestionLockProperties properties;
+    private final AdvisoryLockJdbcRepository advisoryLockJdbcRepository;
+    private final ReentrantLock[] stripes;
+    private final Timer waitTimer;
+
+    public UserIngestionLock(LeaveIngestionLockProperties properties,
+                             AdvisoryLockJdbcRepository advisoryLockJdbcRepository,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.advisoryLockJdbcRepository = advisoryLockJdbcRepository;
+
+        int stripeCount = properties.getStripes() <= 1 ? 1 : Integer.highestOneBit(properties.getStripes() - 1) << 1;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+
+        this.waitTimer = Timer.builder("leave.ingest.lock.wait")
+                .description("Time spent waiting for the per-user ingestion lock")
+                .tag("mode", properties.getMode().name())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run work that begins and completes its own transaction, holding the local locks of the users throughout.
+     * In LOCAL mode the stripes are taken before the work starts and released once it returns, i.e. after
+     * the transaction has committed or rolled back. In the other modes, or when a transaction is already
+     * active, the work just runs and {@link #lockAll} takes the locks inside the transaction.
+     *
+     * @param userIds the users whose leaves the work writes
+     * @param work the work, typically a {@code TransactionTemplate} execution
+     * @return the result of the work
+     * @throws IllegalStateException if a local lock is not acquired in time
+     */
+    public <T> T callLocked(Collection<String> userIds, Supplier<T> work) {
+        if (properties.getMode() != LockMode.LOCAL || userIds.isEmpty()
+                || TransactionSynchronizationManager.isSynchronizationActive()) {
+            return work.get();
+        }
+
+        long startNanos = System.nanoTime();
+        List<ReentrantLock> held = acquireStripes(userIds);
+        waitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        try {
+            return work.get();
+        } finally {
+            held.forEach(ReentrantLock::unlock);
+        }
+    }
+
+    /**
+     * Lock a single user until the current transaction completes.
+     *
+     * @param userId the user whose leaves are about to be written
+     */
+    public void lock(String userId) {
+        if (userId == null) {
+            // Rejected later by validation; nothing to serialize on
+            return;
+        }
+        lockAll(List.of(userId));
+    }
+
+    /**
+     * Lock several users until the current transaction completes, in a fixed order.
+     * Local stripes the current thread already holds through {@link #callLocked} are not taken again.
+     *
+     * @param userIds the users whose leaves are about to be written
+     * @throws IllegalStateException if no transaction is active or a local lock is not acquired in time
+     */
+    public void lockAll(Collection<String> userIds) {
+        LockMode mode = properties.getMode();
+        if (mode == LockMode.NONE || userIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("User ingestion locks must be taken inside a transaction");
+        }
+
+        if (mode == LockMode.ADVISORY) {
+            long startNanos = System.nanoTime();
+            new TreeSet<>(userIds).forEach(advisoryLockJdbcRepository::lockForTransaction);
+            waitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            return;
+        }
+
+        if (userIds.stream().allMatch(userId -> stripes[stripeIndex(userId)].isHeldByCurrentThread())) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        List<ReentrantLock> held = acquireStripes(userIds);
+        waitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                held.forEach(ReentrantLock::unlock);
+            }
+        });
+    }
+
+    /**
+     * Take the stripes of the users that the current thread does not hold yet, in index order.
+     * If one is not acquired in time, the stripes taken so far are released again.
+     *
+     * @return the stripes taken, to be unlocked by the caller
+     */
+    private List<ReentrantLock> acquireStripes(Collection<String> userIds) {
+        SortedSet<Integer> stripeIndexes = new TreeSet<>();
+        userIds.forEach(userId -> stripeIndexes.add(stripeIndex(userId)));
+
+        List<ReentrantLock> held = new ArrayList<>(stripeIndexes.size());
+        for (int index : stripeIndexes) {
+            ReentrantLock stripe = stripes[index];
+            if (stripe.isHeldByCurrentThread()) {
+                continue;
+            }
+            boolean acquired;
+            try {
+                acquired = stripe.tryLock(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            if (!acquired) {
+                held.forEach(ReentrantLock::unlock);
+                throw new IllegalStateException("Timed out waiting for the ingestion lock of users " + userIds);
+            }
+            held.add(stripe);
+        }
+        logger.debug("Locked {} ingestion lock stripes for users {}", held.size(), userIds);
+        return held;
+    }
+
+    private int stripeIndex(String userId) {
+        int hash = userId.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+}
@@ -0,0 +1,77 @@
+package one.june.leave_management.common.aspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import one.june.leave_management.common.concurrent.SubmissionTimeTaskDecorator;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AOP Aspect timing methods annotated with @Async on the thread that runs them.
+ * <p>
+ * The async advisor runs before any other advice, so this advice executes on the executor thread, where the
+ * executor's task decorators have already restored the caller's MDC. Each stage is logged with the originating
+ * requestId and recorded as a timer, together with how long the task waited for a thread or bulkhead permit.
+ * <p>
+ * Metrics: {@code async.stage.duration}, tagged {@code stage} and {@code outcome=success|error}, and
+ * {@code async.stage.queue}, tagged {@code stage}.
+ */
+@Aspect
+@Component
+@Slf4j
+public class AsyncStageAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    public AsyncStageAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Around advice for methods annotated with @Async.
+     *
+     * @param joinPoint the join point representing the method execution
+     * @return the result of the method execution
+     * @throws Throwable if the method execution throws an exception
+     */
+    @Around("@annotation(org.springframework.scheduling.annotation.Async)")
+    public Object timeAsyncStage(ProceedingJoinPoint joinPoint) throws Throwable {
+        String stage = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        long startNanos = System.nanoTime();
+
+        Long submittedAtNanos = SubmissionTimeTaskDecorator.currentTaskSubmittedAtNanos();
+        long queuedNanos = submittedAtNanos != null ? startNanos - submittedAtNanos : 0;
+        if (submittedAtNanos != null) {
+            Timer.builder("async.stage.queue")
+                    .description("Time an @Async task waited between submission and start")
+                    .tag("stage", stage)
+                    .register(meterRegistry)
+                    .record(queuedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        String outcome = "error";
+        try {
+            Object result = joinPoint.proceed();
+            outcome = "success";
+            return result;
+        } finally {
+            long durationNanos = System.nanoTime() - startNanos;
+            Timer.builder("async.stage.duration")
+                    .description("Execution time of @Async methods")
+                    .tag("stage", stage)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(durationNanos, TimeUnit.NANOSECONDS);
+
+            // Logged with the requestId of the request that submitted the task
+            log.info("Async stage {} finished ({}) in {} ms after {} ms queued", stage, outcome,
+                    TimeUnit.NANOSECONDS.toMillis(durationNanos), TimeUnit.NANOSECONDS.toMillis(queuedNanos));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package one.june.leave_management.common.aspect;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import one.june.leave_management.adapter.inbound.slack.util.SlackInteractionPayload;
 import one.june.leave_management.application.audit.service.AuditService;
 import one.june.leave_management.domain.audit.model.AuditLog;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -13,7 +14,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 /**
@@ -62,12 +62,15 @@ public class AuditAspect {
         // Capture request body as Object (will be converted to JSON by AuditService)
         Object requestBody = captureRequestBody(joinPoint);
         if (requestBody != null) {
-            // For Slack endpoints (byte arrays), parse the form-encoded payload to make it readable
-            Object readableRequestBody = makeReadable(requestBody, request.getRequestURI());
-            auditLogBuilder.requestBody(readableRequestBody);
+            // For Slack interactions, store the decoded payload JSON to make it readable.
+            // The parsed payload is shared with the controller, so the body is only parsed once.
+            SlackInteractionPayload slackPayload = parseSlackPayload(requestBody, request);
+            auditLogBuilder.requestBody(slackPayload != null ? slackPayload.getJson() : requestBody);
 
             // Extract user ID from request body
-            String userId = extractUserIdFromRequest(requestBody);
+            String userId = slackPayload != null
+                    ? slackPayload.getUserId()
+                    : extractUserIdFromRequest(requestBody);
             if (userId != null) {
                 auditLogBuilder.userId(userId);
             }
@@ -115,7 +118,7 @@ public class AuditAspect {
             long executionTime = System.currentTimeMillis() - startTime;
             auditLogBuilder.executionTimeMs(executionTime);
 
-            // Save audit log (synchronous)
+            // Save audit log (queued for the background writer when it is enabled)
             try {
                 auditService.saveAuditLog(auditLogBuilder.build());
             } catch (Exception e) {
@@ -209,37 +212,25 @@ public class AuditAspect {
     }
 
     /**
-     * Make request body more readable by parsing form-encoded Slack payloads.
+     * Parse the payload of a Slack interaction request, sharing it with the rest of the request.
      *
      * @param requestBody the raw request body
-     * @param endpoint the request endpoint
-     * @return readable request body (parsed JSON for Slack, original for others)
+     * @param request the current HTTP request
+     * @return the parsed payload, or null for non-Slack bodies, bodies without a payload and unparsable payloads
      */
-    private Object makeReadable(Object requestBody, String endpoint) {
+    private SlackInteractionPayload parseSlackPayload(Object requestBody, HttpServletRequest request) {
         // Only process Slack endpoints with byte array bodies
-        if (!endpoint.startsWith("/integrations/slack") || !(requestBody instanceof byte[])) {
-            return requestBody;
+        if (!request.getRequestURI().startsWith("/integrations/slack") || !(requestBody instanceof byte[] rawBody)) {
+            return null;
         }
 
         try {
-            byte[] rawBody = (byte[]) requestBody;
-            String bodyString = new String(rawBody, StandardCharsets.UTF_8);
-
-            // Parse form-encoded payload (format: payload={json})
-            String[] pairs = bodyString.split("&");
-            for (String pair : pairs) {
-                String[] kv = pair.split("=", 2);
-                if (kv.length == 2 && "payload".equals(kv[0])) {
-                    // Return the decoded JSON instead of raw form data
-                    return java.net.URLDecoder.decode(kv[1], StandardCharsets.UTF_8);
-                }
-            }
+            return SlackInteractionPayload.fromRequestIfPresent(request, rawBody);
         } catch (Exception e) {
+            // The controller reports invalid payloads; store the raw body
             log.debug("Failed to parse Slack payload, storing raw body", e);
+            return null;
         }
-
-        // If parsing fails, return the original body
-        return requestBody;
     }
 
     /**
@@ -267,7 +258,7 @@ public class AuditAspect {
 
     /**
      * Extract user ID from request object.
-     * Handles both regular POJOs and Slack form-encoded payloads.
+     * Handles regular POJOs; Slack interaction payloads are read from the parsed payload instead.
      *
      * @param request the request object
      * @return the user ID or null
@@ -277,9 +268,9 @@ public class AuditAspect {
             return null;
         }
 
-        // For byte arrays (Slack form-encoded payloads), extract from JSON
+        // Raw bodies carry no user ID outside Slack interaction payloads, which are handled by the caller
         if (request instanceof byte[]) {
-            return extractUserIdFromSlackPayload((byte[]) request);
+            return null;
         }
 
         // For regular POJOs, try to call getUserId() method
@@ -308,46 +299,4 @@ public class AuditAspect {
 
         return null;
     }
-
-    /**
-     * Extract user ID from Slack form-encoded payload.
-     * Parses the payload parameter and extracts user.id from JSON.
-     *
-     * @param rawBody the raw request body bytes
-     * @return the user ID or null
-     */
-    private String extractUserIdFromSlackPayload(byte[] rawBody) {
-        try {
-            String requestBody = new String(rawBody, StandardCharsets.UTF_8);
-
-            // Parse form-encoded payload (format: payload={json})
-            String[] pairs = requestBody.split("&");
-            for (String pair : pairs) {
-                String[] kv = pair.split("=", 2);
-                if (kv.length == 2 && "payload".equals(kv[0])) {
-                    String payloadJson = java.net.URLDecoder.decode(kv[1], StandardCharsets.UTF_8);
-
-                    // Extract user_id from JSON using simple string parsing
-                    // Looking for "user":{"id":"U056RHT..."} pattern
-                    int userIndex = payloadJson.indexOf("\"user\"");
-                    if (userIndex != -1) {
-                        int idStart = payloadJson.indexOf("\"id\"", userIndex);
-                        if (idStart != -1) {
-                            idStart = payloadJson.indexOf("\"", idStart + 5);
-                            if (idStart != -1) {
-                                int idEnd = payloadJson.indexOf("\"", idStart + 1);
-                                if (idEnd != -1) {
-                                    return payloadJson.substring(idStart + 1, idEnd);
-                                }
-                            }
-                        }
-                    }
-                    break;
-                }
-            }
-        } catch (Exception e) {
-            log.debug("Failed to extract user ID from Slack payload", e);
-        }
-        return null;
-    }
 }
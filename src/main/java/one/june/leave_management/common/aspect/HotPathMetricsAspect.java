@@ -0,0 +1,125 @@
+package one.june.leave_management.common.aspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import one.june.leave_management.application.leave.command.LeaveIngestionCommand;
+import one.june.leave_management.common.exception.DomainException;
+import one.june.leave_management.common.exception.OverlappingLeaveException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AOP Aspect timing the leave ingest and fetch hot paths and every Slack API call.
+ * <p>
+ * All timers publish percentile histograms, so p95/p99 can be computed and alerted on across instances from the
+ * Prometheus scrape. Tags are low cardinality: the operation (method name), the source type for ingests, and the
+ * outcome ({@code success}, {@code overlap}, {@code invalid} or {@code error}). Timers are cached per tag
+ * combination, so a call costs one map lookup instead of building and registering a meter.
+ * <p>
+ * Metrics: {@code leave.ingest} (sourceType, outcome), {@code leave.fetch} (operation, outcome),
+ * {@code leave.overlap.validation} (outcome), {@code leave.persistence} (operation, outcome) and
+ * {@code slack.api.client} (operation, outcome).
+ */
+@Aspect
+@Component
+public class HotPathMetricsAspect {
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public HotPathMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* one.june.leave_management.application.leave.service.LeaveService.ingest(..))")
+    public Object timeIngest(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "leave.ingest", "Leave ingestion, including the cached unchanged path",
+                null, sourceType(joinPoint.getArgs()));
+    }
+
+    @Around("execution(* one.june.leave_management.application.leave.service.LeaveService.fetchLeaves(..))"
+            + " || execution(* one.june.leave_management.application.leave.service.LeaveService.fetchLeavesByCursor(..))")
+    public Object timeFetch(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "leave.fetch", "Leave queries by filter",
+                joinPoint.getSignature().getName(), null);
+    }
+
+    @Around("execution(* one.june.leave_management.domain.leave.service.LeaveDomainService.validateNoOverlappingLeaves(..))")
+    public Object timeOverlapValidation(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "leave.overlap.validation", "Overlap checks of a leave against existing leaves",
+                null, null);
+    }
+
+    @Around("execution(public * one.june.leave_management.adapter.persistence.jpa.LeavePersistenceAdapter.*(..))")
+    public Object timePersistence(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "leave.persistence", "Leave repository operations",
+                joinPoint.getSignature().getName(), null);
+    }
+
+    @Around("execution(public * one.june.leave_management.adapter.outbound.slack.client.SlackApiClient.*(..))")
+    public Object timeSlackApiCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "slack.api.client", "Slack API calls, including rate limit waits and retries",
+                joinPoint.getSignature().getName(), null);
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String name, String description,
+                        String operation, String sourceType) throws Throwable {
+        long startNanos = System.nanoTime();
+        String outcome = "error";
+        try {
+            Object result = joinPoint.proceed();
+            outcome = "success";
+            return result;
+        } catch (Throwable e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            timer(new TimerKey(name, operation, sourceType, outcome), description)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(TimerKey key, String description) {
+        return timers.computeIfAbsent(key, k -> {
+            Timer.Builder builder = Timer.builder(k.name())
+                    .description(description)
+                    .publishPercentileHistogram()
+                    .tag("outcome", k.outcome());
+            if (k.operation() != null) {
+                builder.tag("operation", k.operation());
+            }
+            if (k.sourceType() != null) {
+                builder.tag("sourceType", k.sourceType());
+            }
+            return builder.register(meterRegistry);
+        });
+    }
+
+    private static String sourceType(Object[] args) {
+        if (args.length > 0 && args[0] instanceof LeaveIngestionCommand command && command.getSourceType() != null) {
+            return command.getSourceType().name();
+        }
+        return NONE;
+    }
+
+    private static String outcome(Throwable e) {
+        if (e instanceof OverlappingLeaveException) {
+            return "overlap";
+        }
+        if (e instanceof DomainException || e instanceof IllegalArgumentException) {
+            return "invalid";
+        }
+        return "error";
+    }
+
+    private record TimerKey(String name, String operation, String sourceType, String outcome) {
+    }
+}
@@ -0,0 +1,52 @@
+package one.june.leave_management.common.concurrent;
+
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Limits how many decorated tasks run at once
+ * <p>
+ * A task waits for a permit on its own thread before it starts, so the submitting thread never blocks. Meant for
+ * virtual threads, where waiting is cheap and the executor itself places no limit on concurrency: without it a
+ * burst of @Async tasks would all ask the JDBC connection pool for a connection at the same time.
+ */
+public class BulkheadTaskDecorator implements TaskDecorator {
+
+    private final Semaphore permits;
+
+    public BulkheadTaskDecorator(int maxConcurrentTasks) {
+        if (maxConcurrentTasks < 1) {
+            throw new IllegalArgumentException("maxConcurrentTasks must be at least 1");
+        }
+        // Fair, so tasks start in the order they were submitted
+        this.permits = new Semaphore(maxConcurrentTasks, true);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return () -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                // Interrupted while waiting, e.g. on shutdown; the task never started
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                runnable.run();
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    /**
+     * Returns the number of tasks that could start right now
+     *
+     * @return the free permits
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+}
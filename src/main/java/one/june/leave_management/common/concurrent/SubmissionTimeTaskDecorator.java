@@ -0,0 +1,41 @@
+package one.june.leave_management.common.concurrent;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Carries the time a task was submitted over to the thread that runs it
+ * <p>
+ * Lets code running inside the task (e.g. {@link one.june.leave_management.common.aspect.AsyncStageAspect})
+ * measure how long the task waited for a thread or a bulkhead permit before it started.
+ */
+public class SubmissionTimeTaskDecorator implements TaskDecorator {
+
+    private static final ThreadLocal<Long> SUBMITTED_AT_NANOS = new ThreadLocal<>();
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        long submittedAtNanos = System.nanoTime();
+        return () -> {
+            Long previous = SUBMITTED_AT_NANOS.get();
+            SUBMITTED_AT_NANOS.set(submittedAtNanos);
+            try {
+                runnable.run();
+            } finally {
+                if (previous == null) {
+                    SUBMITTED_AT_NANOS.remove();
+                } else {
+                    SUBMITTED_AT_NANOS.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns when the task running on the current thread was submitted
+     *
+     * @return the {@link System#nanoTime()} at submission, or null if the current thread is not running a decorated task
+     */
+    public static Long currentTaskSubmittedAtNanos() {
+        return SUBMITTED_AT_NANOS.get();
+    }
+}
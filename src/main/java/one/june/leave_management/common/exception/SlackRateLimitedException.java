@@ -0,0 +1,31 @@
+package one.june.leave_management.common.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when Slack rejects a call with HTTP 429 Too Many Requests
+ * <p>
+ * Carries the delay Slack asked for in its Retry-After header, so callers can
+ * pause the method instead of retrying right away.
+ */
+public class SlackRateLimitedException extends SlackApiException {
+
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new SlackRateLimitedException.
+     *
+     * @param endpoint   The Slack API endpoint that was called (e.g., "chat.postMessage")
+     * @param retryAfter The delay requested by Slack, or null when the header was missing or invalid
+     * @param cause      The underlying HTTP error
+     */
+    public SlackRateLimitedException(String endpoint, Duration retryAfter, Throwable cause) {
+        super(endpoint, "rate_limited", "Retry after " + (retryAfter != null ? retryAfter : "an unspecified delay"),
+                cause);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -1,7 +1,12 @@
 package one.june.leave_management.config;
 
+import one.june.leave_management.common.concurrent.BulkheadTaskDecorator;
+import one.june.leave_management.common.concurrent.MdcTaskDecorator;
+import one.june.leave_management.common.concurrent.SubmissionTimeTaskDecorator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -9,27 +14,54 @@ import java.util.concurrent.Executor;
 
 /**
  * Configuration for async task execution.
- * Configures a thread pool executor for @Async methods.
+ * Configures the executor for @Async methods, either a bounded thread pool or virtual threads.
  */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    private static final String THREAD_NAME_PREFIX = "async-task-";
+
     /**
      * Task executor for async methods.
-     * Uses a thread pool with configurable size.
+     * <p>
+     * In PLATFORM mode, a thread pool with configurable size and queue. In VIRTUAL mode, every task gets its own
+     * virtual thread, so tasks blocked on Slack or database I/O do not hold a scarce pool thread, and a bulkhead
+     * caps how many run at once. Both modes carry the caller's MDC (requestId) and the submission time over to
+     * the task, so {@link one.june.leave_management.common.aspect.AsyncStageAspect} can time each stage under the
+     * originating request.
      *
+     * @param properties the async executor configuration properties
      * @return configured task executor
      */
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(AsyncExecutorProperties properties) {
+        MdcTaskDecorator mdcTaskDecorator = new MdcTaskDecorator();
+        SubmissionTimeTaskDecorator submissionTimeTaskDecorator = new SubmissionTimeTaskDecorator();
+
+        if (properties.getMode() == AsyncExecutorProperties.Mode.VIRTUAL) {
+            BulkheadTaskDecorator bulkhead = new BulkheadTaskDecorator(properties.getMaxConcurrentTasks());
+            // MDC is applied outermost, so a task waiting for a permit already logs with its requestId,
+            // and the submission time is set before the permit wait, so the wait counts as queue time
+            TaskDecorator taskDecorator = runnable -> mdcTaskDecorator.decorate(
+                    submissionTimeTaskDecorator.decorate(bulkhead.decorate(runnable)));
+
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(taskDecorator);
+            executor.setTaskTerminationTimeout(properties.getShutdownTimeout().toMillis());
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("async-task-");
+        executor.setCorePoolSize(properties.getCorePoolSize());
+        executor.setMaxPoolSize(properties.getMaxPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        executor.setTaskDecorator(
+                runnable -> mdcTaskDecorator.decorate(submissionTimeTaskDecorator.decorate(runnable)));
         executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(60);
+        executor.setAwaitTerminationSeconds((int) properties.getShutdownTimeout().toSeconds());
         executor.initialize();
         return executor;
     }
@@ -0,0 +1,78 @@
+package one.june.leave_management.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the executor running @Async methods
+ * These properties are loaded from application.properties with prefix "async.executor"
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "async.executor")
+public class AsyncExecutorProperties {
+
+    /**
+     * Threads that @Async methods run on
+     */
+    public enum Mode {
+        /**
+         * Bounded platform thread pool with a bounded queue; submissions are rejected once both are full
+         */
+        PLATFORM,
+        /**
+         * A new virtual thread per task; tasks never queue for a thread and are capped by the bulkhead instead
+         */
+        VIRTUAL
+    }
+
+    /**
+     * Executor mode used for @Async methods
+     */
+    @Builder.Default
+    private Mode mode = Mode.PLATFORM;
+
+    /**
+     * Core number of threads (PLATFORM mode)
+     */
+    @Builder.Default
+    private int corePoolSize = 5;
+
+    /**
+     * Maximum number of threads (PLATFORM mode)
+     */
+    @Builder.Default
+    private int maxPoolSize = 10;
+
+    /**
+     * Number of tasks queued before more threads are started and, once at max-pool-size, rejected (PLATFORM mode)
+     */
+    @Builder.Default
+    private int queueCapacity = 100;
+
+    /**
+     * Maximum number of tasks running at once (VIRTUAL mode)
+     * Keeps concurrent async transactions below the JDBC connection pool size; further tasks wait for a permit
+     */
+    @Builder.Default
+    private int maxConcurrentTasks = 8;
+
+    /**
+     * Time to wait for running tasks to finish on shutdown
+     */
+    @Builder.Default
+    private Duration shutdownTimeout = Duration.ofSeconds(60);
+}
@@ -0,0 +1,71 @@
+package one.june.leave_management.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the monthly partitions of the audit_log table
+ * These properties are loaded from application.properties with prefix "audit.partitioning"
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "audit.partitioning")
+public class AuditPartitionProperties {
+
+    /**
+     * What to do with a partition past the retention
+     */
+    public enum RetentionAction {
+        /**
+         * Detach the partition from audit_log, keeping it as a standalone table to archive or drop later
+         */
+        DETACH,
+        /**
+         * Drop the partition and its rows
+         */
+        DROP
+    }
+
+    /**
+     * Whether this instance creates and expires partitions (requires PostgreSQL)
+     */
+    @Builder.Default
+    private boolean maintenanceEnabled = true;
+
+    /**
+     * Delay between the end of one maintenance run and the start of the next; the first run is at startup
+     */
+    @Builder.Default
+    private Duration maintenanceInterval = Duration.ofHours(6);
+
+    /**
+     * Number of months after the current one that always have a partition
+     */
+    @Builder.Default
+    private int monthsAhead = 3;
+
+    /**
+     * Number of complete months kept before the current one; older partitions are expired, 0 keeps all
+     */
+    @Builder.Default
+    private int retentionMonths = 12;
+
+    /**
+     * What to do with expired partitions
+     */
+    @Builder.Default
+    private RetentionAction retentionAction = RetentionAction.DETACH;
+}
@@ -0,0 +1,72 @@
+package one.june.leave_management.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for how audit request and response bodies are stored
+ * These properties are loaded from application.properties with prefix "audit.payload"
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "audit.payload")
+public class AuditPayloadProperties {
+
+    /**
+     * How stored bodies are encoded
+     */
+    public enum Compression {
+        /**
+         * Store bodies as text in request_body/response_body
+         */
+        NONE,
+        /**
+         * Store bodies of at least compressionMinBytes gzipped in request_body_gzip/response_body_gzip
+         */
+        GZIP
+    }
+
+    /**
+     * Maximum stored size of a serialized body in bytes; longer bodies are truncated with a marker, 0 disables
+     */
+    @Builder.Default
+    private int maxBodyBytes = 16384;
+
+    /**
+     * Maximum body bytes by endpoint path prefix, overriding maxBodyBytes; the longest matching prefix wins
+     */
+    @Builder.Default
+    private Map<String, Integer> endpointMaxBodyBytes = new HashMap<>();
+
+    /**
+     * How stored bodies are encoded
+     */
+    @Builder.Default
+    private Compression compression = Compression.GZIP;
+
+    /**
+     * Bodies smaller than this are stored as text even with compression enabled
+     */
+    @Builder.Default
+    private int compressionMinBytes = 1024;
+
+    /**
+     * Fraction of successful GET/HEAD responses whose body is stored; failed responses are always stored
+     */
+    @Builder.Default
+    private double readResponseSampleRate = 0.1;
+}
@@ -0,0 +1,84 @@
+package one.june.leave_management.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the asynchronous audit log writer
+ * These properties are loaded from application.properties with prefix "audit.writer"
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "audit.writer")
+public class AuditWriterProperties {
+
+    /**
+     * What to do with an audit entry when the queue is full
+     */
+    public enum OverflowPolicy {
+        /**
+         * Drop the entry immediately and count it as dropped
+         */
+        DROP,
+        /**
+         * Block the request thread for up to blockTimeout, then drop the entry
+         */
+        BLOCK
+    }
+
+    /**
+     * Whether audit logs are queued and written by a background writer
+     * When disabled, audit logs are saved synchronously in the request thread
+     */
+    @Builder.Default
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of audit entries waiting to be written
+     */
+    @Builder.Default
+    private int queueCapacity = 10000;
+
+    /**
+     * Maximum number of audit entries inserted in one JDBC batch
+     */
+    @Builder.Default
+    private int flushSize = 100;
+
+    /**
+     * Maximum time an audit entry waits for a batch to fill before it is written
+     */
+    @Builder.Default
+    private Duration flushInterval = Duration.ofMillis(500);
+
+    /**
+     * Behaviour when the queue is full
+     */
+    @Builder.Default
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+    /**
+     * Maximum time a request thread blocks on a full queue with the BLOCK policy
+     */
+    @Builder.Default
+    private Duration blockTimeout = Duration.ofMillis(100);
+
+    /**
+     * Maximum time to wait on shutdown for queued entries to be written
+     */
+    @Builder.Default
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,54 @@
+package one.june.leave_management.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for concurrent fan-out of outbound sync to the target systems
+ * These properties are loaded from application.properties with prefix "outbound-sync.fan-out"
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "outbound-sync.fan-out")
+public class FanOutSyncProperties {
+
+    /**
+     * Time a single sync call may run before it is cancelled, interrupted and reported as failed
+     * The thread is only freed once the target's client gives up on the interrupt
+     */
+    @Builder.Default
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /**
+     * Maximum number of syncs in flight per target
+     * Further syncs to a saturated target wait in the target's queue
+     */
+    @Builder.Default
+    private int maxConcurrentPerTarget = 10;
+
+    /**
+     * Number of syncs that may wait per target while all of its threads are busy
+     * Syncs arriving at a full queue are dropped and reported as failed
+     */
+    @Builder.Default
+    private int queueCapacityPerTarget = 1000;
+
+    /**
+     * Time to wait on shutdown for queued and running syncs to finish
+     */
+    @Builder.Default
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
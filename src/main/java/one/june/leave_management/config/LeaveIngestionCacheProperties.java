@@ -0,0 +1,47 @@
+package one.june.leave_management.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the source reference cache used to skip identical re-ingests
+ * These properties are loaded from application.properties with prefix "leave.ingestion.cache"
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "leave.ingestion.cache")
+public class LeaveIngestionCacheProperties {
+
+    /**
+     * Whether re-ingesting an unchanged payload is answered from the cache without touching the database
+     * Only safe when a single instance writes leaves: entries are invalidated in-process only, so writes by
+     * other instances or directly in the database are not seen until the entry expires after the TTL
+     */
+    @Builder.Default
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of source references kept in the cache
+     */
+    @Builder.Default
+    private long maxSize = 10000;
+
+    /**
+     * How long an entry is kept after it was written
+     */
+    @Builder.Default
+    private Duration ttl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,64 @@
+package one.june.leave_management.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for per-user locking around leave ingestion
+ * These properties are loaded from application.properties with prefix "leave.ingestion.lock"
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "leave.ingestion.lock")
+public class LeaveIngestionLockProperties {
+
+    /**
+     * How ingests for the same user are serialized
+     */
+    public enum LockMode {
+        /**
+         * Striped in-JVM locks; enough for a single instance
+         */
+        LOCAL,
+        /**
+         * Postgres transaction-scoped advisory locks; serializes across instances
+         */
+        ADVISORY,
+        /**
+         * No locking; the database overlap constraint remains the only guard
+         */
+        NONE
+    }
+
+    /**
+     * Locking mode used by leave ingestion
+     */
+    @Builder.Default
+    private LockMode mode = LockMode.LOCAL;
+
+    /**
+     * Number of in-JVM lock stripes, rounded up to a power of two
+     * Users hashing to the same stripe wait for each other; unrelated stripes never do
+     */
+    @Builder.Default
+    private int stripes = 1024;
+
+    /**
+     * Maximum time to wait for an in-JVM lock before the ingest fails
+     */
+    @Builder.Default
+    private Duration timeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,53 @@
+package one.june.leave_management.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for bulk leave ingestion
+ * These properties are loaded from application.properties with prefix "leave.ingestion"
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "leave.ingestion")
+public class LeaveIngestionProperties {
+
+    /**
+     * Maximum number of items accepted by the batch ingestion endpoint
+     * Larger imports should be split into several batches
+     */
+    @Builder.Default
+    private int batchMaxSize = 1000;
+
+    /**
+     * Number of lines committed per transaction by the streaming ingestion endpoint
+     * Bounds the memory held per stream; results are flushed to the client after each chunk
+     */
+    @Builder.Default
+    private int streamChunkSize = 500;
+
+    /**
+     * Maximum length in characters of one line read by the streaming ingestion endpoint
+     * Longer lines are skipped without being buffered and reported as failed
+     */
+    @Builder.Default
+    private int streamMaxLineLength = 65536;
+
+    /**
+     * Whether single-leave ingestion queries for overlapping leaves before writing
+     * The database exclusion constraint always enforces this; the query only fails fast with the existing leave ID
+     */
+    @Builder.Default
+    private boolean overlapPreCheck = true;
+}
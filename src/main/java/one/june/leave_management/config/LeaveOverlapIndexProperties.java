@@ -0,0 +1,47 @@
+package one.june.leave_management.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory per-user leave interval index
+ * These properties are loaded from application.properties with prefix "leave.overlap-index"
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "leave.overlap-index")
+public class LeaveOverlapIndexProperties {
+
+    /**
+     * Whether overlap lookups are answered from the in-memory index instead of the database
+     * Only safe when a single instance writes leaves, since other instances' writes are not seen until expiry
+     */
+    @Builder.Default
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of users whose leaves are kept in the index
+     */
+    @Builder.Default
+    private long maxUsers = 10000;
+
+    /**
+     * How long a user's entry is kept after it was last used
+     * Bounds how stale an entry can get if leaves are changed outside this instance
+     */
+    @Builder.Default
+    private Duration expireAfterAccess = Duration.ofMinutes(30);
+}
@@ -0,0 +1,32 @@
+package one.june.leave_management.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for leave persistence
+ * These properties are loaded from application.properties with prefix "leave.persistence"
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "leave.persistence")
+public class LeavePersistenceProperties {
+
+    /**
+     * Whether updates of a single leave use native PostgreSQL UPDATE ... RETURNING and INSERT ... ON CONFLICT
+     * instead of loading the entity and rebuilding its source references; requires PostgreSQL
+     */
+    @Builder.Default
+    private boolean nativeUpsert = false;
+}
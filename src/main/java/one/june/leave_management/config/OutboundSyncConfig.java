@@ -0,0 +1,30 @@
+package one.june.leave_management.config;
+
+import one.june.leave_management.adapter.outbound.sync.LoggingLeaveSyncTarget;
+import one.june.leave_management.application.leave.service.LeaveSyncTarget;
+import one.june.leave_management.domain.leave.model.SourceType;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the systems leaves are synced to.
+ * Each target is a placeholder that logs the leave until its real adapter is implemented.
+ */
+@Configuration
+public class OutboundSyncConfig {
+
+    @Bean
+    public LeaveSyncTarget slackSyncTarget() {
+        return new LoggingLeaveSyncTarget(SourceType.SLACK);
+    }
+
+    @Bean
+    public LeaveSyncTarget calendarSyncTarget() {
+        return new LoggingLeaveSyncTarget(SourceType.CALENDAR);
+    }
+
+    @Bean
+    public LeaveSyncTarget kimaiSyncTarget() {
+        return new LoggingLeaveSyncTarget(SourceType.KIMAI);
+    }
+}
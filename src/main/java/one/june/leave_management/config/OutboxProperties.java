@@ -0,0 +1,70 @@
+package one.june.leave_management.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the outbound sync outbox and its dispatcher
+ * These properties are loaded from application.properties with prefix "outbound-sync.outbox"
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "outbound-sync.outbox")
+public class OutboxProperties {
+
+    /**
+     * Whether this instance polls the outbox and dispatches rows to the sync targets
+     */
+    @Builder.Default
+    private boolean dispatcherEnabled = true;
+
+    /**
+     * Maximum number of rows claimed per poll
+     */
+    @Builder.Default
+    private int batchSize = 50;
+
+    /**
+     * Delay between the end of one poll and the start of the next
+     */
+    @Builder.Default
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * How long a claimed row is reserved for the claiming instance
+     * Rows whose lease expires (e.g. because the instance died) are claimed again
+     */
+    @Builder.Default
+    private Duration lease = Duration.ofMinutes(1);
+
+    /**
+     * Attempts after which a failing row is dead-lettered
+     */
+    @Builder.Default
+    private int maxAttempts = 10;
+
+    /**
+     * Delay before the first retry; doubled on every further attempt
+     */
+    @Builder.Default
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    /**
+     * Upper bound for the retry delay
+     */
+    @Builder.Default
+    private Duration maxBackoff = Duration.ofMinutes(10);
+}
@@ -1,9 +1,13 @@
 package one.june.leave_management.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import one.june.leave_management.adapter.inbound.slack.util.SlackRequestSignatureVerifier;
+import one.june.leave_management.adapter.outbound.slack.client.SlackHttpClientFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
 
 /**
  * Configuration class for Slack integration
@@ -25,16 +29,32 @@ public class SlackConfig {
         return new SlackRequestSignatureVerifier(slackProperties.getSigningSecret());
     }
 
+    /**
+     * Creates the pooled, keep-alive HTTP request factory used for Slack API calls
+     * <p>
+     * Spring closes the underlying HTTP client when the context shuts down.
+     *
+     * @param slackHttpProperties The Slack HTTP client configuration properties
+     * @param meterRegistry The registry the connection pool metrics are published to
+     * @return A configured ClientHttpRequestFactory
+     */
+    @Bean
+    public ClientHttpRequestFactory slackClientHttpRequestFactory(SlackHttpProperties slackHttpProperties,
+                                                                  MeterRegistry meterRegistry) {
+        return new SlackHttpClientFactory(slackHttpProperties, meterRegistry).create();
+    }
+
     /**
      * Creates a RestTemplate bean for making HTTP requests
      * <p>
      * RestTemplate is Spring's standard HTTP client for synchronous requests.
-     * It's included in spring-web and doesn't require additional dependencies.
+     * It is backed by the pooled Slack request factory so connections are reused across calls.
      *
+     * @param slackClientHttpRequestFactory The pooled HTTP request factory
      * @return A configured RestTemplate
      */
     @Bean
-    public org.springframework.web.client.RestTemplate restTemplate() {
-        return new org.springframework.web.client.RestTemplate();
+    public RestTemplate restTemplate(ClientHttpRequestFactory slackClientHttpRequestFactory) {
+        return new RestTemplate(slackClientHttpRequestFactory);
     }
 }
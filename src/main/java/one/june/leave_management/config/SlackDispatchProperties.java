@@ -0,0 +1,110 @@
+package one.june.leave_management.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the outbound Slack message queue
+ * These properties are loaded from application.properties with prefix "slack.dispatch"
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "slack.dispatch")
+public class SlackDispatchProperties {
+
+    /**
+     * Whether messages are queued and rate limited
+     * When disabled, calls go straight to Slack on the caller's thread
+     */
+    @Builder.Default
+    private boolean enabled = true;
+
+    /**
+     * Sustained calls per second allowed for each Slack API method, keyed by method name
+     */
+    @Builder.Default
+    private Map<String, Double> methodPermitsPerSecond = new HashMap<>(Map.of("chat.postMessage", 5.0));
+
+    /**
+     * Sustained calls per second for methods not listed in methodPermitsPerSecond
+     */
+    @Builder.Default
+    private double defaultMethodPermitsPerSecond = 1.0;
+
+    /**
+     * Number of calls a method bucket can burst above its sustained rate
+     */
+    @Builder.Default
+    private int methodBurst = 10;
+
+    /**
+     * Sustained messages per second posted into a single channel
+     */
+    @Builder.Default
+    private double channelPermitsPerSecond = 1.0;
+
+    /**
+     * Number of messages a channel bucket can burst above its sustained rate
+     */
+    @Builder.Default
+    private int channelBurst = 3;
+
+    /**
+     * Maximum number of attempts per message, including the first one
+     */
+    @Builder.Default
+    private int maxAttempts = 5;
+
+    /**
+     * Base delay before retrying a transient failure; doubled per attempt and jittered
+     */
+    @Builder.Default
+    private Duration initialBackoff = Duration.ofMillis(500);
+
+    /**
+     * Upper bound on the delay between retries of a transient failure
+     */
+    @Builder.Default
+    private Duration maxBackoff = Duration.ofSeconds(30);
+
+    /**
+     * Pause applied to a method when Slack answers 429 without a usable Retry-After header
+     */
+    @Builder.Default
+    private Duration defaultRetryAfter = Duration.ofSeconds(1);
+
+    /**
+     * Number of threads sending queued messages to Slack
+     */
+    @Builder.Default
+    private int senderThreads = 4;
+
+    /**
+     * Maximum time a caller waits for its queued message to be sent
+     * A message that is not being sent yet when the caller gives up is withdrawn from the queue
+     */
+    @Builder.Default
+    private Duration maxWait = Duration.ofSeconds(30);
+
+    /**
+     * Maximum time a slash command waits for its thread anchor message
+     * Kept well under the three seconds Slack gives the command to be acknowledged
+     */
+    @Builder.Default
+    private Duration anchorMaxWait = Duration.ofMillis(1500);
+}
@@ -0,0 +1,88 @@
+package one.june.leave_management.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the HTTP client used to call the Slack API
+ * These properties are loaded from application.properties with prefix "slack.http"
+ * <p>
+ * APACHE honors every setting. JDK honors only client, connectTimeout and readTimeout; changing any setting
+ * marked "Apache only" with the JDK client logs a warning at startup.
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "slack.http")
+public class SlackHttpProperties {
+
+    /**
+     * HTTP client implementation backing the Slack RestTemplate
+     */
+    public enum ClientType {
+        /**
+         * Apache HttpClient 5 with a bounded connection pool and pool metrics (HTTP/1.1)
+         */
+        APACHE,
+        /**
+         * JDK HttpClient, negotiating HTTP/2 when the server supports it; pooling is managed by the JDK, which
+         * ignores the pool settings and publishes no pool metrics
+         */
+        JDK
+    }
+
+    /**
+     * HTTP client implementation to use
+     */
+    @Builder.Default
+    private ClientType client = ClientType.APACHE;
+
+    /**
+     * Maximum number of pooled connections across all hosts (Apache only)
+     */
+    @Builder.Default
+    private int maxConnectionsTotal = 50;
+
+    /**
+     * Maximum number of pooled connections per host (Apache only)
+     */
+    @Builder.Default
+    private int maxConnectionsPerRoute = 20;
+
+    /**
+     * Maximum time to establish a TCP/TLS connection
+     */
+    @Builder.Default
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Maximum time to wait for a response
+     */
+    @Builder.Default
+    private Duration readTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Maximum time to wait for a free connection from the pool (Apache only)
+     */
+    @Builder.Default
+    private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Idle time after which pooled connections are closed by the background evictor (Apache only)
+     * Kept below Slack's server-side keep-alive so requests do not pick up connections the server already closed
+     */
+    @Builder.Default
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+}
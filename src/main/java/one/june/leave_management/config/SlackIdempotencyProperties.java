@@ -0,0 +1,72 @@
+package one.june.leave_management.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for deduplicating Slack retries
+ * These properties are loaded from application.properties with prefix "slack.idempotency"
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "slack.idempotency")
+public class SlackIdempotencyProperties {
+
+    /**
+     * Where accepted deliveries are remembered
+     */
+    public enum Store {
+        /**
+         * Bounded in-memory map; enough for a single instance
+         */
+        MEMORY,
+        /**
+         * In-memory map backed by the slack_request_dedup table; deduplicates across instances
+         */
+        JDBC
+    }
+
+    /**
+     * Whether retried deliveries of an already accepted request are ACKed without processing them again
+     */
+    @Builder.Default
+    private boolean enabled = true;
+
+    /**
+     * Store used to remember accepted deliveries
+     */
+    @Builder.Default
+    private Store store = Store.MEMORY;
+
+    /**
+     * How long an accepted delivery is remembered
+     * Slack retries up to three times within about five minutes
+     */
+    @Builder.Default
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * Maximum number of deliveries remembered in memory
+     */
+    @Builder.Default
+    private int maxEntries = 100_000;
+
+    /**
+     * How often expired rows are deleted from the slack_request_dedup table (JDBC store only)
+     */
+    @Builder.Default
+    private Duration purgeInterval = Duration.ofMinutes(5);
+}
@@ -2,16 +2,27 @@ package one.june.leave_management.domain.leave.port;
 
 import one.june.leave_management.common.model.DateRange;
 import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.LeaveCursor;
 import one.june.leave_management.domain.leave.model.LeaveFilters;
+import one.june.leave_management.domain.leave.model.LeaveSourceRef;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface LeaveRepository {
     Leave save(Leave leave);
+
+    /**
+     * Save several leaves in one unit of work so inserts and updates can be JDBC-batched.
+     * @param leaves the leaves to create or update
+     * @return the saved leaves, in the same order as the input
+     */
+    List<Leave> saveAll(List<Leave> leaves);
+
     Optional<Leave> findById(UUID id);
     List<Leave> findByUserId(String userId);
     void deleteById(UUID id);
@@ -19,6 +30,7 @@ public interface LeaveRepository {
 
     /**
      * Find leaves that overlap with the given date range for a specific user
+     * Cancelled leaves are never returned, since they do not block other leaves
      * @param userId the user ID
      * @param dateRange the date range to check for overlaps
      * @return list of leaves that overlap with the given date range
@@ -27,6 +39,7 @@ public interface LeaveRepository {
 
     /**
      * Find leaves that overlap with the given date range for a specific user, excluding a specific leave ID
+     * Cancelled leaves are never returned, since they do not block other leaves
      * @param userId the user ID
      * @param dateRange the date range to check for overlaps
      * @param excludeLeaveId the leave ID to exclude from the check
@@ -41,4 +54,30 @@ public interface LeaveRepository {
      * @return page of leaves matching the filter criteria
      */
     Page<Leave> findByFilters(LeaveFilters filters, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Find leaves by filters using keyset pagination over (startDate, id).
+     * No count query is issued, and the cost does not depend on how deep the cursor is.
+     * @param filters the filter criteria (all fields optional)
+     * @param after position to continue after, or null for the first page
+     * @param limit maximum number of leaves to return
+     * @return leaves matching the filter criteria ordered by startDate then id
+     */
+    List<Leave> findByFiltersAfter(LeaveFilters filters, LeaveCursor after, int limit);
+
+    /**
+     * Find leaves owning a source reference with any of the given (sourceType, sourceId) pairs.
+     * @param sourceRefs the source references to resolve
+     * @return matching leaves with all of their source references loaded
+     */
+    List<Leave> findBySourceRefs(Collection<LeaveSourceRef> sourceRefs);
+
+    /**
+     * Find leaves for any of the given users that overlap the given date range.
+     * Cancelled leaves are never returned, since they do not block other leaves.
+     * @param userIds the user IDs
+     * @param dateRange the date range to check for overlaps
+     * @return list of leaves that overlap with the given date range
+     */
+    List<Leave> findOverlappingLeaves(Collection<String> userIds, DateRange dateRange);
+}
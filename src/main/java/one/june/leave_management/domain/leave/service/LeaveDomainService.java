@@ -9,7 +9,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 public class LeaveDomainService {
@@ -57,6 +59,8 @@ public class LeaveDomainService {
 
     /**
      * Validates that a leave does not overlap with existing leaves for the same user.
+     * A cancelled leave neither blocks nor is blocked by another leave; the excl_leave_user_period
+     * constraint in the database applies the same rule.
      *
      * @param leave the leave to validate for overlaps
      * @throws OverlappingLeaveException if the leave overlaps with existing leaves
@@ -65,6 +69,9 @@ public class LeaveDomainService {
         if (leave == null) {
             throw new IllegalArgumentException("Leave cannot be null");
         }
+        if (leave.getStatus() == LeaveStatus.CANCELLED) {
+            return;
+        }
 
         logger.debug("Checking for overlapping leaves for user {} with date range {}",
                     leave.getUserId(), leave.getDateRange());
@@ -92,4 +99,41 @@ public class LeaveDomainService {
         logger.debug("No overlapping leaves found for user {} with date range {}",
                     leave.getUserId(), leave.getDateRange());
     }
-}
\ No newline at end of file
+
+    /**
+     * Validates that a leave does not overlap with any of the given candidate leaves for the same user.
+     * Used by batch ingestion, where candidates are loaded up front instead of queried per leave.
+     * A candidate with the same ID as the leave, or the very same instance, is ignored, and cancelled leaves
+     * are ignored on both sides as in {@link #validateNoOverlappingLeaves(Leave)}.
+     *
+     * @param leave the leave to validate for overlaps
+     * @param candidates leaves already persisted or accepted earlier in the same batch
+     * @throws OverlappingLeaveException if the leave overlaps with any candidate
+     */
+    public void validateNoOverlappingLeaves(Leave leave, Collection<Leave> candidates) {
+        if (leave == null) {
+            throw new IllegalArgumentException("Leave cannot be null");
+        }
+        if (leave.getStatus() == LeaveStatus.CANCELLED) {
+            return;
+        }
+
+        for (Leave candidate : candidates) {
+            if (candidate == leave
+                    || (leave.getId() != null && leave.getId().equals(candidate.getId()))
+                    || !Objects.equals(leave.getUserId(), candidate.getUserId())
+                    || candidate.getStatus() == LeaveStatus.CANCELLED) {
+                continue;
+            }
+
+            if (leave.getDateRange().overlapsWith(candidate.getDateRange())) {
+                throw new OverlappingLeaveException(
+                        leave.getUserId(),
+                        leave.getStartDate(),
+                        leave.getEndDate(),
+                        candidate.getId()
+                );
+            }
+        }
+    }
+}
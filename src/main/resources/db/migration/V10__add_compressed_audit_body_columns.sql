@@ -0,0 +1,8 @@
+-- Gzipped request and response bodies
+-- A body stored compressed leaves its TEXT column NULL; added on the partitioned parent, so every
+-- existing and future partition gets the columns
+ALTER TABLE audit_log ADD COLUMN request_body_gzip BYTEA;
+ALTER TABLE audit_log ADD COLUMN response_body_gzip BYTEA;
+
+COMMENT ON COLUMN audit_log.request_body_gzip IS 'Request payload as gzipped JSON when stored compressed';
+COMMENT ON COLUMN audit_log.response_body_gzip IS 'Response payload as gzipped JSON when stored compressed';
@@ -0,0 +1,3 @@
+-- Composite index backing keyset pagination over (start_date, id)
+-- Lets GET /api/leaves?cursor=... seek directly to the next page instead of scanning past an offset
+CREATE INDEX IF NOT EXISTS idx_leave_start_date_id ON leave(start_date, id);
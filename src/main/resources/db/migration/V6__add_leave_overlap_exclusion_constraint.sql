@@ -0,0 +1,46 @@
+-- btree_gist lets a GiST index combine equality on user_id with range overlap on the period
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Inclusive date range of the leave, kept in sync with start_date/end_date by the database
+ALTER TABLE leave
+    ADD COLUMN IF NOT EXISTS period DATERANGE
+        GENERATED ALWAYS AS (daterange(start_date, end_date, '[]')) STORED;
+
+-- Fail with the offending rows instead of a bare constraint error if existing leaves already overlap.
+-- Resolve them first, e.g. by cancelling or shortening one leave of each pair, then rerun the migration.
+DO $$
+DECLARE
+    overlap_count BIGINT;
+    first_pairs TEXT;
+BEGIN
+    WITH overlapping AS (
+        SELECT format('user %s: leave %s (%s..%s) and leave %s (%s..%s)',
+                      a.user_id, a.id, a.start_date, a.end_date, b.id, b.start_date, b.end_date) AS pair,
+               row_number() OVER (ORDER BY a.user_id, a.start_date) AS pair_number
+          FROM leave a
+          JOIN leave b ON b.user_id = a.user_id
+                      AND b.id > a.id
+                      AND b.start_date <= a.end_date
+                      AND b.end_date >= a.start_date
+         WHERE a.status <> 'CANCELLED'
+           AND b.status <> 'CANCELLED'
+    )
+    SELECT COUNT(*), string_agg(pair, E'\n' ORDER BY pair_number) FILTER (WHERE pair_number <= 20)
+      INTO overlap_count, first_pairs
+      FROM overlapping;
+
+    IF overlap_count > 0 THEN
+        RAISE EXCEPTION 'Cannot add excl_leave_user_period: % pairs of non-cancelled leaves of the same user overlap',
+                overlap_count
+            USING DETAIL = E'First pairs:\n' || first_pairs,
+                  HINT = 'Cancel or shorten one leave of each pair, e.g. UPDATE leave SET status = ''CANCELLED'' '
+                         || 'WHERE id = ..., then rerun the migration.';
+    END IF;
+END $$;
+
+-- Reject overlapping leaves of the same user atomically, even for concurrent transactions.
+-- Cancelled leaves neither block nor are blocked by other leaves; the application overlap checks apply the same rule.
+ALTER TABLE leave
+    ADD CONSTRAINT excl_leave_user_period
+        EXCLUDE USING gist (user_id WITH =, period WITH &&)
+        WHERE (status <> 'CANCELLED');
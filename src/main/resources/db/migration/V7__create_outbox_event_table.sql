@@ -0,0 +1,25 @@
+-- Transactional outbox for outbound sync
+-- One row per leave change and target system, written in the same transaction as the leave
+CREATE TABLE IF NOT EXISTS outbox_event (
+    id UUID PRIMARY KEY,
+    leave_id UUID NOT NULL,
+    target VARCHAR(50) NOT NULL,
+    originating_source VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    locked_until TIMESTAMP WITH TIME ZONE,
+    last_error TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Lets the dispatcher find due rows without scanning dead-lettered ones
+CREATE INDEX IF NOT EXISTS idx_outbox_event_pending_due
+    ON outbox_event(next_attempt_at)
+    WHERE status = 'PENDING';
+
+COMMENT ON TABLE outbox_event IS 'Pending outbound sync of leaves to external systems';
+COMMENT ON COLUMN outbox_event.target IS 'System to sync the leave to (SLACK, CALENDAR, KIMAI)';
+COMMENT ON COLUMN outbox_event.originating_source IS 'Source that produced the leave change';
+COMMENT ON COLUMN outbox_event.status IS 'PENDING until dispatched (row is then deleted) or DEAD after the last failed attempt';
+COMMENT ON COLUMN outbox_event.locked_until IS 'Lease held by the dispatcher instance that claimed the row';
@@ -0,0 +1,13 @@
+-- Slack deliveries already accepted by some instance, so retries sent to another instance are only ACKed
+-- Rows are deleted once they are older than the deduplication TTL
+CREATE TABLE IF NOT EXISTS slack_request_dedup (
+    request_key VARCHAR(255) PRIMARY KEY,
+    received_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Lets the purge job find expired rows without a full scan
+CREATE INDEX IF NOT EXISTS idx_slack_request_dedup_received_at
+    ON slack_request_dedup(received_at);
+
+COMMENT ON TABLE slack_request_dedup IS 'Slack requests accepted for processing, used to ACK Slack retries without reprocessing';
+COMMENT ON COLUMN slack_request_dedup.request_key IS 'Interaction type and trigger_id or view.id of the accepted request';
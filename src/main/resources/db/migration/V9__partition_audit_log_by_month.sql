@@ -0,0 +1,79 @@
+-- Partition audit_log by month on timestamp
+-- Timestamp-range queries only scan the partitions of the months they cover, inserts go to a small current
+-- partition, and months past the retention are removed by detaching or dropping their partition instead of
+-- deleting rows. AuditLogPartitionMaintainer creates partitions ahead of time; rows outside every monthly
+-- partition land in audit_log_default, so an insert never fails for lack of a partition.
+-- Existing rows are copied into the partitioned table, which rewrites audit_log once.
+
+ALTER TABLE audit_log RENAME TO audit_log_unpartitioned;
+ALTER TABLE audit_log_unpartitioned RENAME CONSTRAINT audit_log_pkey TO audit_log_unpartitioned_pkey;
+DROP INDEX IF EXISTS idx_audit_log_request_id;
+DROP INDEX IF EXISTS idx_audit_log_user_id;
+DROP INDEX IF EXISTS idx_audit_log_timestamp;
+DROP INDEX IF EXISTS idx_audit_log_source_type;
+
+-- The primary key of a partitioned table must include the partition key
+CREATE TABLE audit_log (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    request_id VARCHAR(255),
+    endpoint VARCHAR(500) NOT NULL,
+    http_method VARCHAR(10) NOT NULL,
+    source_type VARCHAR(50),
+    request_body TEXT,
+    response_status INTEGER,
+    response_body TEXT,
+    user_id VARCHAR(255),
+    execution_time_ms BIGINT,
+    error_message TEXT,
+    timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+-- One partition per month from the oldest existing row up to three months ahead, named audit_log_pYYYYMM
+DO $$
+DECLARE
+    partition_month DATE;
+    last_month DATE := (date_trunc('month', CURRENT_DATE) + INTERVAL '3 months')::DATE;
+BEGIN
+    SELECT COALESCE(date_trunc('month', MIN(timestamp)), date_trunc('month', CURRENT_DATE))::DATE
+      INTO partition_month
+      FROM audit_log_unpartitioned;
+
+    WHILE partition_month <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF audit_log FOR VALUES FROM (%L) TO (%L)',
+                       'audit_log_p' || to_char(partition_month, 'YYYYMM'),
+                       partition_month,
+                       (partition_month + INTERVAL '1 month')::DATE);
+        partition_month := (partition_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+CREATE TABLE audit_log_default PARTITION OF audit_log DEFAULT;
+
+-- Created on the parent, so every partition gets its own copy
+CREATE INDEX idx_audit_log_request_id ON audit_log(request_id);
+CREATE INDEX idx_audit_log_user_id ON audit_log(user_id);
+CREATE INDEX idx_audit_log_timestamp ON audit_log(timestamp);
+CREATE INDEX idx_audit_log_source_type ON audit_log(source_type);
+
+INSERT INTO audit_log (id, request_id, endpoint, http_method, source_type, request_body, response_status,
+                       response_body, user_id, execution_time_ms, error_message, timestamp)
+SELECT id, request_id, endpoint, http_method, source_type, request_body, response_status,
+       response_body, user_id, execution_time_ms, error_message, timestamp
+  FROM audit_log_unpartitioned;
+
+DROP TABLE audit_log_unpartitioned;
+
+COMMENT ON TABLE audit_log IS 'Comprehensive audit trail of all API requests and responses, partitioned by month';
+COMMENT ON COLUMN audit_log.request_id IS 'Correlation ID from X-Request-Id header for request tracing';
+COMMENT ON COLUMN audit_log.endpoint IS 'The API endpoint path (e.g., /api/leaves/ingest)';
+COMMENT ON COLUMN audit_log.http_method IS 'HTTP method (GET, POST, PUT, DELETE, etc.)';
+COMMENT ON COLUMN audit_log.source_type IS 'Source system (WEB or SLACK) derived from endpoint';
+COMMENT ON COLUMN audit_log.request_body IS 'Full request payload captured as JSON';
+COMMENT ON COLUMN audit_log.response_status IS 'HTTP response status code';
+COMMENT ON COLUMN audit_log.response_body IS 'Full response payload captured as JSON';
+COMMENT ON COLUMN audit_log.user_id IS 'User identifier extracted from request';
+COMMENT ON COLUMN audit_log.execution_time_ms IS 'Request processing duration in milliseconds';
+COMMENT ON COLUMN audit_log.error_message IS 'Error details if request failed';
+COMMENT ON COLUMN audit_log.timestamp IS 'When the request was processed; the partition key';
+COMMENT ON TABLE audit_log_default IS 'Audit rows outside every monthly partition; should stay empty';
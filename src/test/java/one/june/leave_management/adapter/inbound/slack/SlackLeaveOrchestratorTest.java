@@ -4,16 +4,17 @@ import one.june.leave_management.adapter.inbound.slack.dto.SlackCommandRequest;
 import one.june.leave_management.adapter.inbound.slack.dto.SlackViewClosedRequest;
 import one.june.leave_management.adapter.inbound.slack.dto.SlackViewSubmissionRequest;
 import one.june.leave_management.adapter.inbound.web.dto.LeaveIngestionRequest;
+import one.june.leave_management.adapter.outbound.slack.builder.LeaveApplicationModalTemplate;
 import one.june.leave_management.adapter.outbound.slack.client.SlackApiClient;
 import one.june.leave_management.adapter.outbound.slack.dto.SlackMessageRequest;
 import one.june.leave_management.adapter.outbound.slack.dto.SlackMessageResponse;
-import one.june.leave_management.adapter.outbound.slack.dto.SlackModalView;
 import one.june.leave_management.adapter.outbound.slack.dto.SlackViewOpenResponse;
 import one.june.leave_management.application.leave.command.LeaveIngestionCommand;
 import one.june.leave_management.application.leave.dto.LeaveDto;
 import one.june.leave_management.application.leave.service.LeaveService;
 import one.june.leave_management.common.mapper.LeaveMapper;
 import one.june.leave_management.common.model.DateRange;
+import one.june.leave_management.config.SlackDispatchProperties;
 import one.june.leave_management.domain.leave.model.LeaveDurationType;
 import one.june.leave_management.domain.leave.model.LeaveStatus;
 import one.june.leave_management.domain.leave.model.LeaveType;
@@ -31,6 +32,7 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.UUID;
@@ -77,7 +79,8 @@ class SlackLeaveOrchestratorTest {
 
     @BeforeEach
     void setUp() {
-        orchestrator = new SlackLeaveOrchestrator(leaveService, leaveMapper, slackApiClient);
+        orchestrator = new SlackLeaveOrchestrator(leaveService, leaveMapper, slackApiClient,
+                new LeaveApplicationModalTemplate(), SlackDispatchProperties.builder().build());
     }
 
     @Nested
@@ -100,8 +103,8 @@ class SlackLeaveOrchestratorTest {
             CountDownLatch latch = new CountDownLatch(1);
             doAnswer(invocation -> {
                 latch.countDown();
-                return new SlackMessageResponse();
-            }).when(slackApiClient).postThreadReply(any(), any(), any());
+                return CompletableFuture.completedFuture(new SlackMessageResponse());
+            }).when(slackApiClient).submitThreadReply(any(), any(), any());
 
             // When
             orchestrator.processLeaveRequestAsync(leaveRequest, TEST_CHANNEL_ID, TEST_THREAD_TS, TEST_USER_ID);
@@ -110,7 +113,7 @@ class SlackLeaveOrchestratorTest {
             assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
             verify(leaveMapper).toCommand(leaveRequest, SourceType.SLACK, leaveRequest.getSourceId());
             verify(leaveService).ingest(command);
-            verify(slackApiClient, times(1)).postThreadReply(eq(TEST_CHANNEL_ID), eq(TEST_THREAD_TS), any());
+            verify(slackApiClient, times(1)).submitThreadReply(eq(TEST_CHANNEL_ID), eq(TEST_THREAD_TS), any());
         }
 
         @Test
@@ -129,8 +132,8 @@ class SlackLeaveOrchestratorTest {
             CountDownLatch latch = new CountDownLatch(1);
             doAnswer(invocation -> {
                 latch.countDown();
-                return new SlackMessageResponse();
-            }).when(slackApiClient).postThreadReply(any(), any(), any());
+                return CompletableFuture.completedFuture(new SlackMessageResponse());
+            }).when(slackApiClient).submitThreadReply(any(), any(), any());
 
             // When
             orchestrator.processLeaveRequestAsync(leaveRequest, TEST_CHANNEL_ID, TEST_THREAD_TS, TEST_USER_ID);
@@ -159,8 +162,8 @@ class SlackLeaveOrchestratorTest {
                 SlackMessageRequest message = invocation.getArgument(2);
                 errorMessage.set(message.getText());
                 latch.countDown();
-                return new SlackMessageResponse();
-            }).when(slackApiClient).postThreadReply(any(), any(), any());
+                return CompletableFuture.completedFuture(new SlackMessageResponse());
+            }).when(slackApiClient).submitThreadReply(any(), any(), any());
 
             // When
             orchestrator.processLeaveRequestAsync(leaveRequest, TEST_CHANNEL_ID, TEST_THREAD_TS, TEST_USER_ID);
@@ -188,15 +191,15 @@ class SlackLeaveOrchestratorTest {
             CountDownLatch latch = new CountDownLatch(1);
             doAnswer(invocation -> {
                 latch.countDown();
-                return new SlackMessageResponse();
-            }).when(slackApiClient).postThreadReply(any(), any(), any());
+                return CompletableFuture.completedFuture(new SlackMessageResponse());
+            }).when(slackApiClient).submitThreadReply(any(), any(), any());
 
             // When
             orchestrator.processLeaveRequestAsync(leaveRequest, TEST_CHANNEL_ID, TEST_THREAD_TS, TEST_USER_ID);
 
             // Then
             assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
-            verify(slackApiClient).postThreadReply(eq(TEST_CHANNEL_ID), eq(TEST_THREAD_TS), any());
+            verify(slackApiClient).submitThreadReply(eq(TEST_CHANNEL_ID), eq(TEST_THREAD_TS), any());
         }
 
         @Test
@@ -210,8 +213,8 @@ class SlackLeaveOrchestratorTest {
             LeaveDto result = createMockLeaveDto();
 
             when(leaveMapper.toCommand(any(), any(), any())).thenReturn(command);
-            when(slackApiClient.postThreadReply(any(), any(), any()))
-                    .thenThrow(new RuntimeException("Slack API error"));
+            when(slackApiClient.submitThreadReply(any(), any(), any()))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Slack API error")));
 
             CountDownLatch latch = new CountDownLatch(1);
             doAnswer(invocation -> {
@@ -224,8 +227,11 @@ class SlackLeaveOrchestratorTest {
 
             // Then - Should complete without throwing exception (best-effort error handling)
             assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
-            // Verify that slackApiClient was called (may have been called multiple times due to retries)
-            verify(slackApiClient, atLeastOnce()).postThreadReply(any(), any(), any());
+            // The leave was created, so the failed post must not be followed by a failure message
+            ArgumentCaptor<SlackMessageRequest> messageCaptor = ArgumentCaptor.forClass(SlackMessageRequest.class);
+            verify(slackApiClient, times(1)).submitThreadReply(eq(TEST_CHANNEL_ID), eq(TEST_THREAD_TS),
+                    messageCaptor.capture());
+            assertThat(messageCaptor.getValue().getText()).doesNotContainIgnoringCase("failed");
         }
 
         @Test
@@ -238,8 +244,8 @@ class SlackLeaveOrchestratorTest {
             LeaveIngestionCommand command = createMockCommand();
 
             when(leaveMapper.toCommand(any(), any(), any())).thenReturn(command);
-            when(slackApiClient.postThreadReply(any(), any(), any()))
-                    .thenThrow(new RuntimeException("Messaging failed"));
+            when(slackApiClient.submitThreadReply(any(), any(), any()))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Messaging failed")));
 
             CountDownLatch latch = new CountDownLatch(1);
             doAnswer(invocation -> {
@@ -252,7 +258,7 @@ class SlackLeaveOrchestratorTest {
 
             // Then
             assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
-            verify(slackApiClient, times(1)).postThreadReply(eq(TEST_CHANNEL_ID), eq(TEST_THREAD_TS), any());
+            verify(slackApiClient, times(1)).submitThreadReply(eq(TEST_CHANNEL_ID), eq(TEST_THREAD_TS), any());
         }
 
         @Test
@@ -270,7 +276,8 @@ class SlackLeaveOrchestratorTest {
                 Thread.sleep(100); // Simulate processing
                 return result;
             });
-            when(slackApiClient.postThreadReply(any(), any(), any())).thenReturn(new SlackMessageResponse());
+            when(slackApiClient.submitThreadReply(any(), any(), any()))
+                    .thenReturn(CompletableFuture.completedFuture(new SlackMessageResponse()));
 
             long startTime = System.currentTimeMillis();
 
@@ -308,7 +315,7 @@ class SlackLeaveOrchestratorTest {
             SlackMessageResponse response = new SlackMessageResponse();
             response.setTs(TEST_THREAD_TS);
 
-            when(slackApiClient.postMessage(eq(TEST_CHANNEL_ID), any())).thenReturn(response);
+            when(slackApiClient.postMessage(eq(TEST_CHANNEL_ID), any(), any())).thenReturn(response);
 
             // When
             SlackMessageResponse result = orchestrator.postThreadAnchorMessage(TEST_CHANNEL_ID, userTag);
@@ -316,7 +323,7 @@ class SlackLeaveOrchestratorTest {
             // Then
             assertThat(result).isNotNull();
             assertThat(result.getTs()).isEqualTo(TEST_THREAD_TS);
-            verify(slackApiClient).postMessage(eq(TEST_CHANNEL_ID), any());
+            verify(slackApiClient).postMessage(eq(TEST_CHANNEL_ID), any(), eq(Duration.ofMillis(1500)));
         }
 
         @Test
@@ -324,7 +331,7 @@ class SlackLeaveOrchestratorTest {
         void shouldReturnNullOnApiException() {
             // Given
             String userTag = "<@U12345>";
-            when(slackApiClient.postMessage(any(), any()))
+            when(slackApiClient.postMessage(any(), any(), any()))
                     .thenThrow(new RuntimeException("Slack API error"));
 
             // When
@@ -339,7 +346,7 @@ class SlackLeaveOrchestratorTest {
         void shouldHandleNullChannelId() {
             // Given
             String userTag = "<@U12345>";
-            when(slackApiClient.postMessage(isNull(), any()))
+            when(slackApiClient.postMessage(isNull(), any(), any()))
                     .thenThrow(new IllegalArgumentException("Channel ID cannot be null"));
 
             // When
@@ -358,26 +365,27 @@ class SlackLeaveOrchestratorTest {
         @DisplayName("Should successfully post cancellation message to thread")
         void shouldSuccessfullyPostCancellationMessage() {
             // Given
-            when(slackApiClient.postThreadReply(any(), any(), any())).thenReturn(new SlackMessageResponse());
+            when(slackApiClient.submitThreadReply(any(), any(), any()))
+                    .thenReturn(CompletableFuture.completedFuture(new SlackMessageResponse()));
 
             // When
             orchestrator.postCancellationMessage(TEST_CHANNEL_ID, TEST_THREAD_TS, TEST_USER_ID);
 
             // Then
-            verify(slackApiClient).postThreadReply(eq(TEST_CHANNEL_ID), eq(TEST_THREAD_TS), any());
+            verify(slackApiClient).submitThreadReply(eq(TEST_CHANNEL_ID), eq(TEST_THREAD_TS), any());
         }
 
         @Test
         @DisplayName("Should handle API exception gracefully (best-effort)")
         void shouldHandleApiExceptionGracefully() {
             // Given
-            when(slackApiClient.postThreadReply(any(), any(), any()))
+            when(slackApiClient.submitThreadReply(any(), any(), any()))
                     .thenThrow(new RuntimeException("Slack API error"));
 
             // When & Then - Should not throw exception
             orchestrator.postCancellationMessage(TEST_CHANNEL_ID, TEST_THREAD_TS, TEST_USER_ID);
 
-            verify(slackApiClient).postThreadReply(eq(TEST_CHANNEL_ID), eq(TEST_THREAD_TS), any());
+            verify(slackApiClient).submitThreadReply(eq(TEST_CHANNEL_ID), eq(TEST_THREAD_TS), any());
         }
     }
 
@@ -546,7 +554,7 @@ class SlackLeaveOrchestratorTest {
             orchestrator.handleViewClosed(requestBody);
 
             // Then
-            verify(slackApiClient).postThreadReply(eq(TEST_CHANNEL_ID), eq(TEST_THREAD_TS), any());
+            verify(slackApiClient).submitThreadReply(eq(TEST_CHANNEL_ID), eq(TEST_THREAD_TS), any());
         }
 
         @Test
@@ -565,7 +573,7 @@ class SlackLeaveOrchestratorTest {
         void shouldHandleApiFailureGracefully() {
             // Given
             String requestBody = createValidViewClosedRequestBody();
-            when(slackApiClient.postThreadReply(any(), any(), any()))
+            when(slackApiClient.submitThreadReply(any(), any(), any()))
                     .thenThrow(new RuntimeException("Slack API error"));
 
             // When & Then - Should not throw exception
@@ -585,7 +593,7 @@ class SlackLeaveOrchestratorTest {
             SlackMessageResponse messageResponse = new SlackMessageResponse();
             messageResponse.setTs(TEST_THREAD_TS);
 
-            when(slackApiClient.postMessage(eq(TEST_CHANNEL_ID), any())).thenReturn(messageResponse);
+            when(slackApiClient.postMessage(eq(TEST_CHANNEL_ID), any(), any())).thenReturn(messageResponse);
 
             SlackLeaveOrchestrator spyOrchestrator = spy(orchestrator);
             doNothing().when(spyOrchestrator).openLeaveApplicationModalAsync(any(), any());
@@ -594,7 +602,7 @@ class SlackLeaveOrchestratorTest {
             spyOrchestrator.handleSlashCommand(commandRequest);
 
             // Then
-            verify(slackApiClient).postMessage(eq(TEST_CHANNEL_ID), any());
+            verify(slackApiClient).postMessage(eq(TEST_CHANNEL_ID), any(), any());
             verify(spyOrchestrator).openLeaveApplicationModalAsync(eq(commandRequest), eq(TEST_THREAD_TS));
         }
 
@@ -603,7 +611,7 @@ class SlackLeaveOrchestratorTest {
         void shouldContinueWorkflowWhenAnchorFails() {
             // Given
             SlackCommandRequest commandRequest = createValidSlackCommandRequest();
-            when(slackApiClient.postMessage(any(), any())).thenReturn(null);
+            when(slackApiClient.postMessage(any(), any(), any())).thenReturn(null);
 
             SlackLeaveOrchestrator spyOrchestrator = spy(orchestrator);
             doNothing().when(spyOrchestrator).openLeaveApplicationModalAsync(any(), any());
@@ -624,7 +632,7 @@ class SlackLeaveOrchestratorTest {
             messageResponse.setTs(TEST_THREAD_TS);
 
             ArgumentCaptor<SlackMessageRequest> messageCaptor = ArgumentCaptor.forClass(SlackMessageRequest.class);
-            when(slackApiClient.postMessage(any(), messageCaptor.capture())).thenReturn(messageResponse);
+            when(slackApiClient.postMessage(any(), messageCaptor.capture(), any())).thenReturn(messageResponse);
 
             SlackLeaveOrchestrator spyOrchestrator = spy(orchestrator);
             doNothing().when(spyOrchestrator).openLeaveApplicationModalAsync(any(), any());
@@ -641,7 +649,7 @@ class SlackLeaveOrchestratorTest {
         void shouldHandleAnchorApiExceptionGracefully() {
             // Given
             SlackCommandRequest commandRequest = createValidSlackCommandRequest();
-            when(slackApiClient.postMessage(any(), any()))
+            when(slackApiClient.postMessage(any(), any(), any()))
                     .thenThrow(new RuntimeException("Slack API error"));
 
             SlackLeaveOrchestrator spyOrchestrator = spy(orchestrator);
@@ -663,7 +671,7 @@ class SlackLeaveOrchestratorTest {
             SlackMessageResponse response = new SlackMessageResponse();
             response.setTs(TEST_THREAD_TS);
 
-            when(slackApiClient.postMessage(any(), any())).thenReturn(response);
+            when(slackApiClient.postMessage(any(), any(), any())).thenReturn(response);
 
             SlackLeaveOrchestrator spyOrchestrator = spy(orchestrator);
             doNothing().when(spyOrchestrator).openLeaveApplicationModalAsync(any(), any());
@@ -696,14 +704,14 @@ class SlackLeaveOrchestratorTest {
             doAnswer(invocation -> {
                 latch.countDown();
                 return new SlackViewOpenResponse();
-            }).when(slackApiClient).openModal(any(), any());
+            }).when(slackApiClient).openPrecompiledModal(any(), any());
 
             // When
             orchestrator.openLeaveApplicationModalAsync(slackRequest, TEST_THREAD_TS);
 
             // Then
             assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
-            verify(slackApiClient).openModal(eq(TEST_TRIGGER_ID), any(SlackModalView.class));
+            verify(slackApiClient).openPrecompiledModal(eq(TEST_TRIGGER_ID), any(String.class));
         }
 
         @Test
@@ -712,13 +720,13 @@ class SlackLeaveOrchestratorTest {
             // Given
             SlackCommandRequest slackRequest = createValidSlackCommandRequest();
             doThrow(new RuntimeException("Slack API error"))
-                    .when(slackApiClient).openModal(any(), any());
+                    .when(slackApiClient).openPrecompiledModal(any(), any());
 
             // When
             orchestrator.openLeaveApplicationModalAsync(slackRequest, TEST_THREAD_TS);
 
             // Then - Should complete without exception despite exception being thrown
-            verify(slackApiClient).openModal(any(), any());
+            verify(slackApiClient).openPrecompiledModal(any(), any());
         }
 
         @Test
@@ -726,13 +734,13 @@ class SlackLeaveOrchestratorTest {
         void shouldEmbedThreadContextInModalMetadata() throws Exception {
             // Given
             SlackCommandRequest slackRequest = createValidSlackCommandRequest();
-            ArgumentCaptor<SlackModalView> modalCaptor = ArgumentCaptor.forClass(SlackModalView.class);
+            ArgumentCaptor<String> viewCaptor = ArgumentCaptor.forClass(String.class);
             CountDownLatch latch = new CountDownLatch(1);
 
             doAnswer(invocation -> {
                 latch.countDown();
                 return new SlackViewOpenResponse();
-            }).when(slackApiClient).openModal(eq(TEST_TRIGGER_ID), modalCaptor.capture());
+            }).when(slackApiClient).openPrecompiledModal(eq(TEST_TRIGGER_ID), viewCaptor.capture());
 
             // When
             orchestrator.openLeaveApplicationModalAsync(slackRequest, TEST_THREAD_TS);
@@ -740,7 +748,8 @@ class SlackLeaveOrchestratorTest {
             assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
 
             // Then
-            String privateMetadata = modalCaptor.getValue().getPrivateMetadata();
+            String privateMetadata = new ObjectMapper().readTree(viewCaptor.getValue())
+                    .path("private_metadata").asText();
             assertThat(privateMetadata).contains(TEST_USER_ID);
             assertThat(privateMetadata).contains(TEST_CHANNEL_ID);
             assertThat(privateMetadata).contains(TEST_CHANNEL_NAME);
@@ -752,9 +761,9 @@ class SlackLeaveOrchestratorTest {
         void shouldRunAsynchronously() {
             // Given
             SlackCommandRequest slackRequest = createValidSlackCommandRequest();
-            when(slackApiClient.openModal(any(), any())).thenAnswer(invocation -> {
+            when(slackApiClient.openPrecompiledModal(any(), any())).thenAnswer(invocation -> {
                 Thread.sleep(100);
-                return new SlackMessageResponse();
+                return new SlackViewOpenResponse();
             });
 
             long startTime = System.currentTimeMillis();
@@ -0,0 +1,155 @@
+package one.june.leave_management.adapter.inbound.slack;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import one.june.leave_management.adapter.persistence.jdbc.SlackRequestDedupJdbcRepository;
+import one.june.leave_management.config.SlackIdempotencyProperties;
+import one.june.leave_management.config.SlackIdempotencyProperties.Store;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link SlackRetryDeduplicator}
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SlackRetryDeduplicator Unit Tests")
+class SlackRetryDeduplicatorTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-15T10:00:00Z");
+
+    @Mock
+    private SlackRequestDedupJdbcRepository dedupJdbcRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SlackRetryDeduplicator deduplicator(Store store) {
+        SlackIdempotencyProperties properties = SlackIdempotencyProperties.builder()
+                .store(store)
+                .ttl(Duration.ofMinutes(10))
+                .build();
+        return new SlackRetryDeduplicator(properties, dedupJdbcRepository, meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private double retries(String outcome) {
+        return meterRegistry.get("slack.requests.retries").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("Should ACK retries of an accepted request without touching the database in memory mode")
+    void shouldAckRetriesInMemory() {
+        SlackRetryDeduplicator deduplicator = deduplicator(Store.MEMORY);
+
+        assertThat(deduplicator.isDuplicate("command:trigger-1", null, null)).isFalse();
+        assertThat(deduplicator.isDuplicate("command:trigger-1", "1", "http_timeout")).isTrue();
+        assertThat(deduplicator.isDuplicate("command:trigger-2", null, null)).isFalse();
+
+        assertThat(retries("acked")).isEqualTo(1);
+        verifyNoInteractions(dedupJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("Should process requests without an identity and retries whose original was not seen")
+    void shouldProcessUnknownRetries() {
+        SlackRetryDeduplicator deduplicator = deduplicator(Store.MEMORY);
+
+        assertThat(deduplicator.isDuplicate(null, "1", "http_timeout")).isFalse();
+        assertThat(deduplicator.isDuplicate(null, "2", "http_timeout")).isFalse();
+        assertThat(deduplicator.isDuplicate("view_submission:V1", "1", "http_timeout")).isFalse();
+
+        assertThat(retries("processed")).isEqualTo(3);
+        assertThat(retries("acked")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should ACK a retry claimed by another instance and remember it locally")
+    void shouldAckRequestsClaimedElsewhere() {
+        SlackRetryDeduplicator deduplicator = deduplicator(Store.JDBC);
+        when(dedupJdbcRepository.claim("view_submission:V1", NOW, NOW.minus(Duration.ofMinutes(10))))
+                .thenReturn(false);
+
+        assertThat(deduplicator.isDuplicate("view_submission:V1", "1", "http_timeout")).isTrue();
+        assertThat(deduplicator.isDuplicate("view_submission:V1", "2", "http_timeout")).isTrue();
+
+        verify(dedupJdbcRepository, times(1)).claim(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should process the request when the dedup table cannot be reached")
+    void shouldFailOpenOnDatabaseErrors() {
+        SlackRetryDeduplicator deduplicator = deduplicator(Store.JDBC);
+        when(dedupJdbcRepository.claim(anyString(), any(), any()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        assertThat(deduplicator.isDuplicate("command:trigger-1", null, null)).isFalse();
+        assertThat(deduplicator.isDuplicate("command:trigger-1", "1", "http_timeout")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should process a request again once its failed processing released it")
+    void shouldProcessReleasedRequestsAgain() {
+        SlackRetryDeduplicator deduplicator = deduplicator(Store.MEMORY);
+
+        assertThat(deduplicator.isDuplicate("view_submission:V1", null, null)).isFalse();
+        deduplicator.release("view_submission:V1");
+
+        assertThat(deduplicator.isDuplicate("view_submission:V1", "1", "http_timeout")).isFalse();
+        assertThat(deduplicator.isDuplicate("view_submission:V1", "2", "http_timeout")).isTrue();
+        verifyNoInteractions(dedupJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("Should delete the claim of a released request with the JDBC store")
+    void shouldReleaseClaimsInTheDatabase() {
+        SlackRetryDeduplicator deduplicator = deduplicator(Store.JDBC);
+        when(dedupJdbcRepository.claim("command:trigger-1", NOW, NOW.minus(Duration.ofMinutes(10))))
+                .thenReturn(true);
+
+        assertThat(deduplicator.isDuplicate("command:trigger-1", null, null)).isFalse();
+        deduplicator.release("command:trigger-1");
+        assertThat(deduplicator.isDuplicate("command:trigger-1", "1", "http_timeout")).isFalse();
+
+        verify(dedupJdbcRepository).release("command:trigger-1");
+        verify(dedupJdbcRepository, times(2)).claim(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should ignore releases without an identity and failures to reach the dedup table")
+    void shouldTolerateFailedReleases() {
+        SlackRetryDeduplicator deduplicator = deduplicator(Store.JDBC);
+        doThrow(new DataAccessResourceFailureException("connection refused"))
+                .when(dedupJdbcRepository).release("command:trigger-1");
+
+        deduplicator.release(null);
+        deduplicator.release("command:trigger-1");
+
+        verify(dedupJdbcRepository).release("command:trigger-1");
+    }
+
+    @Test
+    @DisplayName("Should purge expired claims only with the JDBC store")
+    void shouldPurgeExpiredClaims() {
+        deduplicator(Store.MEMORY).purgeExpired();
+        verifyNoInteractions(dedupJdbcRepository);
+
+        deduplicator(Store.JDBC).purgeExpired();
+        verify(dedupJdbcRepository).purgeExpired(NOW.minus(Duration.ofMinutes(10)));
+    }
+}
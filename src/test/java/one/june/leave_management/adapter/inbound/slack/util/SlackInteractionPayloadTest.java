@@ -0,0 +1,93 @@
+package one.june.leave_management.adapter.inbound.slack.util;
+
+import one.june.leave_management.adapter.inbound.slack.dto.SlackViewClosedRequest;
+import one.june.leave_management.common.exception.SlackPayloadParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link SlackInteractionPayload}
+ */
+@DisplayName("SlackInteractionPayload Unit Tests")
+class SlackInteractionPayloadTest {
+
+    private static final String PAYLOAD_JSON = "{\"type\":\"view_closed\",\"user\":{\"id\":\"U12345\"},"
+            + "\"view\":{\"id\":\"V12345\",\"private_metadata\":\"{\\\"note\\\":\\\"Out & about 🌴 +1\\\"}\"}}";
+
+    private static byte[] formBody(String json) {
+        return ("token=abc&payload=" + URLEncoder.encode(json, StandardCharsets.UTF_8) + "&team_id=T1")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Should decode the payload field exactly like URLDecoder")
+    void shouldDecodeLikeUrlDecoder() {
+        byte[] body = formBody(PAYLOAD_JSON);
+
+        SlackInteractionPayload payload = SlackInteractionPayload.parse(body);
+
+        String encoded = new String(body, StandardCharsets.UTF_8).split("&")[1].substring("payload=".length());
+        assertThat(payload.getJson())
+                .isEqualTo(PAYLOAD_JSON)
+                .isEqualTo(URLDecoder.decode(encoded, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should expose type and user ID and bind typed requests from one parse")
+    void shouldExposeFieldsAndBindTypedRequest() {
+        SlackInteractionPayload payload = SlackInteractionPayload.parse(formBody(PAYLOAD_JSON));
+
+        assertThat(payload.getType()).isEqualTo("view_closed");
+        assertThat(payload.getUserId()).isEqualTo("U12345");
+        assertThat(payload.getViewId()).isEqualTo("V12345");
+
+        SlackViewClosedRequest closedRequest = payload.as(SlackViewClosedRequest.class);
+        assertThat(closedRequest.getView().getId()).isEqualTo("V12345");
+        assertThat(closedRequest.getView().getPrivateMetadata()).contains("Out & about 🌴 +1");
+    }
+
+    @Test
+    @DisplayName("Should parse once per request and reuse the stored payload")
+    void shouldReusePayloadWithinRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        byte[] body = formBody(PAYLOAD_JSON);
+
+        SlackInteractionPayload first = SlackInteractionPayload.fromRequestIfPresent(request, body);
+        SlackInteractionPayload second = SlackInteractionPayload.fromRequest(request, body);
+
+        assertThat(second).isSameAs(first);
+        assertThat(request.getAttribute(SlackInteractionPayload.REQUEST_ATTRIBUTE)).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Should return null for bodies without a payload field")
+    void shouldIgnoreBodiesWithoutPayload() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        byte[] slashCommand = "command=%2Fleave&user_id=U12345&payload_extra=1".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(SlackInteractionPayload.fromRequestIfPresent(request, slashCommand)).isNull();
+        assertThatThrownBy(() -> SlackInteractionPayload.fromRequest(request, slashCommand))
+                .isInstanceOf(SlackPayloadParseException.class)
+                .hasMessageContaining("Missing 'payload' parameter");
+    }
+
+    @Test
+    @DisplayName("Should reject malformed escapes, invalid JSON and a missing type")
+    void shouldRejectInvalidPayloads() {
+        assertThatThrownBy(() -> SlackInteractionPayload.parse("payload=%7B%2"))
+                .isInstanceOf(SlackPayloadParseException.class);
+        assertThatThrownBy(() -> SlackInteractionPayload.parse("payload=%7Bnot-json"))
+                .isInstanceOf(SlackPayloadParseException.class);
+        assertThatThrownBy(() -> SlackInteractionPayload.parse(formBody("{\"user\":{}}")).getType())
+                .isInstanceOf(SlackPayloadParseException.class)
+                .hasMessageContaining("Missing 'type' field");
+    }
+}
@@ -220,6 +220,38 @@ class SlackRequestSignatureVerifierTest {
         signatureVerifier.verify(signature, timestamp, requestBody);
     }
 
+    @Test
+    @DisplayName("Should verify the raw body bytes and keep verifying with reused Mac instances")
+    void shouldVerifyRawBodyBytesRepeatedly() throws SlackSignatureVerificationException {
+        // Given
+        String timestamp = String.valueOf(Instant.now().getEpochSecond());
+        String requestBody = "payload=%7B%22type%22%3A%22view_submission%22%7D";
+        String signature = generateTestSignature(timestamp, requestBody);
+        byte[] rawBody = requestBody.getBytes(StandardCharsets.UTF_8);
+
+        // When & Then - should not throw, including after a failed verification
+        signatureVerifier.verify(signature, timestamp, rawBody);
+        byte[] tamperedBody = "tampered".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> signatureVerifier.verify(signature, timestamp, tamperedBody))
+                .isInstanceOf(SlackSignatureVerificationException.class);
+        signatureVerifier.verify(signature, timestamp, rawBody);
+    }
+
+    @Test
+    @DisplayName("Should reject truncated signature")
+    void shouldRejectTruncatedSignature() {
+        // Given
+        String timestamp = String.valueOf(Instant.now().getEpochSecond());
+        String requestBody = "{\"text\":\"hello\"}";
+        String signature = generateTestSignature(timestamp, requestBody);
+        String truncatedSignature = signature.substring(0, signature.length() - 2);
+
+        // When & Then
+        assertThatThrownBy(() -> signatureVerifier.verify(truncatedSignature, timestamp, requestBody))
+                .isInstanceOf(SlackSignatureVerificationException.class)
+                .hasMessageContaining("Invalid signature");
+    }
+
     @Test
     @DisplayName("Should generate correct signature format")
     void shouldGenerateCorrectSignatureFormat() {
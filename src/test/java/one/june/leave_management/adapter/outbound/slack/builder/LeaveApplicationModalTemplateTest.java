@@ -0,0 +1,41 @@
+package one.june.leave_management.adapter.outbound.slack.builder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link LeaveApplicationModalTemplate}
+ */
+@DisplayName("LeaveApplicationModalTemplate Unit Tests")
+class LeaveApplicationModalTemplateTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LeaveApplicationModalTemplate template = new LeaveApplicationModalTemplate();
+
+    @Test
+    @DisplayName("Should render the same view as serializing the modal per request")
+    void shouldMatchPerRequestSerialization() throws Exception {
+        String metadata = "{\"userId\":\"U12345\",\"channelId\":\"C12345\",\"threadTs\":\"1234567890.123456\"}";
+
+        JsonNode rendered = objectMapper.readTree(template.render(metadata));
+        JsonNode expected = objectMapper.valueToTree(LeaveApplicationModalTemplate.buildModal(metadata));
+
+        assertThat(rendered).isEqualTo(expected);
+        assertThat(rendered.path("callback_id").asText()).isEqualTo("leave_application_submit");
+        assertThat(rendered.path("blocks")).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("Should escape metadata containing quotes, backslashes, control and unicode characters")
+    void shouldEscapeMetadata() throws Exception {
+        String metadata = "{\"channelName\":\"team \\\"ops\\\" \\\\ 🌴\",\"note\":\"line1\nline2\t</script>\"}";
+
+        JsonNode rendered = objectMapper.readTree(template.render(metadata));
+
+        assertThat(rendered.path("private_metadata").asText()).isEqualTo(metadata);
+    }
+}
@@ -0,0 +1,151 @@
+package one.june.leave_management.adapter.outbound.slack.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import one.june.leave_management.config.SlackHttpProperties;
+import one.june.leave_management.config.SlackHttpProperties.ClientType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link SlackHttpClientFactory} against a local stub Slack server
+ */
+@DisplayName("SlackHttpClientFactory Tests")
+class SlackHttpClientFactoryTest {
+
+    private static final String OK_RESPONSE = "{\"ok\":true}";
+
+    private HttpServer server;
+    private String baseUrl;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ClientHttpRequestFactory requestFactory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/chat.postMessage", exchange -> {
+            // The client port identifies the TCP connection a request arrived on
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = OK_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/api/views.open", exchange -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort() + "/api";
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (requestFactory instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+        server.stop(0);
+    }
+
+    private RestTemplate restTemplate(ClientType clientType) {
+        SlackHttpProperties properties = SlackHttpProperties.builder()
+                .client(clientType)
+                .maxConnectionsTotal(8)
+                .maxConnectionsPerRoute(4)
+                .readTimeout(Duration.ofMillis(200))
+                .build();
+        requestFactory = new SlackHttpClientFactory(properties, meterRegistry).create();
+        return new RestTemplate(requestFactory);
+    }
+
+    @Test
+    @DisplayName("Should reuse one kept-alive connection for consecutive calls")
+    void shouldReuseConnection() {
+        RestTemplate restTemplate = restTemplate(ClientType.APACHE);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(restTemplate.postForObject(baseUrl + "/chat.postMessage", "{}", String.class))
+                    .isEqualTo(OK_RESPONSE);
+        }
+
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should publish connection pool metrics")
+    void shouldPublishPoolMetrics() {
+        RestTemplate restTemplate = restTemplate(ClientType.APACHE);
+        restTemplate.postForObject(baseUrl + "/chat.postMessage", "{}", String.class);
+
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", SlackHttpClientFactory.POOL_NAME)
+                .gauge().value()).isEqualTo(8);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("httpclient", SlackHttpClientFactory.POOL_NAME)
+                .tag("state", "available")
+                .gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fail calls that exceed the read timeout")
+    void shouldApplyReadTimeout() {
+        RestTemplate restTemplate = restTemplate(ClientType.APACHE);
+
+        assertThatThrownBy(() -> restTemplate.postForObject(baseUrl + "/views.open", "{}", String.class))
+                .isInstanceOf(ResourceAccessException.class);
+    }
+
+    @Test
+    @DisplayName("Should call the stub server through the JDK client")
+    void shouldWorkWithJdkClient() {
+        RestTemplate restTemplate = restTemplate(ClientType.JDK);
+
+        assertThat(restTemplate.postForObject(baseUrl + "/chat.postMessage", "{}", String.class))
+                .isEqualTo(OK_RESPONSE);
+        assertThatThrownBy(() -> restTemplate.postForObject(baseUrl + "/views.open", "{}", String.class))
+                .isInstanceOf(ResourceAccessException.class);
+    }
+
+    @Test
+    @DisplayName("Should list the changed pool settings the JDK client ignores")
+    void shouldListPoolSettingsIgnoredByJdk() {
+        SlackHttpProperties changed = SlackHttpProperties.builder()
+                .client(ClientType.JDK)
+                .maxConnectionsPerRoute(4)
+                .maxIdleTime(Duration.ofSeconds(5))
+                .readTimeout(Duration.ofMillis(200))
+                .build();
+
+        assertThat(SlackHttpClientFactory.ignoredByJdk(changed))
+                .containsExactly("max-connections-per-route", "max-idle-time");
+        assertThat(SlackHttpClientFactory.ignoredByJdk(SlackHttpProperties.builder().client(ClientType.JDK).build()))
+                .isEmpty();
+    }
+}
@@ -0,0 +1,194 @@
+package one.june.leave_management.adapter.outbound.slack.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import one.june.leave_management.common.exception.SlackRateLimitedException;
+import one.june.leave_management.config.SlackDispatchProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link SlackMessageDispatcher}
+ */
+@DisplayName("SlackMessageDispatcher Unit Tests")
+class SlackMessageDispatcherTest {
+
+    private static final String METHOD = "chat.postMessage";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SlackMessageDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.destroy();
+        }
+    }
+
+    private SlackMessageDispatcher createDispatcher(SlackDispatchProperties.SlackDispatchPropertiesBuilder builder) {
+        return new SlackMessageDispatcher(builder
+                .initialBackoff(Duration.ofMillis(10))
+                .maxBackoff(Duration.ofMillis(50))
+                .build(), meterRegistry);
+    }
+
+    private double messages(String outcome) {
+        return meterRegistry.get("slack.dispatch.messages").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("Should send the messages of a thread in submission order")
+    void shouldPreserveOrderWithinThread() {
+        dispatcher = createDispatcher(SlackDispatchProperties.builder().channelPermitsPerSecond(1000));
+        List<Integer> sent = new ArrayList<>();
+
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            int index = i;
+            results.add(dispatcher.submit(METHOD, "C1", "1700000000.000100", () -> {
+                synchronized (sent) {
+                    sent.add(index);
+                }
+                return index;
+            }));
+        }
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+
+        assertThat(sent).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    @DisplayName("Should wait for Retry-After and then resend a rate limited message")
+    void shouldHonourRetryAfter() {
+        dispatcher = createDispatcher(SlackDispatchProperties.builder());
+        AtomicInteger calls = new AtomicInteger();
+
+        long start = System.nanoTime();
+        String result = dispatcher.execute(METHOD, "C1", null, () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new SlackRateLimitedException(METHOD, Duration.ofMillis(300), null);
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(300);
+        assertThat(messages("rate_limited")).isEqualTo(1);
+        assertThat(messages("sent")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should retry transient failures with backoff until they succeed")
+    void shouldRetryTransientFailures() {
+        dispatcher = createDispatcher(SlackDispatchProperties.builder());
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = dispatcher.execute(METHOD, "C1", null, () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new RuntimeException("HTTP error", new ResourceAccessException("Connection reset"));
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls).hasValue(3);
+        assertThat(messages("retried")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should fail other errors right away and carry on with the lane")
+    void shouldFailPermanentErrorsWithoutRetry() {
+        dispatcher = createDispatcher(SlackDispatchProperties.builder());
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> dispatcher.execute(METHOD, "C1", null, () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("channel_not_found");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("channel_not_found");
+
+        assertThat(calls).hasValue(1);
+        assertThat(dispatcher.execute(METHOD, "C1", null, () -> "next")).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("Should hold messages back once the channel bucket is empty")
+    void shouldThrottleChannel() {
+        dispatcher = createDispatcher(SlackDispatchProperties.builder()
+                .channelPermitsPerSecond(10)
+                .channelBurst(1));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            dispatcher.execute(METHOD, "C1", null, () -> "ok");
+        }
+
+        // One message from the burst, then one every 100ms
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(250);
+    }
+
+    @Test
+    @DisplayName("Should withdraw a message whose caller timed out so it is never sent")
+    void shouldWithdrawTimedOutMessage() {
+        dispatcher = createDispatcher(SlackDispatchProperties.builder()
+                .channelPermitsPerSecond(2)
+                .channelBurst(1));
+        AtomicInteger withdrawnCalls = new AtomicInteger();
+        dispatcher.execute(METHOD, "C1", null, () -> "first");
+
+        // The channel bucket is empty for the next 500ms, so this wait runs out first
+        assertThatThrownBy(() -> dispatcher.execute(METHOD, "C1", null, () -> {
+            withdrawnCalls.incrementAndGet();
+            return "withdrawn";
+        }, Duration.ofMillis(50)))
+                .hasMessageContaining("withdrawn and will not be sent");
+
+        assertThat(dispatcher.execute(METHOD, "C1", null, () -> "next")).isEqualTo("next");
+        assertThat(withdrawnCalls).hasValue(0);
+        assertThat(messages("withdrawn")).isEqualTo(1);
+        assertThat(messages("sent")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not withdraw a message that is already being sent")
+    void shouldNotWithdrawMessageInFlight() {
+        dispatcher = createDispatcher(SlackDispatchProperties.builder());
+        CompletableFuture<Void> release = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> dispatcher.execute(METHOD, "C1", null, () -> {
+            calls.incrementAndGet();
+            release.join();
+            return "slow";
+        }, Duration.ofMillis(200)))
+                .hasMessageContaining("already being sent");
+        release.complete(null);
+
+        assertThat(dispatcher.execute(METHOD, "C1", null, () -> "next")).isEqualTo("next");
+        assertThat(calls).hasValue(1);
+        assertThat(messages("withdrawn")).isZero();
+        assertThat(messages("sent")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep jittered backoff between half and all of the capped delay")
+    void shouldJitterAndCapBackoff() {
+        dispatcher = createDispatcher(SlackDispatchProperties.builder());
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(dispatcher.backoff(1)).isBetween(Duration.ofMillis(5), Duration.ofMillis(10));
+            assertThat(dispatcher.backoff(10)).isBetween(Duration.ofMillis(25), Duration.ofMillis(50));
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package one.june.leave_management.adapter.outbound.sync;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import one.june.leave_management.application.leave.service.LeaveSyncTarget;
+import one.june.leave_management.config.FanOutSyncProperties;
+import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.SourceType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link FanOutOutboundSyncService}
+ */
+@DisplayName("FanOutOutboundSyncService Unit Tests")
+class FanOutOutboundSyncServiceTest {
+
+    private final Leave leave = Leave.builder().id(UUID.randomUUID()).userId("user-1").build();
+    private final Set<SourceType> synced = ConcurrentHashMap.newKeySet();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FanOutOutboundSyncService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.destroy();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        MDC.clear();
+    }
+
+    /**
+     * Target that records its call after the given delay, or fails when the delay is negative
+     */
+    private LeaveSyncTarget target(SourceType sourceType, long delayMillis, CountDownLatch done) {
+        return new LeaveSyncTarget() {
+            @Override
+            public SourceType getSourceType() {
+                return sourceType;
+            }
+
+            @Override
+            public void sync(Leave leave, SourceType originatingSource) {
+                try {
+                    if (delayMillis < 0) {
+                        throw new IllegalStateException(sourceType + " is down");
+                    }
+                    Thread.sleep(delayMillis);
+                    synced.add(sourceType);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }
+        };
+    }
+
+    /**
+     * Target that blocks every call until the latch is released
+     */
+    private LeaveSyncTarget blockingTarget(CountDownLatch entered, CountDownLatch release, CountDownLatch done) {
+        return new LeaveSyncTarget() {
+            @Override
+            public SourceType getSourceType() {
+                return SourceType.CALENDAR;
+            }
+
+            @Override
+            public void sync(Leave leave, SourceType originatingSource) {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            }
+        };
+    }
+
+    private FanOutOutboundSyncService createService(Duration timeout, int maxConcurrentPerTarget,
+                                                    int queueCapacityPerTarget, LeaveSyncTarget... targets) {
+        return new FanOutOutboundSyncService(List.of(targets), FanOutSyncProperties.builder()
+                .timeout(timeout)
+                .maxConcurrentPerTarget(maxConcurrentPerTarget)
+                .queueCapacityPerTarget(queueCapacityPerTarget)
+                .build(), meterRegistry);
+    }
+
+    private double failures(SourceType target) {
+        return meterRegistry.get("outbound.sync.fan-out.failed").tag("target", target.name()).counter().count();
+    }
+
+    /**
+     * Failures are counted after the sync completes, so give the completion callback a moment to run
+     */
+    private void awaitFailures(SourceType target, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (failures(target) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("Should sync targets concurrently without blocking the caller and skip the originating source")
+    void shouldSyncConcurrentlySkippingOrigin() throws Exception {
+        CountDownLatch done = new CountDownLatch(2);
+        service = createService(Duration.ofSeconds(5), 10, 10,
+                target(SourceType.SLACK, 300, done), target(SourceType.CALENDAR, 300, done),
+                target(SourceType.KIMAI, 300, done));
+
+        long start = System.nanoTime();
+        service.sync(leave, SourceType.SLACK);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(100);
+
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(550);
+        assertThat(synced).containsExactlyInAnyOrder(SourceType.CALENDAR, SourceType.KIMAI);
+    }
+
+    @Test
+    @DisplayName("Should report failing and slow targets without affecting the others")
+    void shouldIsolateFailuresAndTimeouts() throws Exception {
+        CountDownLatch done = new CountDownLatch(3);
+        service = createService(Duration.ofMillis(100), 10, 10,
+                target(SourceType.SLACK, -1, done), target(SourceType.CALENDAR, 1000, done),
+                target(SourceType.KIMAI, 0, done));
+
+        service.sync(leave, SourceType.WEB);
+
+        awaitFailures(SourceType.CALENDAR, 1);
+        assertThat(failures(SourceType.SLACK)).isEqualTo(1);
+        assertThat(failures(SourceType.CALENDAR)).isEqualTo(1);
+        assertThat(failures(SourceType.KIMAI)).isZero();
+        assertThat(synced).containsExactly(SourceType.KIMAI);
+    }
+
+    @Test
+    @DisplayName("Should queue syncs to a saturated target and report those arriving at a full queue")
+    void shouldQueueWhenTargetSaturated() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        service = createService(Duration.ofSeconds(5), 1, 1, blockingTarget(entered, release, done));
+
+        service.sync(leave, SourceType.WEB);
+        assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+        // Waits in the queue for the only thread
+        service.sync(leave, SourceType.WEB);
+        // Finds the queue full
+        service.sync(leave, SourceType.WEB);
+
+        assertThat(failures(SourceType.CALENDAR)).isEqualTo(1);
+        release.countDown();
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(failures(SourceType.CALENDAR)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should interrupt a hung sync at the timeout and give its thread to the next one")
+    void shouldInterruptHungSyncAndReleaseItsThread() throws Exception {
+        CountDownLatch entered = new CountDownLatch(2);
+        CountDownLatch interrupted = new CountDownLatch(2);
+        service = createService(Duration.ofMillis(100), 1, 10, new LeaveSyncTarget() {
+            @Override
+            public SourceType getSourceType() {
+                return SourceType.CALENDAR;
+            }
+
+            @Override
+            public void sync(Leave leave, SourceType originatingSource) {
+                entered.countDown();
+                try {
+                    // Hangs until interrupted
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+            }
+        });
+
+        service.sync(leave, SourceType.WEB);
+        // Waits in the queue for the only thread, which the first sync holds until it is interrupted
+        service.sync(leave, SourceType.WEB);
+
+        assertThat(entered.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+        awaitFailures(SourceType.CALENDAR, 2);
+        assertThat(failures(SourceType.CALENDAR)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should sync only after the caller's transaction commits")
+    void shouldDeferSyncUntilCommit() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        service = createService(Duration.ofSeconds(5), 10, 10, target(SourceType.KIMAI, 0, done));
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.sync(leave, SourceType.WEB);
+        assertThat(done.await(100, TimeUnit.MILLISECONDS)).isFalse();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(synced).containsExactly(SourceType.KIMAI);
+    }
+
+    @Test
+    @DisplayName("Should not sync when the caller's transaction rolls back")
+    void shouldNotSyncOnRollback() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        service = createService(Duration.ofSeconds(5), 10, 10, target(SourceType.KIMAI, 0, done));
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.sync(leave, SourceType.WEB);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(done.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(synced).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should run syncs with the caller's MDC")
+    void shouldPropagateMdc() throws Exception {
+        Map<SourceType, String> requestIds = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(1);
+        service = createService(Duration.ofSeconds(5), 10, 10, new LeaveSyncTarget() {
+            @Override
+            public SourceType getSourceType() {
+                return SourceType.KIMAI;
+            }
+
+            @Override
+            public void sync(Leave leave, SourceType originatingSource) {
+                requestIds.put(SourceType.KIMAI, String.valueOf(MDC.get("requestId")));
+                done.countDown();
+            }
+        });
+
+        MDC.put("requestId", "request-42");
+        service.sync(leave, SourceType.WEB);
+
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(requestIds).containsEntry(SourceType.KIMAI, "request-42");
+    }
+
+    @Test
+    @DisplayName("Should let queued syncs finish on shutdown")
+    void shouldDrainQueueOnShutdown() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        service = createService(Duration.ofSeconds(5), 1, 10, blockingTarget(entered, release, done));
+
+        service.sync(leave, SourceType.WEB);
+        service.sync(leave, SourceType.WEB);
+        assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+
+        service.destroy();
+        service = null;
+
+        assertThat(done.getCount()).isZero();
+    }
+}
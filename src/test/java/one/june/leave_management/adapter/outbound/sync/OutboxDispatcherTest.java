@@ -0,0 +1,137 @@
+package one.june.leave_management.adapter.outbound.sync;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import one.june.leave_management.adapter.persistence.jdbc.OutboxEventJdbcRepository;
+import one.june.leave_management.adapter.persistence.jdbc.OutboxEventJdbcRepository.ClaimedEvent;
+import one.june.leave_management.application.leave.service.LeaveSyncTarget;
+import one.june.leave_management.config.OutboxProperties;
+import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.SourceType;
+import one.june.leave_management.domain.leave.port.LeaveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link OutboxDispatcher}
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxDispatcher Unit Tests")
+class OutboxDispatcherTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-15T10:00:00Z");
+
+    @Mock
+    private OutboxEventJdbcRepository outboxEventJdbcRepository;
+
+    @Mock
+    private LeaveRepository leaveRepository;
+
+    @Mock
+    private LeaveSyncTarget calendarTarget;
+
+    private final OutboxProperties properties = OutboxProperties.builder()
+            .batchSize(10)
+            .maxAttempts(3)
+            .initialBackoff(Duration.ofSeconds(1))
+            .maxBackoff(Duration.ofSeconds(30))
+            .build();
+
+    private OutboxDispatcher dispatcher;
+    private Leave leave;
+
+    @BeforeEach
+    void setUp() {
+        when(calendarTarget.getSourceType()).thenReturn(SourceType.CALENDAR);
+        dispatcher = new OutboxDispatcher(outboxEventJdbcRepository, leaveRepository, List.of(calendarTarget),
+                properties, new SimpleMeterRegistry(), Clock.fixed(NOW, ZoneOffset.UTC));
+        leave = Leave.builder().id(UUID.randomUUID()).userId("user-1").build();
+    }
+
+    private ClaimedEvent claim(int attempts) {
+        ClaimedEvent event = new ClaimedEvent(UUID.randomUUID(), leave.getId(),
+                SourceType.CALENDAR, SourceType.SLACK, attempts);
+        when(outboxEventJdbcRepository.claimDue(NOW, NOW.plus(properties.getLease()), 10))
+                .thenReturn(List.of(event));
+        return event;
+    }
+
+    @Test
+    @DisplayName("Should sync the current leave and delete the row")
+    void shouldDispatchAndDelete() {
+        ClaimedEvent event = claim(1);
+        when(leaveRepository.findById(leave.getId())).thenReturn(Optional.of(leave));
+
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(1);
+
+        verify(calendarTarget).sync(leave, SourceType.SLACK);
+        verify(outboxEventJdbcRepository).delete(event.id());
+    }
+
+    @Test
+    @DisplayName("Should reschedule a failed row with exponential backoff")
+    void shouldRescheduleFailure() {
+        ClaimedEvent event = claim(2);
+        when(leaveRepository.findById(leave.getId())).thenReturn(Optional.of(leave));
+        doThrow(new IllegalStateException("calendar down")).when(calendarTarget).sync(any(), any());
+
+        dispatcher.dispatchBatch();
+
+        verify(outboxEventJdbcRepository).reschedule(event.id(), NOW.plusSeconds(2), "calendar down");
+        verify(outboxEventJdbcRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Should dead-letter a row after its last attempt")
+    void shouldDeadLetterAfterMaxAttempts() {
+        ClaimedEvent event = claim(3);
+        when(leaveRepository.findById(leave.getId())).thenReturn(Optional.of(leave));
+        doThrow(new IllegalStateException("calendar down")).when(calendarTarget).sync(any(), any());
+
+        dispatcher.dispatchBatch();
+
+        verify(outboxEventJdbcRepository).deadLetter(event.id(), "calendar down");
+        verify(outboxEventJdbcRepository, never()).reschedule(any(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should drop rows of leaves that no longer exist")
+    void shouldDropRowOfMissingLeave() {
+        ClaimedEvent event = claim(1);
+        when(leaveRepository.findById(leave.getId())).thenReturn(Optional.empty());
+
+        dispatcher.dispatchBatch();
+
+        verify(outboxEventJdbcRepository).delete(eq(event.id()));
+        verify(calendarTarget, never()).sync(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should cap the backoff at the configured maximum")
+    void shouldCapBackoff() {
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(dispatcher.backoff(3)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(dispatcher.backoff(10)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(dispatcher.backoff(100)).isEqualTo(Duration.ofSeconds(30));
+    }
+}
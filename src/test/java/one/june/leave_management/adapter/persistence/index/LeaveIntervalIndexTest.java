@@ -0,0 +1,154 @@
+package one.june.leave_management.adapter.persistence.index;
+
+import one.june.leave_management.common.model.DateRange;
+import one.june.leave_management.config.LeaveOverlapIndexProperties;
+import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.LeaveStatus;
+import one.june.leave_management.domain.leave.model.LeaveType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link LeaveIntervalIndex}
+ */
+@DisplayName("LeaveIntervalIndex Unit Tests")
+class LeaveIntervalIndexTest {
+
+    private static final String USER_ID = "user-1";
+
+    private LeaveIntervalIndex index;
+    private List<Leave> storedLeaves;
+    private AtomicInteger loads;
+    private Function<String, List<Leave>> loader;
+
+    @BeforeEach
+    void setUp() {
+        index = new LeaveIntervalIndex(LeaveOverlapIndexProperties.builder().enabled(true).build());
+        storedLeaves = new ArrayList<>();
+        loads = new AtomicInteger();
+        loader = userId -> {
+            loads.incrementAndGet();
+            return storedLeaves.stream().filter(leave -> leave.getUserId().equals(userId)).toList();
+        };
+    }
+
+    private Leave leave(String userId, String start, String end) {
+        return Leave.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .dateRange(range(start, end))
+                .type(LeaveType.ANNUAL_LEAVE)
+                .status(LeaveStatus.APPROVED)
+                .build();
+    }
+
+    private DateRange range(String start, String end) {
+        return DateRange.builder()
+                .startDate(LocalDate.parse(start))
+                .endDate(LocalDate.parse(end))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should find overlapping leaves and ignore adjacent ones")
+    void shouldFindOverlappingLeaves() {
+        Leave january = leave(USER_ID, "2024-01-10", "2024-01-12");
+        Leave march = leave(USER_ID, "2024-03-01", "2024-03-05");
+        Leave may = leave(USER_ID, "2024-05-20", "2024-05-20");
+        storedLeaves.addAll(List.of(may, january, march));
+
+        assertThat(index.findOverlapping(USER_ID, range("2024-01-12", "2024-03-01"), null, loader))
+                .containsExactly(january, march);
+        assertThat(index.findOverlapping(USER_ID, range("2024-01-13", "2024-02-28"), null, loader))
+                .isEmpty();
+        assertThat(index.findOverlapping(USER_ID, range("2024-05-20", "2024-05-20"), may.getId(), loader))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should find a long leave that starts well before the queried range")
+    void shouldFindLongLeaveStartingEarlier() {
+        Leave longLeave = leave(USER_ID, "2024-01-01", "2024-06-30");
+        Leave shortLeave = leave(USER_ID, "2024-02-01", "2024-02-02");
+        storedLeaves.addAll(List.of(longLeave, shortLeave));
+
+        assertThat(index.findOverlapping(USER_ID, range("2024-04-10", "2024-04-11"), null, loader))
+                .containsExactly(longLeave);
+    }
+
+    @Test
+    @DisplayName("Should load each user only once")
+    void shouldWarmLazilyPerUser() {
+        storedLeaves.add(leave(USER_ID, "2024-01-10", "2024-01-12"));
+        storedLeaves.add(leave("user-2", "2024-01-10", "2024-01-12"));
+
+        index.findOverlapping(USER_ID, range("2024-01-01", "2024-12-31"), null, loader);
+        index.findOverlapping(USER_ID, range("2024-02-01", "2024-02-28"), null, loader);
+        assertThat(loads.get()).isEqualTo(1);
+
+        index.findOverlapping("user-2", range("2024-01-01", "2024-12-31"), null, loader);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should apply saves and deletes to loaded users")
+    void shouldStayCoherentOnSaveAndDelete() {
+        Leave january = leave(USER_ID, "2024-01-10", "2024-01-12");
+        storedLeaves.add(january);
+        index.findOverlapping(USER_ID, range("2024-01-01", "2024-12-31"), null, loader);
+
+        Leave moved = january.toBuilder().dateRange(range("2024-08-01", "2024-08-02")).build();
+        index.onSaved(moved, USER_ID);
+        assertThat(index.findOverlapping(USER_ID, range("2024-01-10", "2024-01-10"), null, loader)).isEmpty();
+        assertThat(index.findOverlapping(USER_ID, range("2024-08-02", "2024-08-03"), null, loader))
+                .extracting(Leave::getId).containsExactly(january.getId());
+
+        Leave created = leave(USER_ID, "2024-09-01", "2024-09-01");
+        index.onSaved(created, null);
+        assertThat(index.findOverlapping(USER_ID, range("2024-09-01", "2024-09-01"), null, loader))
+                .containsExactly(created);
+
+        index.onDeleted(USER_ID, created.getId());
+        assertThat(index.findOverlapping(USER_ID, range("2024-09-01", "2024-09-01"), null, loader)).isEmpty();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should move a leave between users when its user changes")
+    void shouldMoveLeaveBetweenUsers() {
+        Leave january = leave(USER_ID, "2024-01-10", "2024-01-12");
+        storedLeaves.add(january);
+        index.findOverlapping(USER_ID, range("2024-01-01", "2024-12-31"), null, loader);
+        index.findOverlapping("user-2", range("2024-01-01", "2024-12-31"), null, loader);
+
+        index.onSaved(january.toBuilder().userId("user-2").build(), USER_ID);
+
+        assertThat(index.findOverlapping(USER_ID, range("2024-01-10", "2024-01-12"), null, loader)).isEmpty();
+        assertThat(index.findOverlapping("user-2", range("2024-01-10", "2024-01-12"), null, loader))
+                .extracting(Leave::getId).containsExactly(january.getId());
+    }
+
+    @Test
+    @DisplayName("Should ignore cancelled leaves, also once a leave is cancelled")
+    void shouldIgnoreCancelledLeaves() {
+        Leave cancelled = leave(USER_ID, "2024-01-10", "2024-01-12").toBuilder().status(LeaveStatus.CANCELLED).build();
+        Leave march = leave(USER_ID, "2024-03-01", "2024-03-05");
+        storedLeaves.addAll(List.of(cancelled, march));
+
+        assertThat(index.findOverlapping(USER_ID, range("2024-01-01", "2024-12-31"), null, loader))
+                .containsExactly(march);
+
+        index.onSaved(march.toBuilder().status(LeaveStatus.CANCELLED).build(), USER_ID);
+        assertThat(index.findOverlapping(USER_ID, range("2024-01-01", "2024-12-31"), null, loader)).isEmpty();
+    }
+}
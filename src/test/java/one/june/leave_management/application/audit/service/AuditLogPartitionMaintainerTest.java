@@ -0,0 +1,100 @@
+package one.june.leave_management.application.audit.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import one.june.leave_management.adapter.persistence.jdbc.AdvisoryLockJdbcRepository;
+import one.june.leave_management.adapter.persistence.jdbc.AuditLogPartitionJdbcRepository;
+import one.june.leave_management.config.AuditPartitionProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link AuditLogPartitionMaintainer}
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditLogPartitionMaintainer Unit Tests")
+class AuditLogPartitionMaintainerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-15T10:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private AuditLogPartitionJdbcRepository partitionRepository;
+
+    @Mock
+    private AdvisoryLockJdbcRepository advisoryLockJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AuditLogPartitionMaintainer maintainer(AuditPartitionProperties.RetentionAction retentionAction) {
+        AuditPartitionProperties properties = AuditPartitionProperties.builder()
+                .monthsAhead(2)
+                .retentionMonths(12)
+                .retentionAction(retentionAction)
+                .build();
+        return new AuditLogPartitionMaintainer(partitionRepository, advisoryLockJdbcRepository, transactionManager,
+                properties, meterRegistry, CLOCK);
+    }
+
+    private double count(String action) {
+        return meterRegistry.get("audit.partition.maintenance").tag("action", action).counter().count();
+    }
+
+    @Test
+    @DisplayName("Should create missing partitions ahead and detach partitions past the retention")
+    void shouldCreateAheadAndDetachExpired() {
+        when(partitionRepository.findMonthlyPartitions()).thenReturn(List.of(
+                YearMonth.of(2025, 8), YearMonth.of(2025, 9), YearMonth.of(2025, 10),
+                YearMonth.of(2026, 10), YearMonth.of(2026, 11)));
+
+        maintainer(AuditPartitionProperties.RetentionAction.DETACH).maintainPartitions();
+
+        verify(partitionRepository).createMonthlyPartition(YearMonth.of(2026, 12));
+        verify(partitionRepository, never()).createMonthlyPartition(YearMonth.of(2026, 10));
+        verify(partitionRepository, never()).createMonthlyPartition(YearMonth.of(2027, 1));
+        verify(partitionRepository).detachMonthlyPartition(YearMonth.of(2025, 8));
+        verify(partitionRepository).detachMonthlyPartition(YearMonth.of(2025, 9));
+        verify(partitionRepository, never()).detachMonthlyPartition(YearMonth.of(2025, 10));
+        verify(partitionRepository, never()).dropMonthlyPartition(any());
+        verify(advisoryLockJdbcRepository, times(3)).lockForTransaction(any());
+        assertThat(count("created")).isEqualTo(1);
+        assertThat(count("detached")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should drop expired partitions and keep going after a failed change")
+    void shouldDropExpiredAndContinueAfterFailure() {
+        when(partitionRepository.findMonthlyPartitions()).thenReturn(List.of(YearMonth.of(2024, 1)));
+        doThrow(new IllegalStateException("default partition holds rows"))
+                .when(partitionRepository).createMonthlyPartition(YearMonth.of(2026, 10));
+
+        maintainer(AuditPartitionProperties.RetentionAction.DROP).maintainPartitions();
+
+        verify(partitionRepository).createMonthlyPartition(YearMonth.of(2026, 11));
+        verify(partitionRepository).createMonthlyPartition(YearMonth.of(2026, 12));
+        verify(partitionRepository).dropMonthlyPartition(YearMonth.of(2024, 1));
+        verify(partitionRepository, never()).detachMonthlyPartition(any());
+        assertThat(count("created")).isEqualTo(2);
+        assertThat(count("dropped")).isEqualTo(1);
+        assertThat(count("failed")).isEqualTo(1);
+    }
+}
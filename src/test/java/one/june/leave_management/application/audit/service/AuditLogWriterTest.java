@@ -0,0 +1,198 @@
+package one.june.leave_management.application.audit.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import one.june.leave_management.adapter.persistence.jdbc.AuditLogJdbcRepository;
+import one.june.leave_management.adapter.persistence.jpa.entity.AuditLogJpaEntity;
+import one.june.leave_management.config.AuditPayloadProperties;
+import one.june.leave_management.config.AuditWriterProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link AuditLogWriter}
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditLogWriter Unit Tests")
+class AuditLogWriterTest {
+
+    @Mock
+    private AuditLogJdbcRepository auditLogJdbcRepository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuditLogConverter auditLogConverter = new AuditLogConverter(new AuditPayloadPolicy(
+            AuditPayloadProperties.builder()
+                    .compression(AuditPayloadProperties.Compression.GZIP)
+                    .compressionMinBytes(64)
+                    .build(),
+            meterRegistry));
+    private AuditLogWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null && writer.isRunning()) {
+            writer.stop();
+        }
+    }
+
+    private AuditLogWriter createWriter(AuditWriterProperties properties) {
+        return new AuditLogWriter(auditLogJdbcRepository, auditLogConverter, properties, meterRegistry);
+    }
+
+    private AuditLogJpaEntity auditLog(String requestId) {
+        return AuditLogJpaEntity.builder()
+                .requestId(requestId)
+                .endpoint("/api/leaves")
+                .httpMethod("GET")
+                .responseStatus(200)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<AuditLogJpaEntity>> batchCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    @Test
+    @DisplayName("Should write queued entries in batches no larger than the flush size")
+    void shouldWriteQueuedEntriesInBatches() {
+        writer = createWriter(AuditWriterProperties.builder()
+                .flushSize(2)
+                .flushInterval(Duration.ofSeconds(5))
+                .build());
+        writer.start();
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(writer.submit(auditLog("req-" + i))).isTrue();
+        }
+
+        ArgumentCaptor<List<AuditLogJpaEntity>> captor = batchCaptor();
+        verify(auditLogJdbcRepository, timeout(2000).times(2)).insertAll(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSize(2));
+        assertThat(meterRegistry.counter("audit.writer.written").count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should flush a partial batch once the flush interval passes")
+    void shouldFlushPartialBatchAfterInterval() {
+        writer = createWriter(AuditWriterProperties.builder()
+                .flushSize(100)
+                .flushInterval(Duration.ofMillis(50))
+                .build());
+        writer.start();
+
+        writer.submit(auditLog("req-1"));
+
+        ArgumentCaptor<List<AuditLogJpaEntity>> captor = batchCaptor();
+        verify(auditLogJdbcRepository, timeout(2000)).insertAll(captor.capture());
+        assertThat(captor.getValue()).extracting(AuditLogJpaEntity::getRequestId).containsExactly("req-1");
+    }
+
+    @Test
+    @DisplayName("Should compress bodies on the writer thread before inserting them")
+    void shouldCompressBodiesBeforeInsert() {
+        writer = createWriter(AuditWriterProperties.builder()
+                .flushSize(1)
+                .flushInterval(Duration.ofMillis(50))
+                .build());
+        writer.start();
+        String large = "{\"userId\":\"U12345\"}".repeat(10);
+        AuditLogJpaEntity entry = auditLog("req-1");
+        entry.setRequestBody(large);
+        entry.setResponseBody("{}");
+
+        writer.submit(entry);
+
+        ArgumentCaptor<List<AuditLogJpaEntity>> captor = batchCaptor();
+        verify(auditLogJdbcRepository, timeout(2000)).insertAll(captor.capture());
+        AuditLogJpaEntity written = captor.getValue().get(0);
+        assertThat(written.getRequestBody()).isNull();
+        assertThat(written.getRequestBodyGzip()).isNotEmpty();
+        assertThat(written.getResponseBody()).isEqualTo("{}");
+        assertThat(written.getResponseBodyGzip()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should drop entries and count them when the queue is full")
+    void shouldDropEntriesWhenQueueIsFull() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(auditLogJdbcRepository).insertAll(anyList());
+
+        writer = createWriter(AuditWriterProperties.builder()
+                .queueCapacity(1)
+                .flushSize(1)
+                .flushInterval(Duration.ofMillis(10))
+                .overflowPolicy(AuditWriterProperties.OverflowPolicy.DROP)
+                .build());
+        writer.start();
+
+        // The first entry occupies the writer, the second fills the queue
+        writer.submit(auditLog("req-1"));
+        assertThat(writing.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(writer.submit(auditLog("req-2"))).isTrue();
+        assertThat(writer.submit(auditLog("req-3"))).isFalse();
+
+        assertThat(meterRegistry.counter("audit.writer.dropped").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("audit.writer.queue.depth").gauge().value()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should drain the queue on stop")
+    void shouldDrainQueueOnStop() {
+        writer = createWriter(AuditWriterProperties.builder()
+                .flushSize(1000)
+                .flushInterval(Duration.ofSeconds(10))
+                .build());
+        writer.start();
+
+        for (int i = 0; i < 10; i++) {
+            writer.submit(auditLog("req-" + i));
+        }
+        writer.stop();
+
+        ArgumentCaptor<List<AuditLogJpaEntity>> captor = batchCaptor();
+        verify(auditLogJdbcRepository, atLeastOnce()).insertAll(captor.capture());
+        assertThat(captor.getAllValues().stream().mapToInt(List::size).sum()).isEqualTo(10);
+        assertThat(writer.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should count failed batches without throwing")
+    void shouldCountFailedBatches() {
+        doThrow(new RuntimeException("database down")).when(auditLogJdbcRepository).insertAll(anyList());
+        writer = createWriter(AuditWriterProperties.builder()
+                .flushInterval(Duration.ofMillis(10))
+                .build());
+        writer.start();
+
+        writer.submit(auditLog("req-1"));
+
+        verify(auditLogJdbcRepository, timeout(2000)).insertAll(anyList());
+        writer.stop();
+        assertThat(meterRegistry.counter("audit.writer.failed").count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,83 @@
+package one.june.leave_management.application.audit.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import one.june.leave_management.config.AuditPayloadProperties;
+import one.june.leave_management.domain.audit.model.AuditLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static one.june.leave_management.test.util.GzipTestUtils.gunzip;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AuditPayloadPolicy}
+ */
+@DisplayName("AuditPayloadPolicy Unit Tests")
+class AuditPayloadPolicyTest {
+
+    private static AuditPayloadPolicy policy(AuditPayloadProperties properties) {
+        return new AuditPayloadPolicy(properties, new SimpleMeterRegistry());
+    }
+
+    private static AuditPayloadPolicy.StoredBody store(AuditPayloadPolicy policy, String endpoint, String body) {
+        AuditPayloadPolicy.CappedOutputStream out = policy.newBodyStream(endpoint);
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        out.write(bytes, 0, bytes.length);
+        return policy.store(out);
+    }
+
+    @Test
+    @DisplayName("Should truncate on a character boundary using the longest matching endpoint limit")
+    void shouldTruncateWithEndpointLimit() {
+        AuditPayloadPolicy policy = policy(AuditPayloadProperties.builder()
+                .maxBodyBytes(100)
+                .endpointMaxBodyBytes(Map.of("/api", 50, "/api/leaves", 5))
+                .compression(AuditPayloadProperties.Compression.NONE)
+                .build());
+
+        // U+00E9 is two bytes in UTF-8, so the cap of 5 bytes falls inside the third one
+        AuditPayloadPolicy.StoredBody body = store(policy, "/api/leaves", "\u00e9".repeat(5));
+
+        assertThat(body.text()).isEqualTo("\u00e9\u00e9...[truncated, 10 bytes in total]");
+        assertThat(body.gzip()).isNull();
+        assertThat(store(policy, "/integrations/slack", "short").text()).isEqualTo("short");
+    }
+
+    @Test
+    @DisplayName("Should gzip bodies above the compression threshold")
+    void shouldGzipLargeBodies() {
+        AuditPayloadPolicy policy = policy(AuditPayloadProperties.builder()
+                .maxBodyBytes(0)
+                .compression(AuditPayloadProperties.Compression.GZIP)
+                .compressionMinBytes(64)
+                .build());
+        String large = "{\"userId\":\"U12345\"}".repeat(100);
+
+        AuditPayloadPolicy.StoredBody compressed = store(policy, "/api/leaves", large);
+        AuditPayloadPolicy.StoredBody small = store(policy, "/api/leaves", "{}");
+
+        assertThat(compressed.text()).isNull();
+        assertThat(compressed.gzip().length).isLessThan(large.length() / 10);
+        assertThat(gunzip(compressed.gzip())).isEqualTo(large);
+        assertThat(small.text()).isEqualTo("{}");
+        assertThat(small.gzip()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should sample only successful read responses")
+    void shouldSampleOnlySuccessfulReads() {
+        AuditPayloadPolicy policy = policy(AuditPayloadProperties.builder().readResponseSampleRate(0.0).build());
+
+        assertThat(policy.isResponseSampled(AuditLog.builder().httpMethod("GET").responseStatus(200).build()))
+                .isFalse();
+        assertThat(policy.isResponseSampled(AuditLog.builder().httpMethod("GET").responseStatus(404).build()))
+                .isTrue();
+        assertThat(policy.isResponseSampled(AuditLog.builder().httpMethod("GET").errorMessage("boom").build()))
+                .isTrue();
+        assertThat(policy.isResponseSampled(AuditLog.builder().httpMethod("POST").responseStatus(201).build()))
+                .isTrue();
+    }
+}
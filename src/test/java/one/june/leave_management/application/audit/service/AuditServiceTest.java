@@ -0,0 +1,96 @@
+package one.june.leave_management.application.audit.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import one.june.leave_management.adapter.persistence.jpa.entity.AuditLogJpaEntity;
+import one.june.leave_management.adapter.persistence.jpa.repository.AuditLogJpaRepository;
+import one.june.leave_management.config.AuditPayloadProperties;
+import one.june.leave_management.domain.audit.model.AuditLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static one.june.leave_management.test.util.GzipTestUtils.gunzip;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link AuditService}
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditService Unit Tests")
+class AuditServiceTest {
+
+    @Mock
+    private AuditLogJpaRepository auditLogJpaRepository;
+
+    @Mock
+    private AuditLogWriter auditLogWriter;
+
+    @Mock
+    private ObjectProvider<AuditLogWriter> auditLogWriterProvider;
+
+    private AuditService auditService;
+
+    @BeforeEach
+    void setUp() {
+        AuditPayloadProperties payloadProperties = AuditPayloadProperties.builder()
+                .compression(AuditPayloadProperties.Compression.GZIP)
+                .compressionMinBytes(8)
+                .build();
+        AuditLogConverter converter = new AuditLogConverter(
+                new AuditPayloadPolicy(payloadProperties, new SimpleMeterRegistry()));
+        auditService = new AuditService(auditLogJpaRepository, converter, auditLogWriterProvider);
+    }
+
+    private AuditLog auditLog(Object requestBody) {
+        return AuditLog.builder()
+                .requestId("req-1")
+                .endpoint("/api/leaves")
+                .httpMethod("POST")
+                .requestBody(requestBody)
+                .responseStatus(201)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should hand the writer an entity serialized, but not compressed, on the calling thread")
+    void shouldSubmitSerializedEntityToWriter() {
+        when(auditLogWriterProvider.getIfAvailable()).thenReturn(auditLogWriter);
+        List<String> requestBody = new ArrayList<>(List.of("leave-1"));
+
+        auditService.saveAuditLog(auditLog(requestBody));
+        // Changes after the call must not reach the queued entry
+        requestBody.add("leave-2");
+
+        ArgumentCaptor<AuditLogJpaEntity> captor = ArgumentCaptor.forClass(AuditLogJpaEntity.class);
+        verify(auditLogWriter).submit(captor.capture());
+        assertThat(captor.getValue().getRequestId()).isEqualTo("req-1");
+        assertThat(captor.getValue().getRequestBody()).isEqualTo("[\"leave-1\"]");
+        assertThat(captor.getValue().getRequestBodyGzip()).isNull();
+        verify(auditLogJpaRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should compress and save synchronously when the writer is disabled")
+    void shouldSaveSynchronouslyWithoutWriter() {
+        auditService.saveAuditLog(auditLog(Map.of("userId", "user-1")));
+
+        ArgumentCaptor<AuditLogJpaEntity> captor = ArgumentCaptor.forClass(AuditLogJpaEntity.class);
+        verify(auditLogJpaRepository).save(captor.capture());
+        assertThat(captor.getValue().getRequestBody()).isNull();
+        assertThat(gunzip(captor.getValue().getRequestBodyGzip()))
+                .isEqualTo("{\"userId\":\"user-1\"}");
+    }
+}
@@ -0,0 +1,141 @@
+package one.june.leave_management.application.leave.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import one.june.leave_management.application.leave.command.LeaveIngestionCommand;
+import one.june.leave_management.application.leave.dto.LeaveDto;
+import one.june.leave_management.application.leave.dto.LeaveSourceRefDto;
+import one.june.leave_management.common.model.DateRange;
+import one.june.leave_management.config.LeaveIngestionCacheProperties;
+import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.LeaveSourceRef;
+import one.june.leave_management.domain.leave.model.LeaveStatus;
+import one.june.leave_management.domain.leave.model.LeaveType;
+import one.june.leave_management.domain.leave.model.SourceType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link LeaveIngestionCache}
+ */
+@DisplayName("LeaveIngestionCache Unit Tests")
+class LeaveIngestionCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LeaveIngestionCache createCache(boolean enabled) {
+        return new LeaveIngestionCache(
+                LeaveIngestionCacheProperties.builder().enabled(enabled).build(), meterRegistry);
+    }
+
+    private LeaveIngestionCommand command(SourceType sourceType, String sourceId, LeaveStatus status) {
+        return LeaveIngestionCommand.builder()
+                .sourceType(sourceType)
+                .sourceId(sourceId)
+                .userId("user-1")
+                .dateRange(DateRange.builder()
+                        .startDate(LocalDate.of(2024, 7, 1))
+                        .endDate(LocalDate.of(2024, 7, 5))
+                        .build())
+                .type(LeaveType.ANNUAL_LEAVE)
+                .status(status)
+                .build();
+    }
+
+    private Leave savedLeave(LeaveSourceRef... sourceRefs) {
+        Leave leave = Leave.builder().id(UUID.randomUUID()).userId("user-1").build();
+        for (LeaveSourceRef sourceRef : sourceRefs) {
+            leave.addSourceRef(sourceRef);
+        }
+        return leave;
+    }
+
+    private LeaveSourceRef sourceRef(SourceType sourceType, String sourceId) {
+        return LeaveSourceRef.builder().sourceType(sourceType).sourceId(sourceId).build();
+    }
+
+    @Test
+    @DisplayName("Should return the cached leave for an identical re-ingest only")
+    void shouldShortCircuitIdenticalPayload() {
+        LeaveIngestionCache cache = createCache(true);
+        LeaveIngestionCommand command = command(SourceType.WEB, "web-1", LeaveStatus.APPROVED);
+        LeaveDto dto = LeaveDto.builder().id(UUID.randomUUID()).build();
+
+        assertThat(cache.findUnchanged(command)).isEmpty();
+        cache.onIngested(command, savedLeave(sourceRef(SourceType.WEB, "web-1")), dto);
+
+        assertThat(cache.findUnchanged(command(SourceType.WEB, "web-1", LeaveStatus.APPROVED)))
+                .get().usingRecursiveComparison().isEqualTo(dto);
+        assertThat(cache.findUnchanged(command(SourceType.WEB, "web-1", LeaveStatus.CANCELLED))).isEmpty();
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not share cached leaves with callers")
+    void shouldReturnIndependentCopies() {
+        LeaveIngestionCache cache = createCache(true);
+        LeaveIngestionCommand command = command(SourceType.WEB, "web-1", LeaveStatus.APPROVED);
+        LeaveDto dto = LeaveDto.builder()
+                .id(UUID.randomUUID())
+                .status(LeaveStatus.APPROVED)
+                .dateRange(DateRange.builder()
+                        .startDate(LocalDate.of(2024, 7, 1))
+                        .endDate(LocalDate.of(2024, 7, 5))
+                        .build())
+                .sourceRefs(new ArrayList<>(List.of(LeaveSourceRefDto.builder()
+                        .sourceType(SourceType.WEB)
+                        .sourceId("web-1")
+                        .build())))
+                .build();
+        cache.onIngested(command, savedLeave(sourceRef(SourceType.WEB, "web-1")), dto);
+
+        // Changes to the ingest's own DTO or to a returned hit must not reach the cached entry
+        dto.setStatus(LeaveStatus.CANCELLED);
+        LeaveDto hit = cache.findUnchanged(command).orElseThrow();
+        hit.getDateRange().setEndDate(LocalDate.of(2024, 7, 31));
+        hit.getSourceRefs().clear();
+
+        LeaveDto nextHit = cache.findUnchanged(command).orElseThrow();
+        assertThat(nextHit).isNotSameAs(hit);
+        assertThat(nextHit.getStatus()).isEqualTo(LeaveStatus.APPROVED);
+        assertThat(nextHit.getEndDate()).isEqualTo(LocalDate.of(2024, 7, 5));
+        assertThat(nextHit.getSourceRefs()).extracting(LeaveSourceRefDto::getSourceId).containsExactly("web-1");
+    }
+
+    @Test
+    @DisplayName("Should evict every source reference of a leave when it is written")
+    void shouldEvictAllSourceRefsOfSavedLeave() {
+        LeaveIngestionCache cache = createCache(true);
+        LeaveIngestionCommand webCommand = command(SourceType.WEB, "web-1", LeaveStatus.APPROVED);
+        LeaveIngestionCommand slackCommand = command(SourceType.SLACK, "slack-1", LeaveStatus.APPROVED);
+        Leave leave = savedLeave(sourceRef(SourceType.WEB, "web-1"), sourceRef(SourceType.SLACK, "slack-1"));
+        cache.onIngested(webCommand, leave, LeaveDto.builder().build());
+
+        // Another source updates the same leave
+        cache.onIngested(slackCommand, leave, LeaveDto.builder().build());
+        assertThat(cache.findUnchanged(webCommand)).isEmpty();
+        assertThat(cache.findUnchanged(slackCommand)).isPresent();
+
+        cache.onSaved(leave);
+        assertThat(cache.findUnchanged(slackCommand)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should never short-circuit when disabled")
+    void shouldDoNothingWhenDisabled() {
+        LeaveIngestionCache cache = createCache(false);
+        LeaveIngestionCommand command = command(SourceType.WEB, "web-1", LeaveStatus.APPROVED);
+
+        cache.onIngested(command, savedLeave(sourceRef(SourceType.WEB, "web-1")), LeaveDto.builder().build());
+
+        assertThat(cache.findUnchanged(command)).isEmpty();
+    }
+}
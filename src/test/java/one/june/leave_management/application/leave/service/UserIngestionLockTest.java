@@ -0,0 +1,190 @@
+package one.june.leave_management.application.leave.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import one.june.leave_management.adapter.persistence.jdbc.AdvisoryLockJdbcRepository;
+import one.june.leave_management.config.LeaveIngestionLockProperties;
+import one.june.leave_management.config.LeaveIngestionLockProperties.LockMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for {@link UserIngestionLock}
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserIngestionLock Unit Tests")
+class UserIngestionLockTest {
+
+    @Mock
+    private AdvisoryLockJdbcRepository advisoryLockJdbcRepository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService otherThread = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        otherThread.shutdownNow();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private UserIngestionLock createLock(LockMode mode) {
+        return new UserIngestionLock(LeaveIngestionLockProperties.builder()
+                .mode(mode)
+                .timeout(Duration.ofMillis(100))
+                .build(), advisoryLockJdbcRepository, meterRegistry);
+    }
+
+    private static void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private static void completeTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    /**
+     * Lock the user from another thread in its own transaction, which is completed right away
+     */
+    private Future<?> lockFromOtherThread(UserIngestionLock lock, String userId) {
+        return otherThread.submit(() -> {
+            beginTransaction();
+            try {
+                lock.lock(userId);
+            } finally {
+                completeTransaction();
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Should block the same user until the holding transaction completes")
+    void shouldSerializeSameUser() throws Exception {
+        UserIngestionLock lock = createLock(LockMode.LOCAL);
+
+        beginTransaction();
+        lock.lock("user-1");
+
+        Future<?> blocked = lockFromOtherThread(lock, "user-1");
+        assertThatThrownBy(() -> blocked.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+
+        completeTransaction();
+        lockFromOtherThread(lock, "user-1").get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should not block unrelated users")
+    void shouldNotBlockUnrelatedUsers() throws Exception {
+        UserIngestionLock lock = createLock(LockMode.LOCAL);
+
+        beginTransaction();
+        lock.lock("user-1");
+
+        lockFromOtherThread(lock, "user-2").get(5, TimeUnit.SECONDS);
+        completeTransaction();
+    }
+
+    @Test
+    @DisplayName("Should hold local locks taken before the transaction until the work returns")
+    void shouldHoldLocalLocksAroundTransaction() throws Exception {
+        UserIngestionLock lock = createLock(LockMode.LOCAL);
+
+        lock.callLocked(List.of("user-1"), () -> {
+            beginTransaction();
+            lock.lock("user-1");
+            // Already held by this thread, so nothing is left to release at commit
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+
+            Future<?> blocked = lockFromOtherThread(lock, "user-1");
+            assertThatThrownBy(() -> blocked.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            completeTransaction();
+            return null;
+        });
+
+        lockFromOtherThread(lock, "user-1").get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should release local locks when the work fails")
+    void shouldReleaseLocalLocksWhenWorkFails() throws Exception {
+        UserIngestionLock lock = createLock(LockMode.LOCAL);
+
+        assertThatThrownBy(() -> lock.callLocked(List.of("user-1"), () -> {
+            throw new IllegalArgumentException("rolled back");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        lockFromOtherThread(lock, "user-1").get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should leave advisory locks to the transaction")
+    void shouldNotLockBeforeTransactionInAdvisoryMode() {
+        UserIngestionLock lock = createLock(LockMode.ADVISORY);
+
+        String result = lock.callLocked(List.of("user-1"), () -> "done");
+
+        assertThat(result).isEqualTo("done");
+        verifyNoInteractions(advisoryLockJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("Should require an active transaction")
+    void shouldRequireTransaction() {
+        UserIngestionLock lock = createLock(LockMode.LOCAL);
+
+        assertThatThrownBy(() -> lock.lock("user-1"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should take advisory locks once per user in a fixed order")
+    void shouldTakeAdvisoryLocksInOrder() {
+        UserIngestionLock lock = createLock(LockMode.ADVISORY);
+
+        beginTransaction();
+        lock.lockAll(List.of("user-b", "user-a", "user-b"));
+        completeTransaction();
+
+        InOrder order = inOrder(advisoryLockJdbcRepository);
+        order.verify(advisoryLockJdbcRepository).lockForTransaction("user-a");
+        order.verify(advisoryLockJdbcRepository).lockForTransaction("user-b");
+        order.verifyNoMoreInteractions();
+        assertThat(meterRegistry.get("leave.ingest.lock.wait").tag("mode", "ADVISORY").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when locking is disabled")
+    void shouldSkipLockingWhenDisabled() {
+        UserIngestionLock lock = createLock(LockMode.NONE);
+
+        lock.lock("user-1");
+
+        verifyNoInteractions(advisoryLockJdbcRepository);
+    }
+}
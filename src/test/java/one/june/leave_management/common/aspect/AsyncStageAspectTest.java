@@ -0,0 +1,68 @@
+package one.june.leave_management.common.aspect;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import one.june.leave_management.common.concurrent.SubmissionTimeTaskDecorator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.scheduling.annotation.Async;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link AsyncStageAspect}
+ */
+@DisplayName("AsyncStageAspect Unit Tests")
+class AsyncStageAspectTest {
+
+    static class Stages {
+        @Async
+        public void send() {
+        }
+
+        @Async
+        public void fail() {
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Stages stages;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Stages());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new AsyncStageAspect(meterRegistry));
+        stages = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should record queue time and duration of a decorated task")
+    void shouldRecordQueueTimeAndDuration() throws Exception {
+        Runnable task = new SubmissionTimeTaskDecorator().decorate(stages::send);
+        Thread.sleep(20);
+
+        task.run();
+
+        assertThat(meterRegistry.get("async.stage.queue").tag("stage", "Stages.send").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(20);
+        assertThat(meterRegistry.get("async.stage.duration").tags("stage", "Stages.send", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(SubmissionTimeTaskDecorator.currentTaskSubmittedAtNanos()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should record failed stages and skip queue time outside the executor")
+    void shouldRecordFailuresWithoutQueueTime() {
+        assertThatThrownBy(() -> stages.fail()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get("async.stage.duration").tags("stage", "Stages.fail", "outcome", "error")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("async.stage.queue").timer()).isNull();
+    }
+}
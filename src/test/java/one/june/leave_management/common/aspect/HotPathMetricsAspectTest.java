@@ -0,0 +1,71 @@
+package one.june.leave_management.common.aspect;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import one.june.leave_management.common.exception.OverlappingLeaveException;
+import one.june.leave_management.common.model.DateRange;
+import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.LeaveStatus;
+import one.june.leave_management.domain.leave.model.LeaveType;
+import one.june.leave_management.domain.leave.port.LeaveRepository;
+import one.june.leave_management.domain.leave.service.LeaveDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link HotPathMetricsAspect}
+ */
+@DisplayName("HotPathMetricsAspect Unit Tests")
+class HotPathMetricsAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LeaveDomainService leaveDomainService;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new LeaveDomainService(mock(LeaveRepository.class)));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new HotPathMetricsAspect(meterRegistry));
+        leaveDomainService = factory.getProxy();
+    }
+
+    private static Leave leave(UUID id, LocalDate start, LocalDate end) {
+        return Leave.builder()
+                .id(id)
+                .userId("U12345")
+                .dateRange(new DateRange(start, end))
+                .type(LeaveType.ANNUAL_LEAVE)
+                .status(LeaveStatus.REQUESTED)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should time calls per outcome")
+    void shouldTimeCallsPerOutcome() {
+        Leave existing = leave(UUID.randomUUID(), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 5));
+
+        leaveDomainService.validateNoOverlappingLeaves(
+                leave(null, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 2)), List.of(existing));
+        assertThatThrownBy(() -> leaveDomainService.validateNoOverlappingLeaves(
+                leave(null, LocalDate.of(2025, 1, 3), LocalDate.of(2025, 1, 4)), List.of(existing)))
+                .isInstanceOf(OverlappingLeaveException.class);
+        assertThatThrownBy(() -> leaveDomainService.validateNoOverlappingLeaves(null, List.of(existing)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(meterRegistry.get("leave.overlap.validation").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("leave.overlap.validation").tag("outcome", "overlap").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("leave.overlap.validation").tag("outcome", "invalid").timer().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,95 @@
+package one.june.leave_management.common.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link BulkheadTaskDecorator} and {@link MdcTaskDecorator} on virtual threads
+ */
+@DisplayName("BulkheadTaskDecorator Unit Tests")
+class BulkheadTaskDecoratorTest {
+
+    private final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("bulkhead-test-");
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Should never run more tasks at once than there are permits")
+    void shouldCapConcurrentTasks() throws Exception {
+        BulkheadTaskDecorator bulkhead = new BulkheadTaskDecorator(2);
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(bulkhead);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(10);
+
+        for (int i = 0; i < 10; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                    done.countDown();
+                }
+            });
+        }
+
+        Thread.sleep(100);
+        assertThat(running.get()).isEqualTo(2);
+        assertThat(bulkhead.availablePermits()).isZero();
+
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should carry the caller's MDC to the task and clear it afterwards")
+    void shouldPropagateMdc() throws Exception {
+        MdcTaskDecorator mdcTaskDecorator = new MdcTaskDecorator();
+        AtomicReference<String> requestId = new AtomicReference<>();
+        AtomicReference<String> afterTask = new AtomicReference<>("unset");
+        CountDownLatch done = new CountDownLatch(1);
+
+        MDC.put("requestId", "req-123");
+        Runnable task = mdcTaskDecorator.decorate(() -> requestId.set(MDC.get("requestId")));
+        MDC.clear();
+
+        Thread.ofVirtual().start(() -> {
+            task.run();
+            afterTask.set(MDC.get("requestId"));
+            done.countDown();
+        });
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(requestId.get()).isEqualTo("req-123");
+        assertThat(afterTask.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a bulkhead without permits")
+    void shouldRejectInvalidLimit() {
+        assertThatThrownBy(() -> new BulkheadTaskDecorator(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
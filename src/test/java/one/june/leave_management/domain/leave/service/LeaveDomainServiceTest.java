@@ -15,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -166,6 +167,54 @@ class LeaveDomainServiceTest {
         verify(leaveRepository).findOverlappingLeaves(TEST_USER_ID, dateRange, TEST_LEAVE_ID_1);
     }
 
+    @Test
+    void shouldNotCheckOverlapsForCancelledLeave() {
+        Leave cancelledLeave = Leave.builder()
+                .userId(TEST_USER_ID)
+                .dateRange(DateRange.builder()
+                        .startDate(LocalDate.now().plusDays(10))
+                        .endDate(LocalDate.now().plusDays(12))
+                        .build())
+                .type(LeaveType.ANNUAL_LEAVE)
+                .status(LeaveStatus.CANCELLED)
+                .build();
+
+        assertDoesNotThrow(() -> leaveDomainService.validateNoOverlappingLeaves(cancelledLeave));
+        verifyNoInteractions(leaveRepository);
+    }
+
+    @Test
+    void shouldIgnoreCancelledCandidatesWhenValidatingAgainstCandidates() {
+        DateRange dateRange = DateRange.builder()
+                .startDate(LocalDate.now().plusDays(10))
+                .endDate(LocalDate.now().plusDays(12))
+                .build();
+        Leave leave = Leave.builder()
+                .userId(TEST_USER_ID)
+                .dateRange(dateRange)
+                .type(LeaveType.ANNUAL_LEAVE)
+                .status(LeaveStatus.APPROVED)
+                .build();
+        Leave cancelledCandidate = Leave.builder()
+                .id(TEST_LEAVE_ID_1)
+                .userId(TEST_USER_ID)
+                .dateRange(dateRange)
+                .type(LeaveType.ANNUAL_LEAVE)
+                .status(LeaveStatus.CANCELLED)
+                .build();
+        Leave approvedCandidate = cancelledCandidate.toBuilder()
+                .id(TEST_LEAVE_ID_2)
+                .status(LeaveStatus.APPROVED)
+                .build();
+
+        assertDoesNotThrow(() -> leaveDomainService.validateNoOverlappingLeaves(leave, List.of(cancelledCandidate)));
+        assertDoesNotThrow(() -> leaveDomainService.validateNoOverlappingLeaves(
+                cancelledCandidate.toBuilder().id(null).build(), List.of(approvedCandidate)));
+        OverlappingLeaveException exception = assertThrows(OverlappingLeaveException.class,
+                () -> leaveDomainService.validateNoOverlappingLeaves(leave, List.of(approvedCandidate)));
+        assertEquals(TEST_LEAVE_ID_2, exception.getExistingLeaveId());
+    }
+
     @Test
     void shouldRejectLeaveWhenNullLeaveIsProvided() {
         IllegalArgumentException exception = assertThrows(
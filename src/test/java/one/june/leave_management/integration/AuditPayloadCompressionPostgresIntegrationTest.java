@@ -0,0 +1,122 @@
+package one.june.leave_management.integration;
+
+import one.june.leave_management.adapter.inbound.web.dto.LeaveIngestionRequest;
+import one.june.leave_management.adapter.persistence.jdbc.AuditLogJdbcRepository;
+import one.june.leave_management.application.audit.service.AuditLogConverter;
+import one.june.leave_management.common.model.DateRange;
+import one.june.leave_management.domain.audit.model.AuditLog;
+import one.june.leave_management.domain.leave.model.LeaveDurationType;
+import one.june.leave_management.domain.leave.model.LeaveStatus;
+import one.june.leave_management.domain.leave.model.LeaveType;
+import one.june.leave_management.domain.leave.model.SourceType;
+import one.june.leave_management.test.util.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static one.june.leave_management.test.util.GzipTestUtils.gunzip;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for gzipped audit bodies in the BYTEA columns added by V10.
+ * The "test" profile stores bodies as text, so compression is switched back on here, with a low threshold so
+ * ordinary request and response bodies are compressed.
+ */
+@PostgresIntegrationTest
+@TestPropertySource(properties = {
+        "audit.payload.compression=GZIP",
+        "audit.payload.compression-min-bytes=64"
+})
+class AuditPayloadCompressionPostgresIntegrationTest {
+
+    private static final LocalDate FIXED_DATE = LocalDate.of(2024, 6, 15);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AuditLogConverter auditLogConverter;
+
+    @Autowired
+    private AuditLogJdbcRepository auditLogJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Map<String, Object> auditRow(String requestId) {
+        return jdbcTemplate.queryForMap("""
+                SELECT request_body, request_body_gzip, response_body, response_body_gzip
+                FROM audit_log
+                WHERE request_id = ?
+                """, requestId);
+    }
+
+    private AuditLog auditLog(String requestId, Object requestBody) {
+        return AuditLog.builder()
+                .requestId(requestId)
+                .endpoint("/api/leaves/ingest/batch")
+                .httpMethod("POST")
+                .requestBody(requestBody)
+                .responseStatus(200)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void auditedRequestShouldStoreGzippedBodiesInTheByteaColumns() {
+        LeaveIngestionRequest request = LeaveIngestionRequest.builder()
+                .sourceType(SourceType.WEB)
+                .sourceId("audit-gzip-1")
+                .userId("audit-user-1")
+                .dateRange(DateRange.builder()
+                        .startDate(FIXED_DATE.plusDays(1))
+                        .endDate(FIXED_DATE.plusDays(3))
+                        .build())
+                .type(LeaveType.ANNUAL_LEAVE)
+                .status(LeaveStatus.REQUESTED)
+                .durationType(LeaveDurationType.FULL_DAY)
+                .build();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBasicAuth("test", "test");
+
+        var response = new RestTemplate().postForEntity("http://localhost:" + port + "/api/leaves/ingest",
+                new HttpEntity<>(request, headers), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        Map<String, Object> row = auditRow(response.getHeaders().getFirst("X-Request-Id"));
+        assertThat(row.get("request_body")).isNull();
+        assertThat(gunzip((byte[]) row.get("request_body_gzip"))).contains("\"sourceId\":\"audit-gzip-1\"");
+        assertThat(row.get("response_body")).isNull();
+        assertThat(gunzip((byte[]) row.get("response_body_gzip"))).contains("\"userId\":\"audit-user-1\"");
+    }
+
+    @Test
+    void batchInsertShouldStoreGzippedAndTextBodies() {
+        String large = "leave-".repeat(100);
+        auditLogJdbcRepository.insertAll(List.of(
+                auditLogConverter.toJpaEntity(auditLog("req-large", Map.of("note", large))),
+                auditLogConverter.toJpaEntity(auditLog("req-small", Map.of("note", "short")))));
+
+        Map<String, Object> compressed = auditRow("req-large");
+        assertThat(compressed.get("request_body")).isNull();
+        assertThat(gunzip((byte[]) compressed.get("request_body_gzip"))).isEqualTo("{\"note\":\"" + large + "\"}");
+        assertThat(((byte[]) compressed.get("request_body_gzip")).length).isLessThan(large.length());
+
+        Map<String, Object> text = auditRow("req-small");
+        assertThat(text.get("request_body")).isEqualTo("{\"note\":\"short\"}");
+        assertThat(text.get("request_body_gzip")).isNull();
+    }
+}
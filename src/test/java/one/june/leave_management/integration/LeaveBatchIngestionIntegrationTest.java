@@ -0,0 +1,228 @@
+package one.june.leave_management.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import one.june.leave_management.adapter.inbound.web.dto.LeaveIngestionRequest;
+import one.june.leave_management.common.model.DateRange;
+import one.june.leave_management.domain.leave.model.LeaveDurationType;
+import one.june.leave_management.domain.leave.model.LeaveStatus;
+import one.june.leave_management.domain.leave.model.LeaveType;
+import one.june.leave_management.domain.leave.model.SourceType;
+import one.june.leave_management.test.util.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests for the batch leave ingestion API.
+ * Uses H2 in-memory database with no mocking.
+ *
+ * Note: transactional=false is required because tests make HTTP requests via RestTemplate,
+ * and the data needs to be committed to the database for the HTTP layer to see it.
+ */
+@IntegrationTest(transactional = false)
+class LeaveBatchIngestionIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String baseUrl;
+    private RestTemplate restTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final LocalDate FIXED_DATE = LocalDate.of(2024, 6, 15);
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port + "/api/leaves";
+        restTemplate = new RestTemplate();
+    }
+
+    private <T> HttpEntity<T> createRequestEntity(T body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBasicAuth("test", "test");
+        return new HttpEntity<>(body, headers);
+    }
+
+    private LeaveIngestionRequest request(String sourceId, String userId, int startOffset, int endOffset) {
+        return LeaveIngestionRequest.builder()
+                .sourceType(SourceType.KIMAI)
+                .sourceId(sourceId)
+                .userId(userId)
+                .dateRange(DateRange.builder()
+                        .startDate(FIXED_DATE.plusDays(startOffset))
+                        .endDate(FIXED_DATE.plusDays(endOffset))
+                        .build())
+                .type(LeaveType.ANNUAL_LEAVE)
+                .status(LeaveStatus.APPROVED)
+                .durationType(LeaveDurationType.FULL_DAY)
+                .build();
+    }
+
+    private JsonNode postBatch(List<LeaveIngestionRequest> requests) throws Exception {
+        var response = restTemplate.postForEntity(baseUrl + "/ingest/batch", createRequestEntity(requests), String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return objectMapper.readTree(response.getBody());
+    }
+
+    private String ndjsonLine(String sourceId, String userId) {
+        return """
+                {"sourceType":"KIMAI","sourceId":"%s","userId":"%s",\
+                "dateRange":{"startDate":"2024-06-16","endDate":"2024-06-17"},\
+                "type":"ANNUAL_LEAVE","status":"APPROVED","durationType":"FULL_DAY"}\
+                """.formatted(sourceId, userId).strip();
+    }
+
+    private int countRows(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    @Test
+    void ingestBatchShouldCreateAllLeaves() throws Exception {
+        List<LeaveIngestionRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            requests.add(request("kimai-" + i, "user-" + i, 1, 2));
+        }
+
+        JsonNode body = postBatch(requests);
+
+        assertThat(body.get("total").asInt()).isEqualTo(60);
+        assertThat(body.get("succeeded").asInt()).isEqualTo(60);
+        assertThat(body.get("failed").asInt()).isZero();
+        assertThat(body.get("results").get(0).get("outcome").asText()).isEqualTo("CREATED");
+        assertThat(body.get("results").get(59).get("index").asInt()).isEqualTo(59);
+        assertThat(body.get("results").get(59).get("leave").get("userId").asText()).isEqualTo("user-59");
+
+        assertThat(countRows("leave")).isEqualTo(60);
+        assertThat(countRows("leave_source_ref")).isEqualTo(60);
+    }
+
+    @Test
+    void ingestBatchShouldUpdateExistingLeaveBySourceReference() throws Exception {
+        postBatch(List.of(request("kimai-1", "user-1", 1, 2)));
+
+        JsonNode body = postBatch(List.of(request("kimai-1", "user-1", 5, 6)));
+
+        JsonNode result = body.get("results").get(0);
+        assertThat(result.get("outcome").asText()).isEqualTo("UPDATED");
+        assertThat(countRows("leave")).isEqualTo(1);
+        LocalDate startDate = jdbcTemplate.queryForObject("SELECT start_date FROM leave", LocalDate.class);
+        assertThat(startDate).isEqualTo(FIXED_DATE.plusDays(5));
+    }
+
+    @Test
+    void ingestBatchShouldReportFailedItemsWithoutFailingTheBatch() throws Exception {
+        postBatch(List.of(request("kimai-existing", "user-1", 10, 12)));
+
+        LeaveIngestionRequest invalid = request("kimai-invalid", null, 1, 2);
+        LeaveIngestionRequest overlapsExisting = request("kimai-overlap-db", "user-1", 11, 11);
+        LeaveIngestionRequest valid = request("kimai-valid", "user-1", 1, 2);
+        LeaveIngestionRequest overlapsBatch = request("kimai-overlap-batch", "user-1", 2, 3);
+
+        JsonNode body = postBatch(List.of(invalid, overlapsExisting, valid, overlapsBatch));
+
+        assertThat(body.get("total").asInt()).isEqualTo(4);
+        assertThat(body.get("succeeded").asInt()).isEqualTo(1);
+        assertThat(body.get("failed").asInt()).isEqualTo(3);
+
+        JsonNode results = body.get("results");
+        assertThat(results.get(0).get("outcome").asText()).isEqualTo("FAILED");
+        assertThat(results.get(0).get("error").asText()).contains("userId");
+        assertThat(results.get(1).get("outcome").asText()).isEqualTo("FAILED");
+        assertThat(results.get(1).get("error").asText()).contains("overlaps");
+        assertThat(results.get(2).get("outcome").asText()).isEqualTo("CREATED");
+        assertThat(results.get(3).get("outcome").asText()).isEqualTo("FAILED");
+        assertThat(results.get(3).get("sourceId").asText()).isEqualTo("kimai-overlap-batch");
+
+        assertThat(countRows("leave")).isEqualTo(2);
+    }
+
+    @Test
+    void ingestBatchShouldRejectBatchesAboveTheMaximumSize() {
+        List<LeaveIngestionRequest> requests = new ArrayList<>();
+        for (int i = 0; i <= 1000; i++) {
+            requests.add(request("kimai-" + i, "user-" + i, 1, 2));
+        }
+
+        HttpClientErrorException exception = assertThrows(HttpClientErrorException.class,
+                () -> restTemplate.postForEntity(baseUrl + "/ingest/batch", createRequestEntity(requests), String.class));
+
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void ingestStreamShouldReturnOneResultPerLine() throws Exception {
+        String body = String.join("\n",
+                ndjsonLine("kimai-1", "user-1"),
+                "",
+                "{not json",
+                ndjsonLine("kimai-2", "user-2")) + "\n";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/x-ndjson"));
+        headers.setBasicAuth("test", "test");
+        var response = restTemplate.postForEntity(baseUrl + "/ingest/stream", new HttpEntity<>(body, headers), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String[] lines = response.getBody().trim().split("\n");
+        assertThat(lines).hasSize(3);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        JsonNode malformed = objectMapper.readTree(lines[1]);
+        JsonNode last = objectMapper.readTree(lines[2]);
+        assertThat(first.get("index").asInt()).isZero();
+        assertThat(first.get("outcome").asText()).isEqualTo("CREATED");
+        assertThat(malformed.get("index").asInt()).isEqualTo(2);
+        assertThat(malformed.get("outcome").asText()).isEqualTo("FAILED");
+        assertThat(last.get("index").asInt()).isEqualTo(3);
+        assertThat(last.get("sourceId").asText()).isEqualTo("kimai-2");
+
+        assertThat(countRows("leave")).isEqualTo(2);
+    }
+
+    @Test
+    void ingestStreamShouldFailLinesAboveTheMaximumLengthAndContinue() throws Exception {
+        String tooLong = "{\"sourceId\":\"" + "x".repeat(70_000) + "\"}";
+        String body = String.join("\r\n",
+                ndjsonLine("kimai-1", "user-1"),
+                tooLong,
+                ndjsonLine("kimai-2", "user-2")) + "\r\n";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/x-ndjson"));
+        headers.setBasicAuth("test", "test");
+        var response = restTemplate.postForEntity(baseUrl + "/ingest/stream", new HttpEntity<>(body, headers), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String[] lines = response.getBody().trim().split("\n");
+        assertThat(lines).hasSize(3);
+
+        JsonNode rejected = objectMapper.readTree(lines[1]);
+        assertThat(rejected.get("index").asInt()).isEqualTo(1);
+        assertThat(rejected.get("outcome").asText()).isEqualTo("FAILED");
+        assertThat(rejected.get("error").asText()).contains("maximum length of 65536 characters");
+        assertThat(objectMapper.readTree(lines[0]).get("outcome").asText()).isEqualTo("CREATED");
+        assertThat(objectMapper.readTree(lines[2]).get("sourceId").asText()).isEqualTo("kimai-2");
+
+        assertThat(countRows("leave")).isEqualTo(2);
+    }
+}
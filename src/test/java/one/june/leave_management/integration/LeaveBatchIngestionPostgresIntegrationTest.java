@@ -0,0 +1,150 @@
+package one.june.leave_management.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import one.june.leave_management.application.leave.command.LeaveIngestionCommand;
+import one.june.leave_management.application.leave.dto.LeaveIngestionOutcome;
+import one.june.leave_management.application.leave.dto.LeaveIngestionResult;
+import one.june.leave_management.application.leave.service.LeaveService;
+import one.june.leave_management.common.model.DateRange;
+import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.LeaveStatus;
+import one.june.leave_management.domain.leave.model.LeaveType;
+import one.june.leave_management.domain.leave.model.SourceType;
+import one.june.leave_management.domain.leave.service.LeaveDomainService;
+import one.june.leave_management.test.util.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doNothing;
+
+/**
+ * Integration tests for batch and streaming ingestion when the database rejects part of a batch write.
+ * <p>
+ * The application-side overlap checks are switched off, as if the overlapping leave had been committed by another
+ * instance after they ran, so only the exclusion constraint of embedded PostgreSQL catches the overlap at flush.
+ */
+@PostgresIntegrationTest
+class LeaveBatchIngestionPostgresIntegrationTest {
+
+    private static final LocalDate FIXED_DATE = LocalDate.of(2024, 6, 15);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private LeaveService leaveService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private LeaveDomainService leaveDomainService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        doNothing().when(leaveDomainService).validateNoOverlappingLeaves(any(Leave.class));
+        doNothing().when(leaveDomainService).validateNoOverlappingLeaves(any(Leave.class), anyCollection());
+    }
+
+    private LeaveIngestionCommand command(String sourceId, String userId, int startOffset, int endOffset) {
+        return LeaveIngestionCommand.builder()
+                .sourceType(SourceType.KIMAI)
+                .sourceId(sourceId)
+                .userId(userId)
+                .dateRange(DateRange.builder()
+                        .startDate(FIXED_DATE.plusDays(startOffset))
+                        .endDate(FIXED_DATE.plusDays(endOffset))
+                        .build())
+                .type(LeaveType.ANNUAL_LEAVE)
+                .status(LeaveStatus.APPROVED)
+                .build();
+    }
+
+    private String ndjsonLine(String sourceId, String userId, String startDate, String endDate) {
+        return """
+                {"sourceType":"KIMAI","sourceId":"%s","userId":"%s",\
+                "dateRange":{"startDate":"%s","endDate":"%s"},\
+                "type":"ANNUAL_LEAVE","status":"APPROVED","durationType":"FULL_DAY"}\
+                """.formatted(sourceId, userId, startDate, endDate).strip();
+    }
+
+    private int countRows(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    @Test
+    void ingestBatchShouldFailOnlyTheItemsRejectedByTheDatabase() {
+        List<LeaveIngestionResult> results = leaveService.ingestBatch(List.of(
+                command("kimai-1", "user-1", 1, 2),
+                command("kimai-2", "user-1", 2, 3),
+                command("kimai-3", "user-2", 1, 2)));
+
+        assertThat(results).extracting(LeaveIngestionResult::getOutcome).containsExactly(
+                LeaveIngestionOutcome.CREATED, LeaveIngestionOutcome.FAILED, LeaveIngestionOutcome.CREATED);
+        assertThat(results).extracting(LeaveIngestionResult::getIndex).containsExactly(0, 1, 2);
+        assertThat(results.get(1).getSourceId()).isEqualTo("kimai-2");
+        assertThat(results.get(1).getError()).contains("overlaps");
+        assertThat(results.get(0).getLeave().getId()).isNotNull();
+
+        assertThat(jdbcTemplate.queryForList("SELECT source_id FROM leave_source_ref ORDER BY source_id", String.class))
+                .containsExactly("kimai-1", "kimai-3");
+        assertThat(countRows("leave")).isEqualTo(2);
+    }
+
+    @Test
+    void ingestBatchShouldReportUpdatesWhenRetryingItemByItem() {
+        leaveService.ingestBatch(List.of(command("kimai-1", "user-1", 1, 2)));
+
+        List<LeaveIngestionResult> results = leaveService.ingestBatch(List.of(
+                command("kimai-1", "user-1", 5, 6),
+                command("kimai-2", "user-1", 6, 7)));
+
+        assertThat(results).extracting(LeaveIngestionResult::getOutcome).containsExactly(
+                LeaveIngestionOutcome.UPDATED, LeaveIngestionOutcome.FAILED);
+        assertThat(jdbcTemplate.queryForObject("SELECT start_date FROM leave", LocalDate.class))
+                .isEqualTo(FIXED_DATE.plusDays(5));
+    }
+
+    @Test
+    void ingestStreamShouldFailOnlyTheLinesRejectedByTheDatabase() throws Exception {
+        String body = String.join("\n",
+                ndjsonLine("kimai-1", "user-1", "2024-06-16", "2024-06-17"),
+                ndjsonLine("kimai-2", "user-1", "2024-06-17", "2024-06-18"),
+                ndjsonLine("kimai-3", "user-2", "2024-06-16", "2024-06-17")) + "\n";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/x-ndjson"));
+        headers.setBasicAuth("test", "test");
+        var response = new RestTemplate().postForEntity("http://localhost:" + port + "/api/leaves/ingest/stream",
+                new HttpEntity<>(body, headers), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String[] lines = response.getBody().trim().split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readTree(lines[0]).get("outcome").asText()).isEqualTo("CREATED");
+        JsonNode rejected = objectMapper.readTree(lines[1]);
+        assertThat(rejected.get("outcome").asText()).isEqualTo("FAILED");
+        assertThat(rejected.get("index").asInt()).isEqualTo(1);
+        assertThat(objectMapper.readTree(lines[2]).get("outcome").asText()).isEqualTo("CREATED");
+
+        assertThat(countRows("leave")).isEqualTo(2);
+    }
+}
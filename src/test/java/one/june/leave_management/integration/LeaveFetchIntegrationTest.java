@@ -1,5 +1,7 @@
 package one.june.leave_management.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import one.june.leave_management.adapter.inbound.web.dto.LeaveIngestionRequest;
 import one.june.leave_management.application.leave.dto.LeaveDto;
 import one.june.leave_management.common.model.DateRange;
@@ -18,11 +20,15 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Integration tests for Leave Fetch API.
@@ -40,6 +46,7 @@ class LeaveFetchIntegrationTest {
     private String baseUrl;
     private RestTemplate restTemplate;
     private HttpHeaders headers;
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
     @BeforeEach
     void setUp() {
@@ -373,4 +380,60 @@ class LeaveFetchIntegrationTest {
         assertThat(response2024.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response2024.getBody()).contains("\"totalElements\":6");
     }
+
+    @Test
+    void fetchLeavesByCursorShouldWalkAllPagesInStartDateOrder() throws Exception {
+        List<String> startDates = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+
+        do {
+            ResponseEntity<String> response = restTemplate.exchange(
+                    baseUrl + "?size=3&cursor=" + cursor,
+                    HttpMethod.GET,
+                    new HttpEntity<>(headers),
+                    String.class
+            );
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).doesNotContain("totalElements");
+
+            JsonNode page = objectMapper.readTree(response.getBody());
+            page.get("content").forEach(leave -> startDates.add(leave.get("dateRange").get("startDate").asText()));
+            cursor = page.has("nextCursor") ? page.get("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(startDates).hasSize(8);
+        assertThat(startDates).isSorted();
+    }
+
+    @Test
+    void fetchLeavesByCursorShouldApplyFilters() throws Exception {
+        ResponseEntity<String> response = restTemplate.exchange(
+                baseUrl + "?cursor=&userId=user2",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode page = objectMapper.readTree(response.getBody());
+        assertThat(page.get("content")).hasSize(2);
+        assertThat(page.get("hasNext").asBoolean()).isFalse();
+        assertThat(page.has("nextCursor")).isFalse();
+    }
+
+    @Test
+    void fetchLeavesByCursorShouldRejectMalformedCursor() {
+        HttpClientErrorException exception = assertThrows(HttpClientErrorException.class,
+                () -> restTemplate.exchange(
+                        baseUrl + "?cursor=not-a-cursor",
+                        HttpMethod.GET,
+                        new HttpEntity<>(headers),
+                        String.class
+                ));
+
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
 }
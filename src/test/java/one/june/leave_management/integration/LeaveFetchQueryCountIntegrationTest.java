@@ -0,0 +1,104 @@
+package one.june.leave_management.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import one.june.leave_management.adapter.inbound.web.dto.LeaveFetchQuery;
+import one.june.leave_management.application.leave.command.LeaveIngestionCommand;
+import one.june.leave_management.application.leave.dto.LeaveDto;
+import one.june.leave_management.application.leave.service.LeaveService;
+import one.june.leave_management.common.model.DateRange;
+import one.june.leave_management.domain.leave.model.LeaveDurationType;
+import one.june.leave_management.domain.leave.model.LeaveStatus;
+import one.june.leave_management.domain.leave.model.LeaveType;
+import one.june.leave_management.domain.leave.model.SourceType;
+import one.june.leave_management.test.util.IntegrationTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards against N+1 loading of source references when fetching leaves.
+ * Counts JDBC statements through Hibernate statistics, so the number of queries per page
+ * must stay constant regardless of the page size. Statistics are only enabled for this test.
+ */
+@IntegrationTest(transactional = false)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class LeaveFetchQueryCountIntegrationTest {
+
+    private static final int LEAVE_COUNT = 60;
+    // ID page + count + leaves with source refs
+    private static final long MAX_STATEMENTS_PER_PAGE = 3;
+
+    @Autowired
+    private LeaveService leaveService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        List<LeaveIngestionCommand> commands = new ArrayList<>();
+        for (int i = 0; i < LEAVE_COUNT; i++) {
+            LocalDate startDate = LocalDate.of(2024, 1, 1).plusDays(i);
+            commands.add(LeaveIngestionCommand.builder()
+                    .sourceType(SourceType.KIMAI)
+                    .sourceId("kimai-" + i)
+                    .userId("user-" + i)
+                    .dateRange(DateRange.builder().startDate(startDate).endDate(startDate).build())
+                    .type(LeaveType.ANNUAL_LEAVE)
+                    .status(LeaveStatus.APPROVED)
+                    .durationType(LeaveDurationType.FULL_DAY)
+                    .build());
+        }
+        leaveService.ingestBatch(commands);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void fetchLeavesShouldUseConstantNumberOfStatementsForSmallPage() {
+        Page<LeaveDto> page = fetch(20);
+
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getContent()).allSatisfy(leave -> assertThat(leave.getSourceRefs()).hasSize(1));
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+    }
+
+    @Test
+    void fetchLeavesShouldUseConstantNumberOfStatementsForLargePage() {
+        Page<LeaveDto> page = fetch(500);
+
+        assertThat(page.getContent()).hasSize(LEAVE_COUNT);
+        assertThat(page.getContent()).allSatisfy(leave -> assertThat(leave.getSourceRefs()).hasSize(1));
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+    }
+
+    @Test
+    void fetchLeavesShouldKeepRequestedSortOrder() {
+        Page<LeaveDto> page = leaveService.fetchLeaves(LeaveFetchQuery.builder().year(2024).build(),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "startDate")));
+
+        assertThat(page.getContent()).extracting(LeaveDto::getStartDate)
+                .isSortedAccordingTo((a, b) -> b.compareTo(a));
+        assertThat(page.getContent().get(0).getUserId()).isEqualTo("user-" + (LEAVE_COUNT - 1));
+    }
+
+    private Page<LeaveDto> fetch(int pageSize) {
+        return leaveService.fetchLeaves(LeaveFetchQuery.builder().year(2024).build(),
+                PageRequest.of(0, pageSize, Sort.by("startDate")));
+    }
+}
@@ -134,6 +134,37 @@ class LeaveIngestionIntegrationTest {
         assertThat(sourceRefs.get(0).get("source_type")).isEqualTo("WEB");
     }
 
+    @Test
+    void ingestLeaveShouldQueueOutboundSyncForEveryOtherSource() {
+        LeaveIngestionRequest request = LeaveIngestionRequest.builder()
+                .sourceType(SourceType.SLACK)
+                .sourceId("slack-outbox")
+                .userId("user-outbox")
+                .dateRange(DateRange.builder()
+                        .startDate(FIXED_DATE.plusDays(1))
+                        .endDate(FIXED_DATE.plusDays(2))
+                        .build())
+                .type(LeaveType.ANNUAL_LEAVE)
+                .status(LeaveStatus.APPROVED)
+                .build();
+
+        var response = restTemplate.postForEntity(baseUrl + "/ingest", createRequestEntity(request), String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        // Outbox rows are committed with the leave; the originating source is not synced back
+        String leaveId = getLeaveFromDatabase("user-outbox", "2024-06-16", "2024-06-17").get("id").toString();
+        List<Map<String, Object>> outboxRows = jdbcTemplate.queryForList(
+                "SELECT target, originating_source, status FROM outbox_event WHERE leave_id = ?", leaveId);
+        assertThat(outboxRows)
+                .extracting(row -> row.get("target"))
+                .containsExactlyInAnyOrder("CALENDAR", "KIMAI");
+        assertThat(outboxRows)
+                .allSatisfy(row -> {
+                    assertThat(row.get("originating_source")).isEqualTo("SLACK");
+                    assertThat(row.get("status")).isEqualTo("PENDING");
+                });
+    }
+
     @Test
     void ingestLeaveShouldUpdateExistingLeaveWhenSourceIdExists() {
         // First request - create a new leave
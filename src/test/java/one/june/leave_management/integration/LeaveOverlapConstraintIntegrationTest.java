@@ -0,0 +1,143 @@
+package one.june.leave_management.integration;
+
+import one.june.leave_management.application.leave.command.LeaveIngestionCommand;
+import one.june.leave_management.application.leave.service.LeaveService;
+import one.june.leave_management.common.exception.OverlappingLeaveException;
+import one.june.leave_management.common.model.DateRange;
+import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.LeaveDurationType;
+import one.june.leave_management.domain.leave.model.LeaveStatus;
+import one.june.leave_management.domain.leave.model.LeaveType;
+import one.june.leave_management.domain.leave.model.SourceType;
+import one.june.leave_management.domain.leave.port.LeaveRepository;
+import one.june.leave_management.test.util.EmbeddedPostgresInitializer;
+import one.june.leave_management.test.util.PostgresIntegrationTest;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests for the leave overlap exclusion constraint (V6) on embedded PostgreSQL:
+ * translation of its violations, the cancelled-leave rule shared with the application checks,
+ * and the pre-check that stops the migration on existing overlaps.
+ */
+@PostgresIntegrationTest
+class LeaveOverlapConstraintIntegrationTest {
+
+    private static final LocalDate FIXED_DATE = LocalDate.of(2024, 6, 15);
+
+    @Autowired
+    private LeaveRepository leaveRepository;
+
+    @Autowired
+    private LeaveService leaveService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private void insertLeave(String userId, int startOffset, int endOffset, LeaveStatus status) {
+        jdbcTemplate.update("""
+                        INSERT INTO leave (id, user_id, start_date, end_date, type, status, duration_type)
+                        VALUES (?, ?, ?, ?, 'ANNUAL_LEAVE', ?, 'FULL_DAY')
+                        """,
+                UUID.randomUUID(), userId, Date.valueOf(FIXED_DATE.plusDays(startOffset)),
+                Date.valueOf(FIXED_DATE.plusDays(endOffset)), status.name());
+    }
+
+    private Leave leave(String userId, int startOffset, int endOffset, LeaveStatus status) {
+        return Leave.builder()
+                .userId(userId)
+                .dateRange(DateRange.builder()
+                        .startDate(FIXED_DATE.plusDays(startOffset))
+                        .endDate(FIXED_DATE.plusDays(endOffset))
+                        .build())
+                .type(LeaveType.ANNUAL_LEAVE)
+                .status(status)
+                .durationType(LeaveDurationType.FULL_DAY)
+                .build();
+    }
+
+    private LeaveIngestionCommand command(String sourceId, String userId, int startOffset, int endOffset) {
+        return LeaveIngestionCommand.builder()
+                .sourceType(SourceType.KIMAI)
+                .sourceId(sourceId)
+                .userId(userId)
+                .dateRange(DateRange.builder()
+                        .startDate(FIXED_DATE.plusDays(startOffset))
+                        .endDate(FIXED_DATE.plusDays(endOffset))
+                        .build())
+                .type(LeaveType.ANNUAL_LEAVE)
+                .status(LeaveStatus.APPROVED)
+                .build();
+    }
+
+    @Test
+    void saveShouldTranslateExclusionViolationToOverlappingLeaveException() {
+        // Written behind the application's back, so only the constraint can catch the overlap
+        insertLeave("user-1", 1, 3, LeaveStatus.APPROVED);
+
+        OverlappingLeaveException exception = assertThrows(OverlappingLeaveException.class,
+                () -> leaveRepository.save(leave("user-1", 3, 4, LeaveStatus.REQUESTED)));
+
+        assertThat(exception.getUserId()).isEqualTo("user-1");
+        assertThat(exception.getStartDate()).isEqualTo(FIXED_DATE.plusDays(3));
+        assertThat(exception.getEndDate()).isEqualTo(FIXED_DATE.plusDays(4));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM leave", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void saveShouldAllowCancelledLeavesToOverlap() {
+        insertLeave("user-1", 1, 3, LeaveStatus.APPROVED);
+
+        leaveRepository.save(leave("user-1", 2, 2, LeaveStatus.CANCELLED));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM leave", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void ingestShouldNotBeBlockedByCancelledLeaves() {
+        insertLeave("user-1", 1, 3, LeaveStatus.CANCELLED);
+
+        leaveService.ingest(command("kimai-1", "user-1", 2, 4));
+        leaveService.ingestBatch(List.of(command("kimai-2", "user-1", 0, 1)));
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM leave WHERE status <> 'CANCELLED'", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void migrationShouldStopWhenNonCancelledLeavesAlreadyOverlap() {
+        String database = "v6_precheck_" + UUID.randomUUID().toString().replace("-", "");
+        jdbcTemplate.execute("CREATE DATABASE " + database);
+        try {
+            String url = EmbeddedPostgresInitializer.jdbcUrl(database);
+            Flyway.configure().dataSource(url, "postgres", "postgres").target("5").load().migrate();
+            JdbcTemplate migrated = new JdbcTemplate(new DriverManagerDataSource(url, "postgres", "postgres"));
+            migrated.update("""
+                    INSERT INTO leave (user_id, start_date, end_date, type, status) VALUES
+                        ('user-1', DATE '2024-06-16', DATE '2024-06-18', 'ANNUAL_LEAVE', 'APPROVED'),
+                        ('user-1', DATE '2024-06-18', DATE '2024-06-19', 'ANNUAL_LEAVE', 'REQUESTED'),
+                        ('user-1', DATE '2024-06-17', DATE '2024-06-17', 'ANNUAL_LEAVE', 'CANCELLED')
+                    """);
+
+            FlywayException exception = assertThrows(FlywayException.class,
+                    () -> Flyway.configure().dataSource(url, "postgres", "postgres").load().migrate());
+
+            assertThat(exception.getMessage())
+                    .contains("Cannot add excl_leave_user_period: 1 pairs of non-cancelled leaves");
+        } finally {
+            jdbcTemplate.execute("DROP DATABASE IF EXISTS " + database + " WITH (FORCE)");
+        }
+    }
+}
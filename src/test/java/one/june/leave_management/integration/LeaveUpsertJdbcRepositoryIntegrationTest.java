@@ -0,0 +1,168 @@
+package one.june.leave_management.integration;
+
+import one.june.leave_management.adapter.persistence.jdbc.LeaveUpsertJdbcRepository;
+import one.june.leave_management.adapter.persistence.jdbc.LeaveUpsertJdbcRepository.UpdatedLeave;
+import one.june.leave_management.common.model.DateRange;
+import one.june.leave_management.domain.leave.model.Leave;
+import one.june.leave_management.domain.leave.model.LeaveDurationType;
+import one.june.leave_management.domain.leave.model.LeaveSourceRef;
+import one.june.leave_management.domain.leave.model.LeaveStatus;
+import one.june.leave_management.domain.leave.model.LeaveType;
+import one.june.leave_management.domain.leave.model.SourceType;
+import one.june.leave_management.test.util.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link LeaveUpsertJdbcRepository}.
+ * The UPDATE ... RETURNING and INSERT ... ON CONFLICT statements are PostgreSQL-only, so these run
+ * against embedded PostgreSQL.
+ */
+@PostgresIntegrationTest
+class LeaveUpsertJdbcRepositoryIntegrationTest {
+
+    private static final LocalDate FIXED_DATE = LocalDate.of(2024, 6, 15);
+
+    @Autowired
+    private LeaveUpsertJdbcRepository leaveUpsertJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID insertLeave(String userId) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                        INSERT INTO leave (id, user_id, start_date, end_date, type, status, duration_type)
+                        VALUES (?, ?, ?, ?, 'ANNUAL_LEAVE', 'APPROVED', 'FULL_DAY')
+                        """,
+                id, userId, Date.valueOf(FIXED_DATE), Date.valueOf(FIXED_DATE.plusDays(1)));
+        return id;
+    }
+
+    private UUID insertSourceRef(UUID leaveId, SourceType sourceType, String sourceId) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO leave_source_ref (id, leave_id, source_type, source_id) VALUES (?, ?, ?, ?)",
+                id, leaveId, sourceType.name(), sourceId);
+        return id;
+    }
+
+    private Leave leave(UUID id, String userId, LeaveSourceRef... sourceRefs) {
+        return Leave.builder()
+                .id(id)
+                .userId(userId)
+                .dateRange(DateRange.builder()
+                        .startDate(FIXED_DATE.plusDays(10))
+                        .endDate(FIXED_DATE.plusDays(12))
+                        .build())
+                .type(LeaveType.OPTIONAL_HOLIDAY)
+                .status(LeaveStatus.REQUESTED)
+                .durationType(LeaveDurationType.FULL_DAY)
+                .sourceRefs(new ArrayList<>(List.of(sourceRefs)))
+                .build();
+    }
+
+    private static LeaveSourceRef sourceRef(SourceType sourceType, String sourceId) {
+        return LeaveSourceRef.builder()
+                .sourceType(sourceType)
+                .sourceId(sourceId)
+                .build();
+    }
+
+    /**
+     * Transaction ID that wrote the current version of a source reference row; unchanged when the row is not updated
+     */
+    private String rowVersion(UUID sourceRefId) {
+        return jdbcTemplate.queryForObject("SELECT xmin::text FROM leave_source_ref WHERE id = ?", String.class,
+                sourceRefId);
+    }
+
+    @Test
+    void updateShouldWriteTheLeaveAndReturnItWithThePreviousUser() {
+        UUID leaveId = insertLeave("user-1");
+
+        Optional<UpdatedLeave> updated = leaveUpsertJdbcRepository.update(leave(leaveId, "user-2"));
+
+        assertThat(updated).isPresent();
+        assertThat(updated.get().previousUserId()).isEqualTo("user-1");
+        Leave leave = updated.get().leave();
+        assertThat(leave.getId()).isEqualTo(leaveId);
+        assertThat(leave.getUserId()).isEqualTo("user-2");
+        assertThat(leave.getStartDate()).isEqualTo(FIXED_DATE.plusDays(10));
+        assertThat(leave.getEndDate()).isEqualTo(FIXED_DATE.plusDays(12));
+        assertThat(leave.getType()).isEqualTo(LeaveType.OPTIONAL_HOLIDAY);
+        assertThat(leave.getStatus()).isEqualTo(LeaveStatus.REQUESTED);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT user_id FROM leave WHERE id = ?", String.class, leaveId))
+                .isEqualTo("user-2");
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM leave WHERE id = ?", String.class, leaveId))
+                .isEqualTo("REQUESTED");
+    }
+
+    @Test
+    void updateShouldReturnEmptyAndWriteNothingWhenTheLeaveDoesNotExist() {
+        Optional<UpdatedLeave> updated = leaveUpsertJdbcRepository.update(
+                leave(UUID.randomUUID(), "user-1", sourceRef(SourceType.KIMAI, "kimai-1")));
+
+        assertThat(updated).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM leave_source_ref", Integer.class)).isZero();
+    }
+
+    @Test
+    void updateShouldInsertNewSourceReferences() {
+        UUID leaveId = insertLeave("user-1");
+
+        leaveUpsertJdbcRepository.update(leave(leaveId, "user-1",
+                sourceRef(SourceType.KIMAI, "kimai-1"), sourceRef(SourceType.CALENDAR, "calendar-1")));
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT source_id FROM leave_source_ref WHERE leave_id = ? ORDER BY source_id", String.class, leaveId))
+                .containsExactly("calendar-1", "kimai-1");
+    }
+
+    @Test
+    void updateShouldNotRewriteSourceReferencesThatAlreadyPointAtTheLeave() {
+        UUID leaveId = insertLeave("user-1");
+        UUID sourceRefId = insertSourceRef(leaveId, SourceType.KIMAI, "kimai-1");
+        String versionBefore = rowVersion(sourceRefId);
+
+        leaveUpsertJdbcRepository.update(leave(leaveId, "user-1", sourceRef(SourceType.KIMAI, "kimai-1")));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM leave_source_ref", Integer.class)).isEqualTo(1);
+        assertThat(rowVersion(sourceRefId)).isEqualTo(versionBefore);
+    }
+
+    @Test
+    void updateShouldRepointSourceReferencesOfAnotherLeaveOnConflict() {
+        UUID otherLeaveId = insertLeave("user-9");
+        UUID sourceRefId = insertSourceRef(otherLeaveId, SourceType.KIMAI, "kimai-1");
+        UUID leaveId = insertLeave("user-1");
+
+        leaveUpsertJdbcRepository.update(leave(leaveId, "user-1", sourceRef(SourceType.KIMAI, "kimai-1")));
+
+        // Same row, re-pointed instead of a second reference being inserted
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM leave_source_ref", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT leave_id FROM leave_source_ref WHERE id = ?", UUID.class,
+                sourceRefId)).isEqualTo(leaveId);
+    }
+
+    @Test
+    void updateShouldKeepSourceReferencesMissingFromTheLeave() {
+        UUID leaveId = insertLeave("user-1");
+        insertSourceRef(leaveId, SourceType.CALENDAR, "calendar-1");
+
+        leaveUpsertJdbcRepository.update(leave(leaveId, "user-1", sourceRef(SourceType.KIMAI, "kimai-1")));
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM leave_source_ref WHERE leave_id = ?", Integer.class, leaveId)).isEqualTo(2);
+    }
+}
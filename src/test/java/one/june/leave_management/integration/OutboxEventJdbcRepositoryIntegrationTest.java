@@ -0,0 +1,190 @@
+package one.june.leave_management.integration;
+
+import one.june.leave_management.adapter.persistence.jdbc.OutboxEventJdbcRepository;
+import one.june.leave_management.adapter.persistence.jdbc.OutboxEventJdbcRepository.ClaimedEvent;
+import one.june.leave_management.adapter.persistence.jpa.repository.OutboxEventJpaRepository;
+import one.june.leave_management.application.leave.command.LeaveIngestionCommand;
+import one.june.leave_management.application.leave.service.LeaveService;
+import one.june.leave_management.common.model.DateRange;
+import one.june.leave_management.domain.leave.model.LeaveStatus;
+import one.june.leave_management.domain.leave.model.LeaveType;
+import one.june.leave_management.domain.leave.model.SourceType;
+import one.june.leave_management.test.util.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * Integration tests for {@link OutboxEventJdbcRepository}, the claim and lease SQL of the outbox dispatcher.
+ * The claim uses UPDATE ... RETURNING and FOR UPDATE SKIP LOCKED, so these run against embedded PostgreSQL.
+ */
+@PostgresIntegrationTest
+class OutboxEventJdbcRepositoryIntegrationTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-15T10:00:00Z");
+    private static final Duration LEASE = Duration.ofMinutes(1);
+
+    @Autowired
+    private OutboxEventJdbcRepository outboxEventJdbcRepository;
+
+    @Autowired
+    private LeaveService leaveService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoSpyBean
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+
+    private UUID insertEvent(Instant nextAttemptAt, String status) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                        INSERT INTO outbox_event (id, leave_id, target, originating_source, status, next_attempt_at)
+                        VALUES (?, ?, 'SLACK', 'KIMAI', ?, ?)
+                        """,
+                id, UUID.randomUUID(), status, Timestamp.from(nextAttemptAt));
+        return id;
+    }
+
+    private LeaveIngestionCommand command(String sourceId) {
+        return LeaveIngestionCommand.builder()
+                .sourceType(SourceType.KIMAI)
+                .sourceId(sourceId)
+                .userId("user-1")
+                .dateRange(DateRange.builder()
+                        .startDate(LocalDate.of(2024, 6, 16))
+                        .endDate(LocalDate.of(2024, 6, 17))
+                        .build())
+                .type(LeaveType.ANNUAL_LEAVE)
+                .status(LeaveStatus.APPROVED)
+                .build();
+    }
+
+    private List<ClaimedEvent> claimAt(Instant now, int limit) {
+        return outboxEventJdbcRepository.claimDue(now, now.plus(LEASE), limit);
+    }
+
+    @Test
+    void claimDueShouldClaimTheEarliestDueRowsUpToTheLimit() {
+        UUID second = insertEvent(NOW.minusSeconds(10), "PENDING");
+        UUID first = insertEvent(NOW.minusSeconds(20), "PENDING");
+        insertEvent(NOW.minusSeconds(5), "PENDING");
+
+        List<ClaimedEvent> claimed = claimAt(NOW, 2);
+
+        assertThat(claimed).extracting(ClaimedEvent::id).containsExactlyInAnyOrder(first, second);
+        assertThat(claimed).allSatisfy(event -> {
+            assertThat(event.attempts()).isEqualTo(1);
+            assertThat(event.target()).isEqualTo(SourceType.SLACK);
+            assertThat(event.originatingSource()).isEqualTo(SourceType.KIMAI);
+        });
+        assertThat(jdbcTemplate.queryForObject("SELECT locked_until FROM outbox_event WHERE id = ?",
+                Instant.class, first)).isEqualTo(NOW.plus(LEASE));
+    }
+
+    @Test
+    void claimDueShouldSkipRowsThatAreNotDueOrDeadLettered() {
+        insertEvent(NOW.plusSeconds(10), "PENDING");
+        insertEvent(NOW.minusSeconds(10), "DEAD");
+
+        assertThat(claimAt(NOW, 10)).isEmpty();
+    }
+
+    @Test
+    void claimDueShouldNotClaimRowsUnderAValidLeaseButTakeOverExpiredLeases() {
+        UUID id = insertEvent(NOW.minusSeconds(10), "PENDING");
+        claimAt(NOW, 10);
+
+        assertThat(claimAt(NOW.plusSeconds(30), 10)).isEmpty();
+
+        List<ClaimedEvent> reclaimed = claimAt(NOW.plus(LEASE).plusSeconds(1), 10);
+        assertThat(reclaimed).extracting(ClaimedEvent::id).containsExactly(id);
+        assertThat(reclaimed.get(0).attempts()).isEqualTo(2);
+    }
+
+    @Test
+    void claimDueShouldSkipRowsLockedByAnotherClaim() {
+        insertEvent(NOW.minusSeconds(20), "PENDING");
+        insertEvent(NOW.minusSeconds(10), "PENDING");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            List<ClaimedEvent> held = claimAt(NOW, 1);
+            assertThat(held).hasSize(1);
+
+            // Another instance polling while the first claim is uncommitted must neither block nor claim its row
+            List<ClaimedEvent> other = CompletableFuture.supplyAsync(() -> claimAt(NOW, 10))
+                    .orTimeout(5, TimeUnit.SECONDS)
+                    .join();
+            assertThat(other).hasSize(1);
+            assertThat(other.get(0).id()).isNotEqualTo(held.get(0).id());
+        });
+    }
+
+    @Test
+    void rescheduleShouldReleaseTheLeaseUntilTheNextAttempt() {
+        UUID id = insertEvent(NOW.minusSeconds(10), "PENDING");
+        claimAt(NOW, 10);
+
+        outboxEventJdbcRepository.reschedule(id, NOW.plusSeconds(30), "target down");
+
+        assertThat(claimAt(NOW.plusSeconds(10), 10)).isEmpty();
+        assertThat(claimAt(NOW.plusSeconds(30), 10)).extracting(ClaimedEvent::id).containsExactly(id);
+        assertThat(jdbcTemplate.queryForObject("SELECT last_error FROM outbox_event WHERE id = ?",
+                String.class, id)).isEqualTo("target down");
+    }
+
+    @Test
+    void deadLetterAndDeleteShouldTakeRowsOutOfTheClaim() {
+        UUID dead = insertEvent(NOW.minusSeconds(10), "PENDING");
+        UUID delivered = insertEvent(NOW.minusSeconds(10), "PENDING");
+        claimAt(NOW, 10);
+
+        outboxEventJdbcRepository.deadLetter(dead, "gave up");
+        outboxEventJdbcRepository.delete(delivered);
+
+        assertThat(claimAt(NOW.plus(LEASE).plusSeconds(1), 10)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM outbox_event WHERE id = ?",
+                String.class, dead)).isEqualTo("DEAD");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void ingestShouldWriteOutboxRowsWithTheLeave() {
+        leaveService.ingest(command("kimai-1"));
+
+        assertThat(jdbcTemplate.queryForList("SELECT target FROM outbox_event", String.class))
+                .containsExactlyInAnyOrder("SLACK", "CALENDAR");
+    }
+
+    @Test
+    void ingestShouldFailAndRollBackWhenTheOutboxWriteFails() {
+        doThrow(new DataAccessResourceFailureException("outbox unavailable"))
+                .when(outboxEventJpaRepository).saveAll(any());
+
+        assertThrows(DataAccessResourceFailureException.class, () -> leaveService.ingest(command("kimai-1")));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM leave", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event", Integer.class)).isZero();
+    }
+}
@@ -0,0 +1,178 @@
+package one.june.leave_management.integration;
+
+import one.june.leave_management.adapter.inbound.slack.SlackLeaveOrchestrator;
+import one.june.leave_management.adapter.inbound.slack.SlackRetryDeduplicator;
+import one.june.leave_management.adapter.persistence.jdbc.SlackRequestDedupJdbcRepository;
+import one.june.leave_management.test.util.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Integration tests for Slack request deduplication in the database store.
+ * The claim is a PostgreSQL upsert, so these run against embedded PostgreSQL.
+ */
+@PostgresIntegrationTest
+@TestPropertySource(properties = "slack.idempotency.store=JDBC")
+class SlackRequestDedupPostgresIntegrationTest {
+
+    // Test signing secret - must match the one in application-test.properties
+    private static final String TEST_SIGNING_SECRET = "test-signing-secret";
+
+    private static final Instant NOW = Instant.parse("2024-06-15T10:00:00Z");
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SlackRequestDedupJdbcRepository dedupJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private SlackLeaveOrchestrator slackLeaveOrchestrator;
+
+    private boolean claimAt(String requestKey, Instant now) {
+        return dedupJdbcRepository.claim(requestKey, now, now.minus(TTL));
+    }
+
+    private int countRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM slack_request_dedup", Integer.class);
+    }
+
+    private HttpEntity<String> viewClosedRequest(String viewId, String retryNum) {
+        String jsonPayload = """
+                {"type":"view_closed","user":{"id":"U12345"},"view":{"id":"%s","callback_id":"leave_application_submit"}}
+                """.formatted(viewId).strip();
+        String formPayload = "payload=" + URLEncoder.encode(jsonPayload, StandardCharsets.UTF_8);
+        String timestamp = String.valueOf(Instant.now().getEpochSecond());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        headers.set("X-Slack-Signature", generateSignature(timestamp, formPayload));
+        headers.set("X-Slack-Request-Timestamp", timestamp);
+        if (retryNum != null) {
+            headers.set(SlackRetryDeduplicator.RETRY_NUM_HEADER, retryNum);
+            headers.set(SlackRetryDeduplicator.RETRY_REASON_HEADER, "http_error");
+        }
+        return new HttpEntity<>(formPayload, headers);
+    }
+
+    /**
+     * Generates a valid Slack signature for testing
+     */
+    private String generateSignature(String timestamp, String requestBody) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(TEST_SIGNING_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] hash = mac.doFinal(("v0:" + timestamp + ":" + requestBody).getBytes(StandardCharsets.UTF_8));
+            return "v0=" + HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new RuntimeException("Failed to generate signature", e);
+        }
+    }
+
+    @Test
+    void claimShouldSucceedOnlyOnceWithinTheTtl() {
+        assertThat(claimAt("command:trigger-1", NOW)).isTrue();
+        assertThat(claimAt("command:trigger-1", NOW.plusSeconds(30))).isFalse();
+        assertThat(claimAt("command:trigger-2", NOW.plusSeconds(30))).isTrue();
+
+        assertThat(countRows()).isEqualTo(2);
+    }
+
+    @Test
+    void claimShouldTakeOverAnExpiredClaim() {
+        claimAt("command:trigger-1", NOW);
+
+        assertThat(claimAt("command:trigger-1", NOW.plus(TTL).plusSeconds(1))).isTrue();
+
+        assertThat(countRows()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT received_at FROM slack_request_dedup", Instant.class))
+                .isEqualTo(NOW.plus(TTL).plusSeconds(1));
+    }
+
+    @Test
+    void releaseShouldMakeTheKeyClaimableAgain() {
+        claimAt("command:trigger-1", NOW);
+
+        dedupJdbcRepository.release("command:trigger-1");
+
+        assertThat(countRows()).isZero();
+        assertThat(claimAt("command:trigger-1", NOW.plusSeconds(30))).isTrue();
+    }
+
+    @Test
+    void purgeExpiredShouldDeleteOnlyExpiredClaims() {
+        claimAt("command:trigger-1", NOW);
+        claimAt("command:trigger-2", NOW.plus(TTL));
+
+        int purged = dedupJdbcRepository.purgeExpired(NOW.plusSeconds(1));
+
+        assertThat(purged).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT request_key FROM slack_request_dedup", String.class))
+                .containsExactly("command:trigger-2");
+    }
+
+    @Test
+    void retryOfAFailedInteractionShouldBeProcessed() {
+        doThrow(new IllegalStateException("Handler failed"))
+                .doNothing()
+                .when(slackLeaveOrchestrator).handleViewClosed(any());
+        RestTemplate restTemplate = new RestTemplate();
+        String url = "http://localhost:" + port + "/integrations/slack/interactions";
+
+        assertThrows(HttpServerErrorException.class,
+                () -> restTemplate.postForEntity(url, viewClosedRequest("V-failed", null), String.class));
+        assertThat(countRows()).isZero();
+
+        var retry = restTemplate.postForEntity(url, viewClosedRequest("V-failed", "1"), String.class);
+
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(slackLeaveOrchestrator, times(2)).handleViewClosed(any());
+        assertThat(jdbcTemplate.queryForList("SELECT request_key FROM slack_request_dedup", String.class))
+                .containsExactly("view_closed:V-failed");
+    }
+
+    @Test
+    void retryOfAnAcceptedInteractionShouldOnlyBeAcked() {
+        doNothing().when(slackLeaveOrchestrator).handleViewClosed(any());
+        RestTemplate restTemplate = new RestTemplate();
+        String url = "http://localhost:" + port + "/integrations/slack/interactions";
+
+        restTemplate.postForEntity(url, viewClosedRequest("V-accepted", null), String.class);
+        var retry = restTemplate.postForEntity(url, viewClosedRequest("V-accepted", "1"), String.class);
+
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(slackLeaveOrchestrator, times(1)).handleViewClosed(any());
+    }
+}
@@ -0,0 +1,62 @@
+package one.june.leave_management.test.util;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Points the application context at an embedded PostgreSQL whose schema is created by the Flyway migrations.
+ *
+ * <p>One server is started per test JVM and shared by every context that uses this initializer;
+ * it is stopped when the JVM exits. The properties override the H2 settings of the "test" profile.
+ */
+public class EmbeddedPostgresInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    private static EmbeddedPostgres postgres;
+
+    @Override
+    public void initialize(ConfigurableApplicationContext applicationContext) {
+        EmbeddedPostgres server = server();
+        TestPropertyValues.of(
+                "spring.datasource.url=" + server.getJdbcUrl("postgres", "postgres"),
+                "spring.datasource.username=postgres",
+                "spring.datasource.password=postgres",
+                "spring.datasource.driver-class-name=org.postgresql.Driver",
+                "spring.jpa.hibernate.ddl-auto=none",
+                "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+                "spring.flyway.enabled=true"
+        ).applyTo(applicationContext.getEnvironment());
+    }
+
+    /**
+     * JDBC URL of a database on the shared embedded PostgreSQL, e.g. one created by a test to run migrations on.
+     *
+     * @param databaseName the database name
+     * @return the JDBC URL, logging in as user postgres
+     */
+    public static String jdbcUrl(String databaseName) {
+        return server().getJdbcUrl("postgres", databaseName);
+    }
+
+    private static synchronized EmbeddedPostgres server() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.builder().start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to start embedded PostgreSQL", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    postgres.close();
+                } catch (IOException e) {
+                    // The JVM is exiting; the server's temporary directory is removed either way
+                }
+            }, "embedded-postgres-shutdown"));
+        }
+        return postgres;
+    }
+}
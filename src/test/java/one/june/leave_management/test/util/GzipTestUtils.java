@@ -0,0 +1,34 @@
+package one.june.leave_management.test.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads back gzipped audit bodies (see AuditPayloadPolicy) in tests.
+ */
+public final class GzipTestUtils {
+
+    private GzipTestUtils() {
+    }
+
+    /**
+     * Read a gzipped body back as text.
+     *
+     * @param gzip the stored gzipped body
+     * @return the body text, or null
+     */
+    public static String gunzip(byte[] gzip) {
+        if (gzip == null) {
+            return null;
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress audit body", e);
+        }
+    }
+}
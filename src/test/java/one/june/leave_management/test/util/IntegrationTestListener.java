@@ -24,6 +24,7 @@ import java.sql.Statement;
  *   <li>leave_source_ref (has foreign key to leave)</li>
  *   <li>leave (has no dependent tables)</li>
  *   <li>audit_log (independent table)</li>
+ *   <li>outbox_event (independent table)</li>
  * </ol>
  */
 @Slf4j
@@ -82,6 +83,10 @@ public class IntegrationTestListener extends AbstractTestExecutionListener {
                 statement.execute("DELETE FROM audit_log");
                 log.debug("Deleted all data from audit_log table");
 
+                // outbox_event (independent table)
+                statement.execute("DELETE FROM outbox_event");
+                log.debug("Deleted all data from outbox_event table");
+
                 // Re-enable foreign key constraint checks
                 statement.execute("SET REFERENTIAL_INTEGRITY TRUE");
 
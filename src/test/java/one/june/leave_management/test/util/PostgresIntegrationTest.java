@@ -0,0 +1,45 @@
+package one.june.leave_management.test.util;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for integration tests that need PostgreSQL itself rather than H2, e.g. for native SQL,
+ * exclusion constraints, row locks or {@code SKIP LOCKED}.
+ *
+ * <p>Features:
+ * <ul>
+ *   <li>Sets up Spring Boot test context with random web environment and the "test" profile</li>
+ *   <li>Runs against an embedded PostgreSQL migrated by Flyway (see {@link EmbeddedPostgresInitializer})</li>
+ *   <li>Truncates every application table after each test method</li>
+ * </ul>
+ *
+ * <p>Tests are not transactional: what they check usually only happens on flush or commit,
+ * or needs several transactions.
+ *
+ * <p>Usage example:
+ * <pre>
+ * {@code
+ * @PostgresIntegrationTest
+ * class MyPostgresIntegrationTest {
+ *     // Test methods - tables are truncated automatically
+ * }
+ * }
+ * </pre>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = EmbeddedPostgresInitializer.class)
+@TestExecutionListeners(listeners = PostgresIntegrationTestListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+public @interface PostgresIntegrationTest {
+}
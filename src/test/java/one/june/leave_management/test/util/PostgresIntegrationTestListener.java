@@ -0,0 +1,36 @@
+package one.june.leave_management.test.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * Test execution listener for {@link PostgresIntegrationTest}.
+ *
+ * <p>Truncates every application table after each test method, so tests sharing the embedded
+ * PostgreSQL start from empty tables. The Flyway schema history is kept.
+ */
+@Slf4j
+public class PostgresIntegrationTestListener extends AbstractTestExecutionListener {
+
+    private static final String TRUNCATE_SQL =
+            "TRUNCATE TABLE leave_source_ref, leave, audit_log, outbox_event, slack_request_dedup";
+
+    @Override
+    public void afterTestMethod(TestContext testContext) throws Exception {
+        if (testContext.getTestClass().getAnnotation(PostgresIntegrationTest.class) == null) {
+            return;
+        }
+
+        DataSource dataSource = testContext.getApplicationContext().getBean(DataSource.class);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(TRUNCATE_SQL);
+            log.debug("Truncated all application tables");
+        }
+    }
+}